@@ -0,0 +1,63 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.Task;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.model.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static User user() {
+        LocalDateTime now = LocalDateTime.now();
+        return User.builder()
+                .id(1L)
+                .cognitoSub("benchmark-user")
+                .email("benchmark-user@example.com")
+                .name("Benchmark User")
+                .role(UserRole.USER)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    static Project project(int taskCount) {
+        LocalDateTime now = LocalDateTime.now();
+        Project project = Project.builder()
+                .id(1L)
+                .name("Benchmark Project")
+                .description("Project used by the response benchmarks")
+                .owner(user())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        for (int i = 0; i < taskCount; i++) {
+            project.addTask(task(i + 1L));
+        }
+        return project;
+    }
+
+    static List<Task> tasks(int count) {
+        return new ArrayList<>(project(count).getTasks());
+    }
+
+    private static Task task(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        TaskStatus[] statuses = TaskStatus.values();
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .description("Description of task " + id + " with a realistic amount of text for a list view")
+                .status(statuses[(int) (id % statuses.length)])
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
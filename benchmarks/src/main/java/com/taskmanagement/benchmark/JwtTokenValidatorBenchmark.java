@@ -0,0 +1,27 @@
+package com.taskmanagement.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.taskmanagement.security.JwtTokenValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class JwtTokenValidatorBenchmark {
+
+    private JwtTokenValidator validator;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        TokenFixture fixture = new TokenFixture();
+        validator = fixture.validator();
+        token = fixture.mint("benchmark-user", "USER");
+    }
+
+    @Benchmark
+    public DecodedJWT validateToken() throws Exception {
+        return validator.validateToken(token);
+    }
+}
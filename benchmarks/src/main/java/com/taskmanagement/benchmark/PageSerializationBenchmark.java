@@ -0,0 +1,60 @@
+package com.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.model.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"80", "4000"})
+    private int descriptionLength;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<TaskResponse> fullPage;
+    private PageResponse<TaskResponse> summaryPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Task> tasks = Fixtures.tasks(PAGE_SIZE);
+        tasks.forEach(task -> task.setDescription("lorem ipsum ".repeat(descriptionLength / 12 + 1)
+                .substring(0, descriptionLength)));
+        fullPage = page(tasks, TaskResponse::fromEntity);
+        summaryPage = page(tasks, TaskResponse::summaryOf);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    private static PageResponse<TaskResponse> page(List<Task> tasks, Function<Task, TaskResponse> mapper) {
+        return PageResponse.<TaskResponse>builder()
+                .content(tasks.stream().map(mapper).toList())
+                .pageNumber(0)
+                .pageSize(PAGE_SIZE)
+                .totalElements(1000)
+                .totalPages(10)
+                .first(true)
+                .build();
+    }
+}
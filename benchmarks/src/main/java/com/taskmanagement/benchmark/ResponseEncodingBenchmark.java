@@ -0,0 +1,73 @@
+package com.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.taskmanagement.config.WebMvcConfig;
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Encodes and decodes the same 100-item task page with each negotiated format, using the
+ * mapper settings of the corresponding HTTP message converter (ISO timestamps for JSON, as the
+ * application is configured). The encoded size per format is
+ * printed once per fork.
+ */
+@State(Scope.Benchmark)
+public class ResponseEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final TypeReference<PageResponse<TaskResponse>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<TaskResponse> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            case "cbor" -> WebMvcConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+            case "smile" -> WebMvcConfig.binaryObjectMapper(Jackson2ObjectMapperBuilder.json(), SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+
+        page = PageResponse.<TaskResponse>builder()
+                .content(Fixtures.tasks(PAGE_SIZE).stream().map(TaskResponse::summaryOf).toList())
+                .pageNumber(0)
+                .pageSize(PAGE_SIZE)
+                .totalElements(1000)
+                .totalPages(10)
+                .first(true)
+                .build();
+        encoded = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%n%s page: %d bytes%n", format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> decodePage() throws Exception {
+        return objectMapper.readValue(encoded, PAGE_TYPE);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private Project project;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        project = Fixtures.project(20);
+        task = project.getTasks().get(0);
+    }
+
+    @Benchmark
+    public TaskResponse taskFromEntity() {
+        return TaskResponse.fromEntity(task);
+    }
+
+    @Benchmark
+    public ProjectResponse projectFromEntity() {
+        return ProjectResponse.fromEntity(project);
+    }
+}
@@ -0,0 +1,216 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.util.FractionalRank;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replays {@code updateTaskStatus} writes against the tasks schema at a baseline migration and at
+ * the latest one, each in its own scratch schema on a real PostgreSQL server, and reports
+ * throughput, the share of heap-only tuple updates and how much the table and its indexes grew.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.taskmanagement.benchmark.StatusUpdateBloatBenchmark \
+ *     --url=jdbc:postgresql://localhost:5432/task_management_dev --username=... --password=...
+ * </pre>
+ *
+ * Optional: {@code --baseline=9 --tasks=50000 --updates=200000 --threads=4}. The scratch schemas are
+ * dropped afterwards.
+ */
+public final class StatusUpdateBloatBenchmark {
+
+    private static final String[] STATUS_NAMES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    private StatusUpdateBloatBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        if (!options.containsKey("url")) {
+            throw new IllegalArgumentException("--url=jdbc:postgresql://... is required");
+        }
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                options.get("url"), options.getOrDefault("username", ""), options.getOrDefault("password", ""));
+        int tasks = Integer.parseInt(options.getOrDefault("tasks", "50000"));
+        int updates = Integer.parseInt(options.getOrDefault("updates", "200000"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "4"));
+        MigrationVersion baseline = MigrationVersion.fromVersion(options.getOrDefault("baseline", "9"));
+
+        List<Result> results = List.of(
+                run(dataSource, "bloat_before", baseline, tasks, updates, threads),
+                run(dataSource, "bloat_after", MigrationVersion.LATEST, tasks, updates, threads));
+
+        System.out.printf("%n%-14s %8s %12s %8s %14s %14s %14s %14s%n",
+                "schema", "indexes", "updates/s", "hot %", "heap before", "heap after", "index before", "index after");
+        for (Result result : results) {
+            System.out.printf("%-14s %8d %12.0f %7.1f%% %14s %14s %14s %14s%n",
+                    result.schema, result.indexes, result.updatesPerSecond, result.hotPercent,
+                    megabytes(result.heapBefore), megabytes(result.heapAfter),
+                    megabytes(result.indexesBefore), megabytes(result.indexesAfter));
+        }
+    }
+
+    private static Result run(DriverManagerDataSource dataSource, String schema, MigrationVersion target,
+                              int tasks, int updates, int threads) throws Exception {
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .target(target)
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        try {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            boolean codes = "smallint".equals(jdbc.queryForObject("SELECT data_type FROM information_schema.columns "
+                    + "WHERE table_schema = ? AND table_name = 'tasks' AND column_name = 'status'", String.class, schema));
+            boolean ranked = jdbc.queryForObject("SELECT count(*) FROM information_schema.columns "
+                    + "WHERE table_schema = ? AND table_name = 'tasks' AND column_name = 'rank'", Integer.class, schema) > 0;
+            String table = schema + ".tasks";
+
+            jdbc.update("INSERT INTO " + schema + ".users (cognito_sub, email) "
+                    + "SELECT 'bloat-' || u, 'bloat-' || u || '@example.com' FROM generate_series(1, 100) u");
+            jdbc.update("INSERT INTO " + schema + ".projects (owner_id, name) "
+                    + "SELECT u.id, 'Project ' || p FROM " + schema + ".users u, generate_series(1, 10) p");
+            jdbc.update("INSERT INTO " + table + " (project_id, owner_id, title, status, " + (ranked ? "rank, " : "")
+                    + "created_at, updated_at) "
+                    + "SELECT p.id, p.owner_id, 'Task ' || t, " + (codes ? "t % 3" : "(ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[t % 3 + 1]") + ", " + (ranked ? "'V' || t, " : "")
+                    + "now(), now() "
+                    + "FROM " + schema + ".projects p, generate_series(1, ?) t", Math.max(1, tasks / 1000));
+            jdbc.execute("VACUUM ANALYZE " + table);
+
+            long[] ids = jdbc.queryForList("SELECT id FROM " + table, Long.class).stream().mapToLong(Long::longValue).toArray();
+            long heapBefore = size(jdbc, "pg_table_size", table);
+            long indexesBefore = size(jdbc, "pg_indexes_size", table);
+            long[] statsBefore = updateStats(jdbc, schema);
+
+            int indexes = jdbc.queryForObject("SELECT count(*) FROM pg_indexes WHERE schemaname = ? AND tablename = 'tasks'",
+                    Integer.class, schema);
+
+            long elapsed = replayStatusUpdates(dataSource, table, codes, ranked, ids, updates, threads);
+
+            Thread.sleep(1000);
+            long[] statsAfter = updateStats(jdbc, schema);
+            long updated = statsAfter[0] - statsBefore[0];
+            long hot = statsAfter[1] - statsBefore[1];
+
+            return new Result(schema, indexes, updates / (elapsed / 1e9), updated > 0 ? 100.0 * hot / updated : 0,
+                    heapBefore, size(jdbc, "pg_table_size", table),
+                    indexesBefore, size(jdbc, "pg_indexes_size", table));
+        } finally {
+            flyway.clean();
+        }
+    }
+
+    /*
+     * Mirrors TaskService.updateTaskStatus: load the task, take the key after the last one in the
+     * target column (TaskRankService.rankAtEnd), then the @DynamicUpdate UPDATE of the changed columns
+     * only. A request for the task's current status writes nothing, so the target always differs.
+     */
+    private static long replayStatusUpdates(DriverManagerDataSource dataSource, String table, boolean codes,
+                                            boolean ranked, long[] ids, int updates, int threads) throws Exception {
+        String load = "SELECT project_id, status FROM " + table + " WHERE id = ?";
+        String lastRank = "SELECT rank FROM " + table + " WHERE project_id = ? AND status = ? ORDER BY rank DESC, id DESC LIMIT 1";
+        String update = ranked
+                ? "UPDATE " + table + " SET rank = ?, status = ?, updated_at = ? WHERE id = ?"
+                : "UPDATE " + table + " SET status = ?, updated_at = ? WHERE id = ?";
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int w = 0; w < threads; w++) {
+            int share = updates / threads + (w < updates % threads ? 1 : 0);
+            workers.add(executor.submit(() -> {
+                try (Connection connection = dataSource.getConnection();
+                     PreparedStatement loadStatement = connection.prepareStatement(load);
+                     PreparedStatement lastRankStatement = connection.prepareStatement(lastRank);
+                     PreparedStatement updateStatement = connection.prepareStatement(update)) {
+                    connection.setAutoCommit(false);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < share; i++) {
+                        long id = ids[random.nextInt(ids.length)];
+                        loadStatement.setLong(1, id);
+                        long projectId;
+                        int current;
+                        try (ResultSet task = loadStatement.executeQuery()) {
+                            task.next();
+                            projectId = task.getLong(1);
+                            current = codes ? task.getShort(2) : Arrays.asList(STATUS_NAMES).indexOf(task.getString(2));
+                        }
+                        int status = (current + 1 + random.nextInt(STATUS_NAMES.length - 1)) % STATUS_NAMES.length;
+
+                        int parameter = 1;
+                        if (ranked) {
+                            lastRankStatement.setLong(1, projectId);
+                            lastRankStatement.setShort(2, (short) status);
+                            String last;
+                            try (ResultSet rank = lastRankStatement.executeQuery()) {
+                                last = rank.next() ? rank.getString(1) : null;
+                            }
+                            updateStatement.setString(parameter++, FractionalRank.between(last, null));
+                        }
+                        if (codes) {
+                            updateStatement.setShort(parameter++, (short) status);
+                        } else {
+                            updateStatement.setString(parameter++, STATUS_NAMES[status]);
+                        }
+                        updateStatement.setTimestamp(parameter++, new Timestamp(System.currentTimeMillis()));
+                        updateStatement.setLong(parameter, id);
+                        updateStatement.executeUpdate();
+                        connection.commit();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private static long[] updateStats(JdbcTemplate jdbc, String schema) {
+        jdbc.execute("SELECT pg_stat_clear_snapshot()");
+        return jdbc.queryForObject("SELECT n_tup_upd, n_tup_hot_upd FROM pg_stat_user_tables "
+                        + "WHERE schemaname = ? AND relname = 'tasks'",
+                (rs, row) -> new long[]{rs.getLong(1), rs.getLong(2)}, schema);
+    }
+
+    private static long size(JdbcTemplate jdbc, String function, String table) {
+        return jdbc.queryForObject("SELECT " + function + "(?::regclass)", Long.class, table);
+    }
+
+    private static String megabytes(long bytes) {
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    private record Result(String schema, int indexes, double updatesPerSecond, double hotPercent,
+                          long heapBefore, long heapAfter, long indexesBefore, long indexesAfter) {
+    }
+}
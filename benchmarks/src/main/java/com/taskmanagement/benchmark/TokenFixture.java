@@ -0,0 +1,79 @@
+package com.taskmanagement.benchmark;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.JwkProvider;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.taskmanagement.security.JwtTokenValidator;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Locally generated RSA key standing in for the Cognito user pool, so tokens can be minted and
+ * verified without network access.
+ */
+class TokenFixture {
+
+    static final String ISSUER = "https://cognito-idp.local.amazonaws.com/benchmark-pool";
+    static final String KEY_ID = "benchmark-key";
+
+    private final RSAPublicKey publicKey;
+    private final RSAPrivateKey privateKey;
+    private final Jwk jwk;
+
+    TokenFixture() {
+        KeyPair keyPair = generateKeyPair();
+        this.publicKey = (RSAPublicKey) keyPair.getPublic();
+        this.privateKey = (RSAPrivateKey) keyPair.getPrivate();
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        this.jwk = Jwk.fromValues(Map.of(
+                "kid", KEY_ID,
+                "kty", "RSA",
+                "alg", "RS256",
+                "use", "sig",
+                "n", encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                "e", encoder.encodeToString(publicKey.getPublicExponent().toByteArray())));
+    }
+
+    JwkProvider jwkProvider() {
+        return keyId -> jwk;
+    }
+
+    JwtTokenValidator validator() {
+        return new JwtTokenValidator(ISSUER, jwkProvider());
+    }
+
+    String mint(String subject, String role) {
+        Instant now = Instant.now();
+        return JWT.create()
+                .withKeyId(KEY_ID)
+                .withIssuer(ISSUER)
+                .withSubject(subject)
+                .withClaim("email", subject + "@example.com")
+                .withClaim("name", "Benchmark User")
+                .withClaim("custom:role", role)
+                .withClaim("token_use", "id")
+                .withIssuedAt(now)
+                .withExpiresAt(now.plus(Duration.ofHours(1)))
+                .sign(Algorithm.RSA256(publicKey, privateKey));
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
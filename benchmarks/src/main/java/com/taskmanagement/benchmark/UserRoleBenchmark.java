@@ -0,0 +1,19 @@
+package com.taskmanagement.benchmark;
+
+import com.taskmanagement.model.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class UserRoleBenchmark {
+
+    @Param({"USER", "ROLE_ADMIN", "admin", "unknown"})
+    public String role;
+
+    @Benchmark
+    public UserRole fromString() {
+        return UserRole.fromString(role);
+    }
+}
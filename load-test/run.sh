@@ -0,0 +1,10 @@
+#!/usr/bin/env sh
+# Builds the application and runs the load test against it.
+# Arguments are passed to the harness, e.g. ./load-test/run.sh --rate=300 --duration=60s
+set -e
+cd "$(dirname "$0")/.."
+mvn -q -B install -DskipTests
+case " $* " in
+  *" --runtime=reactive "*|*" --runtime=REACTIVE "*) mvn -q -B -f reactive-api/pom.xml package -DskipTests ;;
+esac
+mvn -q -B -f load-test/pom.xml compile exec:exec -Dload.args="$*"
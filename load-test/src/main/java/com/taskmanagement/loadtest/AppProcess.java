@@ -0,0 +1,116 @@
+package com.taskmanagement.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the servlet application, or the reactive API's jar, in its own JVM on an in-memory H2
+ * database (unless datasource arguments are passed through), trusting tokens from the given
+ * {@link JwtIssuer}.
+ */
+class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final URI baseUri;
+    private final File log;
+
+    private AppProcess(Process process, URI baseUri, File log) {
+        this.process = process;
+        this.baseUri = baseUri;
+        this.log = log;
+    }
+
+    static AppProcess start(LoadTestOptions options, JwtIssuer issuer) throws IOException, InterruptedException {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", String.valueOf(options.getPort()));
+        properties.put("management.server.port", String.valueOf(options.getPort()));
+        properties.put("aws.cognito.issuer-uri", issuer.issuerUri());
+        properties.put("aws.cognito.jwks-uri", issuer.jwksUri());
+        properties.put("logging.file.name", "");
+        properties.put("logging.level.com.taskmanagement", "WARN");
+
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<String> command = new ArrayList<>(List.of(java, "-Xmx" + options.getAppHeap()));
+        if (options.getRuntime() == LoadTestOptions.AppRuntime.REACTIVE) {
+            File jar = new File(options.getReactiveJar());
+            if (!jar.isFile()) {
+                throw new IllegalStateException("Reactive API jar not found at " + jar.getAbsolutePath()
+                        + ", build it with mvn -f reactive-api/pom.xml package");
+            }
+            properties.put("spring.r2dbc.url", "r2dbc:h2:mem:///loadtest?options=MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+            properties.put("spring.r2dbc.username", "sa");
+            properties.put("spring.r2dbc.password", "");
+            command.addAll(List.of("-jar", jar.getAbsolutePath()));
+        } else {
+            properties.put("spring.profiles.active", "loadtest");
+            properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create");
+            properties.put("spring.flyway.enabled", "false");
+            properties.put("app.outbox.enabled", "false");
+            properties.put("logging.level.org.hibernate.SQL", "WARN");
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), "com.taskmanagement.TaskManagementApplication"));
+        }
+        properties.putAll(options.getAppProperties());
+        properties.forEach((name, value) -> command.add("--" + name + "=" + value));
+
+        File log = new File("target/app.log");
+        log.getParentFile().mkdirs();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+
+        AppProcess app = new AppProcess(process, URI.create("http://127.0.0.1:" + options.getPort()), log);
+        app.awaitHealthy();
+        return app;
+    }
+
+    URI baseUri() {
+        return baseUri;
+    }
+
+    long pid() {
+        return process.pid();
+    }
+
+    private void awaitHealthy() throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).build();
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup, see " + log.getAbsolutePath());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        close();
+        throw new IllegalStateException("Application did not become healthy within " + STARTUP_TIMEOUT + ", see " + log.getAbsolutePath());
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskmanagement.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds a fixed number of connections open, each with one task list request outstanding at all
+ * times (a closed workload model), and samples the application's resident memory and thread count
+ * from /proc while it does. This shows what each held connection costs the server, which is where
+ * the servlet and reactive runtimes differ most.
+ */
+class ConnectionsDriver {
+
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(200);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final List<SyntheticUser> users;
+    private final LoadTestOptions options;
+    private final long pid;
+
+    private final Recorder latencies = new Recorder(3);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean running;
+    private volatile boolean recording;
+
+    ConnectionsDriver(HttpClient client, URI baseUri, List<SyntheticUser> users, LoadTestOptions options, long pid) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.users = users;
+        this.options = options;
+        this.pid = pid;
+    }
+
+    ConnectionsReport run() throws InterruptedException {
+        ProcessStatus baseline = ProcessStatus.read(pid);
+        ProcessStatus peak = baseline;
+
+        System.out.printf("Opening %d connections, warming up for %ss%n", options.getConnections(), options.getWarmup().toSeconds());
+        running = true;
+        for (int i = 0; i < options.getConnections(); i++) {
+            send();
+        }
+        peak = sample(options.getWarmup(), peak);
+        latencies.reset();
+        errors.set(0);
+
+        System.out.printf("Measuring for %ss%n", options.getDuration().toSeconds());
+        recording = true;
+        long started = System.nanoTime();
+        peak = sample(options.getDuration(), peak);
+        long elapsed = System.nanoTime() - started;
+        recording = false;
+        running = false;
+        awaitInFlight();
+
+        return new ConnectionsReport(options.getRuntime(), options.getConnections(), Duration.ofNanos(elapsed),
+                latencies.getIntervalHistogram(), errors.get(), baseline, peak);
+    }
+
+    private void send() {
+        if (!running) {
+            return;
+        }
+        SyntheticUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        SyntheticUser.Project project = user.projects().get(ThreadLocalRandom.current().nextInt(user.projects().size()));
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/projects/" + project.id() + "/tasks?page=0&size=20"))
+                .header("Authorization", "Bearer " + user.token())
+                .build();
+
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long latency = System.nanoTime() - start;
+                    inFlight.decrementAndGet();
+                    if (recording) {
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        } else {
+                            latencies.recordValue(latency);
+                        }
+                    }
+                    send();
+                });
+    }
+
+    private ProcessStatus sample(Duration duration, ProcessStatus peak) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < end) {
+            Thread.sleep(SAMPLE_INTERVAL.toMillis());
+            peak = peak.max(ProcessStatus.read(pid));
+        }
+        return peak;
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Resident set size and thread count of a process, zero where /proc is not available.
+     */
+    record ProcessStatus(long rssKb, int threads) {
+
+        static ProcessStatus read(long pid) {
+            long rssKb = 0;
+            int threads = 0;
+            try {
+                for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        rssKb = Long.parseLong(line.replaceAll("\\D", ""));
+                    } else if (line.startsWith("Threads:")) {
+                        threads = Integer.parseInt(line.replaceAll("\\D", ""));
+                    }
+                }
+            } catch (IOException e) {
+                // Not on Linux, or the process has exited; memory is reported as unavailable.
+            }
+            return new ProcessStatus(rssKb, threads);
+        }
+
+        ProcessStatus max(ProcessStatus other) {
+            return new ProcessStatus(Math.max(rssKb, other.rssKb), Math.max(threads, other.threads));
+        }
+    }
+}
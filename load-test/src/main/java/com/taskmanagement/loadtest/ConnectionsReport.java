@@ -0,0 +1,36 @@
+package com.taskmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+
+record ConnectionsReport(LoadTestOptions.AppRuntime runtime,
+                         int connections,
+                         Duration elapsed,
+                         Histogram latencies,
+                         long errors,
+                         ConnectionsDriver.ProcessStatus baseline,
+                         ConnectionsDriver.ProcessStatus peak) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    void print(PrintStream out) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf("%n%s runtime, %d concurrent connections for %.1fs%n", runtime, connections, seconds);
+        out.printf("%-24s %d (%d errors)%n", "Requests", latencies.getTotalCount() + errors, errors);
+        out.printf("%-24s %.1f req/s%n", "Throughput", latencies.getTotalCount() / seconds);
+        out.printf("%-24s p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", "Latency",
+                latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                latencies.getMaxValue() / NANOS_PER_MILLI);
+        if (peak.rssKb() == 0) {
+            out.println("Process memory unavailable (no /proc on this platform)");
+            return;
+        }
+        long growthKb = Math.max(0, peak.rssKb() - baseline.rssKb());
+        out.printf("%-24s %.1f MB idle, %.1f MB peak%n", "Resident memory", baseline.rssKb() / 1024.0, peak.rssKb() / 1024.0);
+        out.printf("%-24s %.1f MB%n", "Growth per 1k conns", growthKb / 1024.0 * 1000 / connections);
+        out.printf("%-24s %d idle, %d peak%n", "Threads", baseline.threads(), peak.threads());
+    }
+}
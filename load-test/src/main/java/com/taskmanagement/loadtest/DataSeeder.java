@@ -0,0 +1,88 @@
+package com.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Creates the synthetic users, projects and tasks through the public API, so the data goes through
+ * the same code paths (and caches) as real traffic.
+ */
+class DataSeeder {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    DataSeeder(HttpClient client, URI baseUri) {
+        this.client = client;
+        this.baseUri = baseUri;
+    }
+
+    List<SyntheticUser> seed(LoadTestOptions options, JwtIssuer issuer) throws Exception {
+        Duration tokenTtl = options.getWarmup().plus(options.getDuration()).plusHours(1);
+        ExecutorService executor = Executors.newFixedThreadPool(options.getSeedConcurrency());
+        try {
+            List<Future<SyntheticUser>> futures = new ArrayList<>();
+            for (int u = 0; u < options.getUsers(); u++) {
+                String subject = "load-user-" + u;
+                String token = issuer.mint(subject, "USER", tokenTtl);
+                futures.add(executor.submit(() -> seedUser(subject, token, options)));
+            }
+            List<SyntheticUser> users = new ArrayList<>();
+            for (Future<SyntheticUser> future : futures) {
+                users.add(future.get());
+            }
+            return users;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SyntheticUser seedUser(String subject, String token, LoadTestOptions options) throws IOException, InterruptedException {
+        List<SyntheticUser.Project> projects = new ArrayList<>();
+        for (int p = 0; p < options.getProjectsPerUser(); p++) {
+            String name = "Project " + p + " of " + subject;
+            long projectId = post(token, "/api/projects", Map.of(
+                    "name", name,
+                    "description", "Synthetic project used by the load test"));
+
+            List<Long> taskIds = new ArrayList<>();
+            for (int t = 0; t < options.getTasksPerProject(); t++) {
+                taskIds.add(post(token, "/api/projects/" + projectId + "/tasks", Map.of(
+                        "title", "Task " + t + " in " + name,
+                        "description", "Synthetic task with a description of typical length for the list view.",
+                        "status", STATUSES[t % STATUSES.length])));
+            }
+            projects.add(new SyntheticUser.Project(projectId, name, taskIds));
+        }
+        return new SyntheticUser(subject, token, projects);
+    }
+
+    private long post(String token, String path, Map<String, String> body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("POST " + path + " returned " + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanagement.loadtest;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Local stand-in for the Cognito user pool: serves a JWKS document for a freshly generated RSA key
+ * and mints ID tokens signed with it.
+ */
+class JwtIssuer implements AutoCloseable {
+
+    private static final String KEY_ID = "load-test-key";
+
+    private final HttpServer server;
+    private final RSAPublicKey publicKey;
+    private final Algorithm algorithm;
+
+    private JwtIssuer() throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        this.publicKey = (RSAPublicKey) keyPair.getPublic();
+        this.algorithm = Algorithm.RSA256(publicKey, (RSAPrivateKey) keyPair.getPrivate());
+
+        byte[] jwks = jwks().getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        server.start();
+    }
+
+    static JwtIssuer start() throws IOException {
+        return new JwtIssuer();
+    }
+
+    String issuerUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    String jwksUri() {
+        return issuerUri() + "/.well-known/jwks.json";
+    }
+
+    String mint(String subject, String role, Duration ttl) {
+        Instant now = Instant.now();
+        return JWT.create()
+                .withKeyId(KEY_ID)
+                .withIssuer(issuerUri())
+                .withSubject(subject)
+                .withClaim("email", subject + "@load.test")
+                .withClaim("name", subject)
+                .withClaim("custom:role", role)
+                .withClaim("token_use", "id")
+                .withIssuedAt(now)
+                .withExpiresAt(now.plus(ttl))
+                .sign(algorithm);
+    }
+
+    private String jwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return """
+                {"keys":[{"kid":"%s","kty":"RSA","alg":"RS256","use":"sig","n":"%s","e":"%s"}]}"""
+                .formatted(KEY_ID,
+                        encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                        encoder.encodeToString(publicKey.getPublicExponent().toByteArray()));
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
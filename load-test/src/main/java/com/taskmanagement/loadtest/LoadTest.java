@@ -0,0 +1,35 @@
+package com.taskmanagement.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (JwtIssuer issuer = JwtIssuer.start()) {
+            System.out.println("Starting " + options.getRuntime() + " application on port " + options.getPort());
+            try (AppProcess app = AppProcess.start(options, issuer)) {
+                System.out.printf("Seeding %d users x %d projects x %d tasks%n",
+                        options.getUsers(), options.getProjectsPerUser(), options.getTasksPerProject());
+                List<SyntheticUser> users = new DataSeeder(client, app.baseUri()).seed(options, issuer);
+
+                if (options.getConnections() > 0) {
+                    new ConnectionsDriver(client, app.baseUri(), users, options, app.pid()).run().print(System.out);
+                } else {
+                    LoadTestReport report = new OpenModelDriver(client, app.baseUri(), users, options).run();
+                    report.print(System.out);
+                }
+            }
+        }
+    }
+}
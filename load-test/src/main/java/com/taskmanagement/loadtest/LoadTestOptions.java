@@ -0,0 +1,80 @@
+package com.taskmanagement.loadtest;
+
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+class LoadTestOptions {
+
+    private int users = 50;
+    private int projectsPerUser = 5;
+    private int tasksPerProject = 40;
+    private int seedConcurrency = 16;
+    private double rate = 200;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private int maxInFlight = 2000;
+    private int port = 18080;
+    private String appHeap = "1g";
+    private AppRuntime runtime = AppRuntime.SERVLET;
+    private String reactiveJar = "../reactive-api/target/task-management-reactive-api.jar";
+    private int connections;
+    private final Map<Scenario, Integer> mix = new EnumMap<>(Map.of(
+            Scenario.LIST, 50,
+            Scenario.SEARCH, 20,
+            Scenario.CREATE, 15,
+            Scenario.STATUS, 15));
+    private final Map<String, String> appProperties = new LinkedHashMap<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "users" -> options.users = Integer.parseInt(value);
+                case "projects-per-user" -> options.projectsPerUser = Integer.parseInt(value);
+                case "tasks-per-project" -> options.tasksPerProject = Integer.parseInt(value);
+                case "seed-concurrency" -> options.seedConcurrency = Integer.parseInt(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "warmup" -> options.warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> options.duration = DurationStyle.detectAndParse(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "port" -> options.port = Integer.parseInt(value);
+                case "app-heap" -> options.appHeap = value;
+                case "runtime" -> options.runtime = AppRuntime.valueOf(value.trim().toUpperCase());
+                case "reactive-jar" -> options.reactiveJar = value;
+                case "connections" -> options.connections = Integer.parseInt(value);
+                case "mix" -> options.parseMix(value);
+                default -> {
+                    if (name.startsWith("spring.") || name.startsWith("app.") || name.startsWith("server.")) {
+                        options.appProperties.put(name, value);
+                    } else {
+                        throw new IllegalArgumentException("Unknown option --" + name);
+                    }
+                }
+            }
+        }
+        return options;
+    }
+
+    enum AppRuntime {
+        SERVLET, REACTIVE
+    }
+
+    private void parseMix(String value) {
+        mix.clear();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            mix.put(Scenario.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+    }
+}
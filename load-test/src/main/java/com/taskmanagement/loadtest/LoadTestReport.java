@@ -0,0 +1,63 @@
+package com.taskmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Duration elapsed;
+    private final double offeredRate;
+    private final long dropped;
+    private final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, Long> errors = new EnumMap<>(Scenario.class);
+
+    LoadTestReport(Duration elapsed, double offeredRate, long dropped) {
+        this.elapsed = elapsed;
+        this.offeredRate = offeredRate;
+        this.dropped = dropped;
+    }
+
+    void add(Scenario scenario, Histogram histogram, long errorCount) {
+        latencies.put(scenario, histogram);
+        errors.put(scenario, errorCount);
+    }
+
+    void print(PrintStream out) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        out.printf("%n%-46s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = latencies.get(scenario);
+            long errorCount = errors.get(scenario);
+            if (histogram.getTotalCount() + errorCount == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += errorCount;
+            printRow(out, scenario.getEndpoint(), histogram, errorCount, seconds);
+        }
+        printRow(out, "All", total, totalErrors, seconds);
+        out.printf("%nOffered %.0f req/s for %.1fs, %d requests dropped at the in-flight limit%n", offeredRate, seconds, dropped);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errorCount, double seconds) {
+        out.printf("%-46s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount() + errorCount,
+                errorCount,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
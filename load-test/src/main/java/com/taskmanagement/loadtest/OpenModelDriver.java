@@ -0,0 +1,144 @@
+package com.taskmanagement.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Issues requests with exponentially distributed gaps at a fixed mean rate, independent of how fast
+ * responses come back (an open workload model). Latency is measured from the intended send time, so
+ * queueing inside the harness or the server counts against the result instead of lowering the load.
+ */
+class OpenModelDriver {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] SEARCH_TERMS = {"Project", "project 1", "Project 3", "load-user-1"};
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final List<SyntheticUser> users;
+    private final LoadTestOptions options;
+    private final Scenario[] weightedScenarios;
+
+    private final Map<Scenario, Recorder> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, AtomicLong> errors = new EnumMap<>(Scenario.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong createdTasks = new AtomicLong();
+    private volatile boolean recording;
+
+    OpenModelDriver(HttpClient client, URI baseUri, List<SyntheticUser> users, LoadTestOptions options) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.users = users;
+        this.options = options;
+        this.weightedScenarios = options.getMix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Scenario[]::new);
+        for (Scenario scenario : Scenario.values()) {
+            latencies.put(scenario, new Recorder(3));
+            errors.put(scenario, new AtomicLong());
+        }
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        System.out.printf("Warming up for %ss at %.0f req/s%n", options.getWarmup().toSeconds(), options.getRate());
+        drive(options.getWarmup());
+        awaitInFlight();
+        latencies.values().forEach(Recorder::reset);
+        errors.values().forEach(counter -> counter.set(0));
+        dropped.set(0);
+
+        System.out.printf("Measuring for %ss at %.0f req/s%n", options.getDuration().toSeconds(), options.getRate());
+        recording = true;
+        long started = System.nanoTime();
+        drive(options.getDuration());
+        long elapsed = System.nanoTime() - started;
+        awaitInFlight();
+        recording = false;
+
+        LoadTestReport report = new LoadTestReport(Duration.ofNanos(elapsed), options.getRate(), dropped.get());
+        for (Scenario scenario : Scenario.values()) {
+            report.add(scenario, latencies.get(scenario).getIntervalHistogram(), errors.get(scenario).get());
+        }
+        return report;
+    }
+
+    private void drive(Duration duration) {
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / options.getRate();
+        long next = System.nanoTime();
+        long end = next + duration.toNanos();
+        while (next < end) {
+            next += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos);
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(next);
+        }
+    }
+
+    private void send(long intendedStart) {
+        if (inFlight.get() >= options.getMaxInFlight()) {
+            dropped.incrementAndGet();
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Scenario scenario = weightedScenarios[random.nextInt(weightedScenarios.length)];
+        SyntheticUser user = users.get(random.nextInt(users.size()));
+        SyntheticUser.Project project = user.projects().get(random.nextInt(user.projects().size()));
+
+        inFlight.incrementAndGet();
+        client.sendAsync(request(scenario, user, project, random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long latency = System.nanoTime() - intendedStart;
+                    inFlight.decrementAndGet();
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.get(scenario).incrementAndGet();
+                    } else {
+                        latencies.get(scenario).recordValue(latency);
+                    }
+                });
+    }
+
+    private HttpRequest request(Scenario scenario, SyntheticUser user, SyntheticUser.Project project, ThreadLocalRandom random) {
+        String projectPath = "/api/projects/" + project.id() + "/tasks";
+        HttpRequest.Builder builder = switch (scenario) {
+            case LIST -> HttpRequest.newBuilder(baseUri.resolve(projectPath + "?page=0&size=20"));
+            case SEARCH -> HttpRequest.newBuilder(baseUri.resolve("/api/projects/search?page=0&size=20&searchTerm="
+                    + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)].replace(" ", "%20")));
+            case CREATE -> json(HttpRequest.newBuilder(baseUri.resolve(projectPath)), "POST",
+                    "{\"title\":\"Load task " + createdTasks.incrementAndGet()
+                            + "\",\"description\":\"Created during the load test\",\"status\":\"TODO\"}");
+            case STATUS -> json(HttpRequest.newBuilder(baseUri.resolve(projectPath + "/"
+                            + project.taskIds().get(random.nextInt(project.taskIds().size())) + "/status")), "PATCH",
+                    "{\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}");
+        };
+        return builder.header("Authorization", "Bearer " + user.token()).build();
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.loadtest;
+
+import lombok.Getter;
+
+@Getter
+enum Scenario {
+
+    LIST("GET /api/projects/{id}/tasks"),
+    SEARCH("GET /api/projects/search"),
+    CREATE("POST /api/projects/{id}/tasks"),
+    STATUS("PATCH /api/projects/{id}/tasks/{id}/status");
+
+    private final String endpoint;
+
+    Scenario(String endpoint) {
+        this.endpoint = endpoint;
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.loadtest;
+
+import java.util.List;
+
+record SyntheticUser(String subject, String token, List<Project> projects) {
+
+    record Project(long id, String name, List<Long> taskIds) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.reactive;
+
+import com.taskmanagement.config.CognitoConfig;
+import com.taskmanagement.config.OutboxConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication
+@Import({CognitoConfig.class, OutboxConfig.class})
+public class ReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveApplication.class, args);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.taskmanagement.reactive.controller;
+
+import com.taskmanagement.dto.request.ProjectRequest;
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.dto.response.SparseFieldset;
+import com.taskmanagement.reactive.service.ReactiveProjectService;
+import com.taskmanagement.repository.ProjectSortKey;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveProjectController {
+
+    private final ReactiveProjectService projectService;
+
+    @PostMapping
+    public Mono<ResponseEntity<ProjectResponse>> createProject(@Valid @RequestBody ProjectRequest request) {
+        log.debug("Creating new project: {}", request.getName());
+        return projectService.createProject(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<PageResponse<ProjectResponse>>> getAllProjects(@RequestParam(defaultValue = "0") int page,
+                                                                              @RequestParam(defaultValue = "20") int size,
+                                                                              @RequestParam(defaultValue = "createdAt") String sortBy,
+                                                                              @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+                                                                              @RequestParam(required = false) String fields) {
+        log.debug("Fetching projects - page: {}, size: {}", page, size);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
+        return projectService.getCurrentUserProjects(ProjectSortKey.of(sortBy), direction, PageRequest.of(page, size))
+                .map(response -> ResponseEntity.ok(response.map(project -> project.select(selected))));
+    }
+
+    @GetMapping("/{projectId}")
+    public Mono<ResponseEntity<ProjectResponse>> getProjectById(@PathVariable Long projectId) {
+        log.debug("Fetching project with ID: {}", projectId);
+        return projectService.getProjectById(projectId).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{projectId}")
+    public Mono<ResponseEntity<ProjectResponse>> updateProject(@PathVariable Long projectId,
+                                                               @Valid @RequestBody ProjectRequest request) {
+        log.debug("Updating project with ID: {}", projectId);
+        return projectService.updateProject(projectId, request).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{projectId}")
+    public Mono<ResponseEntity<Void>> deleteProject(@PathVariable Long projectId) {
+        log.debug("Deleting project with ID: {}", projectId);
+        return projectService.deleteProject(projectId)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<PageResponse<ProjectResponse>>> searchProjects(@RequestParam String searchTerm,
+                                                                              @RequestParam(defaultValue = "0") int page,
+                                                                              @RequestParam(defaultValue = "20") int size,
+                                                                              @RequestParam(required = false) String fields) {
+        log.debug("Searching projects with term: {}", searchTerm);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
+        return projectService.searchProjects(searchTerm, PageRequest.of(page, size))
+                .map(response -> ResponseEntity.ok(response.map(project -> project.select(selected))));
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskmanagement.reactive.controller;
+
+import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.request.UpdateTaskStatusRequest;
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.SparseFieldset;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.reactive.service.ReactiveTaskService;
+import com.taskmanagement.repository.TaskSortKey;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/tasks")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponse>> createTask(@PathVariable Long projectId,
+                                                         @Valid @RequestBody TaskRequest request) {
+        log.debug("Creating new task in project: {}", projectId);
+        return taskService.createTask(projectId, request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<PageResponse<TaskResponse>>> getTasksByProject(@PathVariable Long projectId,
+                                                                              @RequestParam(defaultValue = "0") int page,
+                                                                              @RequestParam(defaultValue = "20") int size,
+                                                                              @RequestParam(defaultValue = "createdAt") String sortBy,
+                                                                              @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+                                                                              @RequestParam(required = false) TaskStatus status,
+                                                                              @RequestParam(required = false) String fields) {
+
+        log.debug("Fetching tasks for project: {} - page: {}, size: {}", projectId, page, size);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
+        return taskService.getTasksByProject(projectId, status, TaskSortKey.of(sortBy), direction, PageRequest.of(page, size))
+                .map(response -> ResponseEntity.ok(response.map(task -> task.select(selected))));
+    }
+
+    // The whole list as newline-delimited JSON, written as rows arrive and only as fast as the client reads.
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamTasksByProject(@PathVariable Long projectId,
+                                                   @RequestParam(defaultValue = "createdAt") String sortBy,
+                                                   @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+                                                   @RequestParam(required = false) TaskStatus status,
+                                                   @RequestParam(required = false) String fields) {
+
+        log.debug("Streaming tasks for project: {}", projectId);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
+        return taskService.streamTasksByProject(projectId, status, TaskSortKey.of(sortBy), direction)
+                .map(task -> task.select(selected));
+    }
+
+    @GetMapping("/{taskId}")
+    public Mono<ResponseEntity<TaskResponse>> getTaskById(@PathVariable Long projectId, @PathVariable Long taskId) {
+        log.debug("Fetching task {} in project {}", taskId, projectId);
+        return taskService.getTaskById(projectId, taskId).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{taskId}")
+    public Mono<ResponseEntity<TaskResponse>> updateTask(@PathVariable Long projectId, @PathVariable Long taskId,
+                                                         @Valid @RequestBody TaskRequest request) {
+        log.debug("Updating task {} in project {}", taskId, projectId);
+        return taskService.updateTask(projectId, taskId, request).map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("/{taskId}/status")
+    public Mono<ResponseEntity<TaskResponse>> updateTaskStatus(@PathVariable Long projectId, @PathVariable Long taskId,
+                                                               @Valid @RequestBody UpdateTaskStatusRequest request) {
+        log.debug("Updating task {} status to {}", taskId, request.getStatus());
+        return taskService.updateTaskStatus(projectId, taskId, request).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{taskId}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long projectId, @PathVariable Long taskId) {
+        log.debug("Deleting task {} from project {}", taskId, projectId);
+        return taskService.deleteTask(projectId, taskId)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+}
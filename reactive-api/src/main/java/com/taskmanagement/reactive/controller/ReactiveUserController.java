@@ -0,0 +1,116 @@
+package com.taskmanagement.reactive.controller;
+
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.dto.response.SparseFieldset;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.reactive.service.ReactiveProjectService;
+import com.taskmanagement.reactive.service.ReactiveTaskService;
+import com.taskmanagement.reactive.service.ReactiveUserService;
+import com.taskmanagement.repository.ProjectSortKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+    private final ReactiveProjectService projectService;
+    private final ReactiveTaskService taskService;
+
+    @GetMapping("/me")
+    public Mono<ResponseEntity<UserResponse>> getCurrentUserProfile() {
+        log.debug("Fetching current user profile");
+        return userService.getCurrentUserProfile().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/me/projects")
+    public Mono<ResponseEntity<PageResponse<ProjectResponse>>> getCurrentUserProjects(@RequestParam(defaultValue = "0") int page,
+                                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                                      @RequestParam(required = false) String fields) {
+
+        log.debug("Fetching projects for current user - page: {}, size: {}", page, size);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
+        return projectService.getCurrentUserProjects(ProjectSortKey.CREATED_AT, Sort.Direction.DESC, PageRequest.of(page, size))
+                .map(response -> ResponseEntity.ok(response.map(project -> project.select(selected))));
+    }
+
+    @GetMapping("/me/tasks")
+    public Mono<ResponseEntity<PageResponse<TaskResponse>>> getCurrentUserTasks(@RequestParam(defaultValue = "0") int page,
+                                                                                @RequestParam(defaultValue = "20") int size,
+                                                                                @RequestParam(required = false) TaskStatus status,
+                                                                                @RequestParam(required = false) String fields) {
+
+        log.debug("Fetching tasks for current user - page: {}, size: {}, status: {}", page, size, status);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
+        return taskService.getCurrentUserTasks(PageRequest.of(page, size), status)
+                .map(response -> ResponseEntity.ok(response.map(task -> task.select(selected))));
+    }
+
+    @GetMapping(path = "/me/tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamCurrentUserTasks(@RequestParam(required = false) TaskStatus status,
+                                                     @RequestParam(required = false) String fields) {
+
+        log.debug("Streaming tasks for current user - status: {}", status);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
+        return taskService.streamCurrentUserTasks(status).map(task -> task.select(selected));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<PageResponse<UserResponse>>> getAllUsers(@RequestParam(defaultValue = "0") int page,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("Admin fetching all users - page: {}, size: {}", page, size);
+        return userService.getAllUsers(page, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{userId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<UserResponse>> getUserById(@PathVariable Long userId) {
+        log.debug("Getting user by ID: {}", userId);
+        return userService.getUserProfileById(userId).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{userId}/projects")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<PageResponse<ProjectResponse>>> getUserProjectsById(@PathVariable Long userId,
+                                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                                   @RequestParam(defaultValue = "20") int size,
+                                                                                   @RequestParam(required = false) String fields) {
+
+        log.debug("Admin fetching projects for user {} - page: {}, size: {}", userId, page, size);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
+        return projectService.getUserProjectsById(userId, page, size)
+                .map(response -> ResponseEntity.ok(response.map(project -> project.select(selected))));
+    }
+
+    @GetMapping("/{userId}/tasks")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<PageResponse<TaskResponse>>> getUserTasksById(@PathVariable Long userId,
+                                                                             @RequestParam(defaultValue = "0") int page,
+                                                                             @RequestParam(defaultValue = "20") int size,
+                                                                             @RequestParam(required = false) TaskStatus status,
+                                                                             @RequestParam(required = false) String fields) {
+
+        log.debug("Admin fetching tasks for user {} - page: {}, size: {}, status: {}", userId, page, size, status);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
+        return taskService.getUserTasksById(userId, page, size, status)
+                .map(response -> ResponseEntity.ok(response.map(task -> task.select(selected))));
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanagement.reactive.exception;
+
+import com.taskmanagement.dto.response.ErrorResponse;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Same status codes and {@link ErrorResponse} bodies as the servlet API's {@code GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex, ServerHttpRequest request) {
+        log.error("Resource not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ErrorResponse> handleUnauthorized(UnauthorizedException ex, ServerHttpRequest request) {
+        log.error("Unauthorized access attempt: {}", ex.getMessage());
+        return error(HttpStatus.FORBIDDEN, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(ValidationException ex, ServerHttpRequest request) {
+        log.error("Validation error: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(WebExchangeBindException ex, ServerHttpRequest request) {
+        List<ErrorResponse.ValidationError> validationErrors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> ErrorResponse.ValidationError.builder()
+                        .field(error.getField())
+                        .message(error.getDefaultMessage())
+                        .build())
+                .collect(Collectors.toList());
+
+        log.error("Validation failed: {} errors", validationErrors.size());
+        return error(HttpStatus.BAD_REQUEST, "Validation failed", request, validationErrors);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, ServerHttpRequest request) {
+        log.error("Access denied: {}", ex.getMessage());
+        return error(HttpStatus.FORBIDDEN, "Access denied", request, null);
+    }
+
+    // Unreadable bodies, unconvertible parameters and unmatched routes keep their own status.
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex, ServerHttpRequest request) {
+        log.error("Request rejected: {}", ex.getMessage());
+        return error(ex.getStatusCode(), ex.getReason(), request, null);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, ServerHttpRequest request) {
+        log.error("Unexpected error occurred", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request, null);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatusCode status, String message, ServerHttpRequest request,
+                                                       List<ErrorResponse.ValidationError> validationErrors) {
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        ErrorResponse error = ErrorResponse.builder()
+                .status(status.value())
+                .error(resolved != null ? resolved.getReasonPhrase() : null)
+                .message(message)
+                .path(request.getPath().value())
+                .timestamp(LocalDateTime.now())
+                .validationErrors(validationErrors)
+                .build();
+
+        return new ResponseEntity<>(error, status);
+    }
+}
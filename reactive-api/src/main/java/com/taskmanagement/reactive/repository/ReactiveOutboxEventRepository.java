@@ -0,0 +1,30 @@
+package com.taskmanagement.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveOutboxEventRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> insert(String endpoint, String aggregateType, Long aggregateId, String eventType,
+                             String payload, LocalDateTime now) {
+        return databaseClient.sql("INSERT INTO outbox_events " +
+                        "(endpoint, aggregate_type, aggregate_id, event_type, payload, status, attempts, next_attempt_at, created_at) " +
+                        "VALUES (:endpoint, :aggregateType, :aggregateId, :eventType, :payload, 'PENDING', 0, :nextAttemptAt, :createdAt)")
+                .bind("endpoint", endpoint)
+                .bind("aggregateType", aggregateType)
+                .bind("aggregateId", aggregateId)
+                .bind("eventType", eventType)
+                .bind("payload", payload)
+                .bind("nextAttemptAt", now)
+                .bind("createdAt", now)
+                .then();
+    }
+}
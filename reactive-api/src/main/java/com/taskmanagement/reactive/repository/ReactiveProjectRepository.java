@@ -0,0 +1,179 @@
+package com.taskmanagement.reactive.repository;
+
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.repository.ProjectSortKey;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projects with their owner, read with explicit joins. List queries return the list view directly,
+ * with the task count computed in the same statement instead of loading every task.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveProjectRepository {
+
+    private static final String SUMMARY_SELECT = "SELECT p.id, p.name, p.description_preview, p.created_at, p.updated_at, " +
+            "u.id AS owner_id, u.name AS owner_name, u.email AS owner_email, " +
+            "(SELECT COUNT(*) FROM tasks t WHERE t.project_id = p.id) AS task_count " +
+            "FROM projects p JOIN users u ON u.id = p.owner_id ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Project> findById(Long id) {
+        return databaseClient.sql("SELECT p.id, p.name, p.description, p.description_preview, p.created_at, p.updated_at, " +
+                        "u.id AS owner_id, u.name AS owner_name, u.email AS owner_email " +
+                        "FROM projects p JOIN users u ON u.id = p.owner_id WHERE p.id = :id")
+                .bind("id", id)
+                .map(row -> {
+                    Project project = toProject(row);
+                    project.setDescription(row.get("description", String.class));
+                    return project;
+                })
+                .one();
+    }
+
+    /**
+     * Share-locks the project row until the transaction ends, like the servlet API's
+     * {@code ProjectRepository.lockSharedById}. H2 has no {@code FOR SHARE}, so there the row is
+     * locked exclusively, as Hibernate's H2 dialect does for a pessimistic read.
+     */
+    public Mono<Long> lockSharedById(Long id) {
+        String lock = "PostgreSQL".equals(databaseClient.getConnectionFactory().getMetadata().getName())
+                ? "FOR SHARE" : "FOR UPDATE";
+        return databaseClient.sql("SELECT id FROM projects WHERE id = :id " + lock)
+                .bind("id", id)
+                .map(row -> ((Number) row.get("id")).longValue())
+                .one();
+    }
+
+    public Mono<Integer> countTasks(Long projectId) {
+        return databaseClient.sql("SELECT COUNT(*) FROM tasks WHERE project_id = :projectId")
+                .bind("projectId", projectId)
+                .map(row -> ((Number) row.get(0)).intValue())
+                .one();
+    }
+
+    public Flux<ProjectResponse> findByOwnerId(Long ownerId, ProjectSortKey sortKey, Sort.Direction direction,
+                                               long offset, int limit) {
+        String order = "p." + sortKey.getColumn() + " " + direction.name()
+                + (sortKey.isTieBreakById() ? ", p.id " + direction.name() : "");
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE p.owner_id = :ownerId ORDER BY " + order +
+                        " LIMIT :limit OFFSET :offset")
+                .bind("ownerId", ownerId)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveProjectRepository::toSummary)
+                .all();
+    }
+
+    public Mono<Long> countByOwnerId(Long ownerId) {
+        return databaseClient.sql("SELECT COUNT(*) FROM projects WHERE owner_id = :ownerId")
+                .bind("ownerId", ownerId)
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one();
+    }
+
+    public Flux<ProjectResponse> searchByOwnerId(Long ownerId, String searchTerm, long offset, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE p.owner_id = :ownerId AND LOWER(p.name) LIKE :pattern ESCAPE '\\' " +
+                        "ORDER BY p.created_at DESC LIMIT :limit OFFSET :offset")
+                .bind("ownerId", ownerId)
+                .bind("pattern", containing(searchTerm))
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveProjectRepository::toSummary)
+                .all();
+    }
+
+    public Mono<Long> countSearchByOwnerId(Long ownerId, String searchTerm) {
+        return databaseClient.sql("SELECT COUNT(*) FROM projects p WHERE p.owner_id = :ownerId AND LOWER(p.name) LIKE :pattern ESCAPE '\\'")
+                .bind("ownerId", ownerId)
+                .bind("pattern", containing(searchTerm))
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one();
+    }
+
+    public Mono<Project> insert(Project project) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("INSERT INTO projects (owner_id, name, description, description_preview, created_at, updated_at) " +
+                        "VALUES (:ownerId, :name, :description, :descriptionPreview, :createdAt, :updatedAt)")
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("ownerId", project.getOwner().getId())
+                .bind("name", project.getName())
+                .bind("description", Parameter.fromOrEmpty(project.getDescription(), String.class))
+                .bind("descriptionPreview", Parameter.fromOrEmpty(project.getDescriptionPreview(), String.class))
+                .bind("createdAt", now)
+                .bind("updatedAt", now)
+                .map(row -> ((Number) row.get("id")).longValue())
+                .one()
+                .map(id -> {
+                    project.setId(id);
+                    project.setCreatedAt(now);
+                    project.setUpdatedAt(now);
+                    return project;
+                });
+    }
+
+    public Mono<Project> update(Project project) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("UPDATE projects SET name = :name, description = :description, " +
+                        "description_preview = :descriptionPreview, updated_at = :updatedAt WHERE id = :id")
+                .bind("id", project.getId())
+                .bind("name", project.getName())
+                .bind("description", Parameter.fromOrEmpty(project.getDescription(), String.class))
+                .bind("descriptionPreview", Parameter.fromOrEmpty(project.getDescriptionPreview(), String.class))
+                .bind("updatedAt", now)
+                .then()
+                .then(Mono.fromSupplier(() -> {
+                    project.setUpdatedAt(now);
+                    return project;
+                }));
+    }
+
+    // Tasks are deleted explicitly rather than relying on ON DELETE CASCADE, which not every schema has.
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM tasks WHERE project_id = :id")
+                .bind("id", id)
+                .then()
+                .then(databaseClient.sql("DELETE FROM projects WHERE id = :id")
+                        .bind("id", id)
+                        .then());
+    }
+
+    private static Project toProject(Readable row) {
+        return Project.builder()
+                .id(((Number) row.get("id")).longValue())
+                .name(row.get("name", String.class))
+                .descriptionPreview(row.get("description_preview", String.class))
+                .owner(User.builder()
+                        .id(((Number) row.get("owner_id")).longValue())
+                        .name(row.get("owner_name", String.class))
+                        .email(row.get("owner_email", String.class))
+                        .build())
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    private static ProjectResponse toSummary(Readable row) {
+        return ProjectResponse.summaryOf(toProject(row), ((Number) row.get("task_count")).intValue());
+    }
+
+    private static String containing(String searchTerm) {
+        String escaped = searchTerm.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
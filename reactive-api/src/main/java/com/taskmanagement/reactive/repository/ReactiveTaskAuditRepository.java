@@ -0,0 +1,32 @@
+package com.taskmanagement.reactive.repository;
+
+import com.taskmanagement.event.TaskChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTaskAuditRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> insertChanges(TaskChangedEvent event) {
+        return Flux.fromIterable(event.getChanges())
+                .concatMap(change -> databaseClient.sql("INSERT INTO task_audit " +
+                                "(task_id, project_id, field, old_value, new_value, changed_by, changed_at) " +
+                                "VALUES (:taskId, :projectId, :field, :oldValue, :newValue, :changedBy, :changedAt)")
+                        .bind("taskId", event.getTaskId())
+                        .bind("projectId", event.getProjectId())
+                        .bind("field", change.getField())
+                        .bind("oldValue", Parameter.fromOrEmpty(change.getOldValue(), String.class))
+                        .bind("newValue", Parameter.fromOrEmpty(change.getNewValue(), String.class))
+                        .bind("changedBy", Parameter.fromOrEmpty(event.getActorId(), Long.class))
+                        .bind("changedAt", event.getOccurredAt())
+                        .then())
+                .then();
+    }
+}
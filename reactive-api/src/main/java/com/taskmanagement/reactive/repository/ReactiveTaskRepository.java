@@ -0,0 +1,238 @@
+package com.taskmanagement.reactive.repository;
+
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.Task;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.repository.TaskSortKey;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Tasks joined with their project's name. List queries select the description preview only and
+ * order by the same indexed columns as the servlet API's {@link TaskSortKey}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTaskRepository {
+
+    private static final String SUMMARY_SELECT = "SELECT t.id, t.title, t.description_preview, t.status, t.rank, t.project_id, " +
+            "p.name AS project_name, t.owner_id, t.created_at, t.updated_at FROM tasks t JOIN projects p ON p.id = t.project_id ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Task> findByIdAndProjectId(Long id, Long projectId) {
+        return databaseClient.sql("SELECT t.id, t.title, t.description, t.description_preview, t.status, t.rank, t.project_id, " +
+                        "p.name AS project_name, t.owner_id, t.created_at, t.updated_at " +
+                        "FROM tasks t JOIN projects p ON p.id = t.project_id WHERE t.id = :id AND t.project_id = :projectId")
+                .bind("id", id)
+                .bind("projectId", projectId)
+                .map(row -> {
+                    Task task = toTask(row);
+                    task.setDescription(row.get("description", String.class));
+                    return task;
+                })
+                .one();
+    }
+
+    public Flux<Task> findByProjectId(Long projectId, TaskStatus status, TaskSortKey sortKey, Sort.Direction direction,
+                                      long offset, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE t.project_id = :projectId" + statusFilter(status) +
+                        " ORDER BY " + order(sortKey, direction) + " LIMIT :limit OFFSET :offset")
+                .bind("projectId", projectId)
+                .bindValues(statusParameter(status))
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    /**
+     * Every matching task, in sort order, as one result set. Rows are pulled from the driver in
+     * {@code fetchSize} chunks as the subscriber requests them, so a slow client holds back the
+     * query instead of the whole list piling up in memory.
+     */
+    public Flux<Task> streamByProjectId(Long projectId, TaskStatus status, TaskSortKey sortKey, Sort.Direction direction,
+                                        int fetchSize) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE t.project_id = :projectId" + statusFilter(status) +
+                        " ORDER BY " + order(sortKey, direction))
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind("projectId", projectId)
+                .bindValues(statusParameter(status))
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Mono<Long> countByProjectId(Long projectId, TaskStatus status) {
+        return databaseClient.sql("SELECT COUNT(*) FROM tasks t WHERE t.project_id = :projectId" + statusFilter(status))
+                .bind("projectId", projectId)
+                .bindValues(statusParameter(status))
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one();
+    }
+
+    public Flux<Task> findByOwnerId(Long ownerId, TaskStatus status, long offset, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE t.owner_id = :ownerId" + statusFilter(status) +
+                        " ORDER BY t.created_at, t.id LIMIT :limit OFFSET :offset")
+                .bind("ownerId", ownerId)
+                .bindValues(statusParameter(status))
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Flux<Task> streamByOwnerId(Long ownerId, TaskStatus status, int fetchSize) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE t.owner_id = :ownerId" + statusFilter(status) +
+                        " ORDER BY t.created_at, t.id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind("ownerId", ownerId)
+                .bindValues(statusParameter(status))
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Mono<Long> countByOwnerId(Long ownerId, TaskStatus status) {
+        return databaseClient.sql("SELECT COUNT(*) FROM tasks t WHERE t.owner_id = :ownerId" + statusFilter(status))
+                .bind("ownerId", ownerId)
+                .bindValues(statusParameter(status))
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one();
+    }
+
+    public Mono<Boolean> existsByTitleAndProjectId(String title, Long projectId) {
+        return databaseClient.sql("SELECT 1 FROM tasks WHERE title = :title AND project_id = :projectId")
+                .bind("title", title)
+                .bind("projectId", projectId)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    public Mono<String> findLastRank(Long projectId, TaskStatus status) {
+        return databaseClient.sql("SELECT rank FROM tasks WHERE project_id = :projectId AND status = :status " +
+                        "ORDER BY rank DESC, id DESC LIMIT 1")
+                .bind("projectId", projectId)
+                .bind("status", status.getCode())
+                .map(row -> row.get("rank", String.class))
+                .first();
+    }
+
+    // Task ids of a status column in rank order, locked until the transaction ends.
+    public Flux<Long> lockColumn(Long projectId, TaskStatus status) {
+        return databaseClient.sql("SELECT id FROM tasks WHERE project_id = :projectId AND status = :status " +
+                        "ORDER BY rank, id FOR UPDATE")
+                .bind("projectId", projectId)
+                .bind("status", status.getCode())
+                .map(row -> ((Number) row.get("id")).longValue())
+                .all();
+    }
+
+    public Mono<Void> updateRank(Long id, String rank) {
+        return databaseClient.sql("UPDATE tasks SET rank = :rank, updated_at = :updatedAt WHERE id = :id")
+                .bind("id", id)
+                .bind("rank", rank)
+                .bind("updatedAt", LocalDateTime.now())
+                .then();
+    }
+
+    public Mono<Task> insert(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("INSERT INTO tasks (project_id, owner_id, title, description, description_preview, status, rank, created_at, updated_at) " +
+                        "VALUES (:projectId, :ownerId, :title, :description, :descriptionPreview, :status, :rank, :createdAt, :updatedAt)")
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("projectId", task.getProject().getId())
+                .bind("ownerId", task.getOwnerId())
+                .bind("title", task.getTitle())
+                .bind("description", Parameter.fromOrEmpty(task.getDescription(), String.class))
+                .bind("descriptionPreview", Parameter.fromOrEmpty(task.getDescriptionPreview(), String.class))
+                .bind("status", task.getStatus().getCode())
+                .bind("rank", task.getRank())
+                .bind("createdAt", now)
+                .bind("updatedAt", now)
+                .map(row -> ((Number) row.get("id")).longValue())
+                .one()
+                .map(id -> {
+                    task.setId(id);
+                    task.setCreatedAt(now);
+                    task.setUpdatedAt(now);
+                    return task;
+                });
+    }
+
+    public Mono<Task> update(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("UPDATE tasks SET title = :title, description = :description, " +
+                        "description_preview = :descriptionPreview, status = :status, rank = :rank, updated_at = :updatedAt WHERE id = :id")
+                .bind("id", task.getId())
+                .bind("title", task.getTitle())
+                .bind("description", Parameter.fromOrEmpty(task.getDescription(), String.class))
+                .bind("descriptionPreview", Parameter.fromOrEmpty(task.getDescriptionPreview(), String.class))
+                .bind("status", task.getStatus().getCode())
+                .bind("rank", task.getRank())
+                .bind("updatedAt", now)
+                .then()
+                .then(Mono.fromSupplier(() -> {
+                    task.setUpdatedAt(now);
+                    return task;
+                }));
+    }
+
+    // Leaves the indexed text columns alone, like the servlet API's @DynamicUpdate.
+    public Mono<Task> updateStatus(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("UPDATE tasks SET status = :status, rank = :rank, updated_at = :updatedAt WHERE id = :id")
+                .bind("id", task.getId())
+                .bind("status", task.getStatus().getCode())
+                .bind("rank", task.getRank())
+                .bind("updatedAt", now)
+                .then()
+                .then(Mono.fromSupplier(() -> {
+                    task.setUpdatedAt(now);
+                    return task;
+                }));
+    }
+
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM tasks WHERE id = :id")
+                .bind("id", id)
+                .then();
+    }
+
+    private static String statusFilter(TaskStatus status) {
+        return status != null ? " AND t.status = :status" : "";
+    }
+
+    private static Map<String, Object> statusParameter(TaskStatus status) {
+        return status != null ? Map.of("status", status.getCode()) : Map.of();
+    }
+
+    private static String order(TaskSortKey sortKey, Sort.Direction direction) {
+        return (sortKey.isGroupedByStatus() ? "t.status " + direction.name() + ", " : "") + "t." + sortKey.getColumn() + " " + direction.name() + ", t.id " + direction.name();
+    }
+
+    static Task toTask(Readable row) {
+        return Task.builder()
+                .id(((Number) row.get("id")).longValue())
+                .title(row.get("title", String.class))
+                .descriptionPreview(row.get("description_preview", String.class))
+                .status(TaskStatus.fromCode(((Number) row.get("status")).shortValue()))
+                .rank(row.get("rank", String.class))
+                .project(Project.builder()
+                        .id(((Number) row.get("project_id")).longValue())
+                        .name(row.get("project_name", String.class))
+                        .build())
+                .ownerId(((Number) row.get("owner_id")).longValue())
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
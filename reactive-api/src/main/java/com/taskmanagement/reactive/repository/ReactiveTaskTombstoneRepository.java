@@ -0,0 +1,34 @@
+package com.taskmanagement.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTaskTombstoneRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> recordTaskDeleted(Long taskId, Long projectId, Long ownerId, LocalDateTime deletedAt) {
+        return databaseClient.sql("INSERT INTO task_tombstones (task_id, project_id, owner_id, deleted_at) " +
+                        "VALUES (:taskId, :projectId, :ownerId, :deletedAt)")
+                .bind("taskId", taskId)
+                .bind("projectId", projectId)
+                .bind("ownerId", ownerId)
+                .bind("deletedAt", deletedAt)
+                .then();
+    }
+
+    public Mono<Void> recordProjectTasksDeleted(Long projectId, Long ownerId, LocalDateTime deletedAt) {
+        return databaseClient.sql("INSERT INTO task_tombstones (task_id, project_id, owner_id, deleted_at) " +
+                        "SELECT t.id, t.project_id, :ownerId, :deletedAt FROM tasks t WHERE t.project_id = :projectId")
+                .bind("projectId", projectId)
+                .bind("ownerId", ownerId)
+                .bind("deletedAt", deletedAt)
+                .then();
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanagement.reactive.repository;
+
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.UserRole;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String COLUMNS = "id, cognito_sub, email, name, role, created_at, updated_at";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    public Mono<User> findByCognitoSub(String cognitoSub) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users WHERE cognito_sub = :cognitoSub")
+                .bind("cognitoSub", cognitoSub)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    public Flux<User> findAll(long offset, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM users ORDER BY id LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveUserRepository::toUser)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) FROM users")
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one();
+    }
+
+    public Mono<User> insert(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("INSERT INTO users (cognito_sub, email, name, role, created_at, updated_at) " +
+                        "VALUES (:cognitoSub, :email, :name, :role, :createdAt, :updatedAt)")
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("cognitoSub", user.getCognitoSub())
+                .bind("email", user.getEmail())
+                .bind("name", Parameter.fromOrEmpty(user.getName(), String.class))
+                .bind("role", user.getRole().name())
+                .bind("createdAt", now)
+                .bind("updatedAt", now)
+                .map(row -> ((Number) row.get("id")).longValue())
+                .one()
+                .map(id -> {
+                    user.setId(id);
+                    user.setCreatedAt(now);
+                    user.setUpdatedAt(now);
+                    return user;
+                });
+    }
+
+    static User toUser(Readable row) {
+        return User.builder()
+                .id(((Number) row.get("id")).longValue())
+                .cognitoSub(row.get("cognito_sub", String.class))
+                .email(row.get("email", String.class))
+                .name(row.get("name", String.class))
+                .role(UserRole.fromString(row.get("role", String.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskmanagement.reactive.security;
+
+import com.taskmanagement.model.enums.UserRole;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+
+/**
+ * Reads the Cognito claims the same way the servlet API's {@code JwtTokenValidator} does, so both
+ * runtimes create identical users from the same token.
+ */
+public final class JwtClaims {
+
+    private JwtClaims() {
+    }
+
+    public static String getEmail(Jwt jwt) {
+        String email = jwt.getClaimAsString("email");
+        if (email == null || email.isEmpty()) {
+            email = jwt.getClaimAsString("cognito:username");
+        }
+        return email;
+    }
+
+    public static UserRole getRole(Jwt jwt) {
+        String customRole = jwt.getClaimAsString("custom:role");
+        if (customRole != null && !customRole.isEmpty()) {
+            return UserRole.fromString(customRole);
+        }
+
+        List<String> groups = jwt.getClaimAsStringList("cognito:groups");
+        if (groups != null && !groups.isEmpty()) {
+            return UserRole.fromString(groups.get(0).toUpperCase());
+        }
+        return UserRole.USER;
+    }
+
+    public static String getName(Jwt jwt) {
+        String name = jwt.getClaimAsString("name");
+        if (name == null || name.isEmpty()) {
+            name = jwt.getClaimAsString("cognito:username");
+        }
+        if (name == null || name.isEmpty()) {
+            String email = jwt.getClaimAsString("email");
+            if (email != null && email.contains("@")) {
+                name = email.substring(0, email.indexOf("@"));
+            }
+        }
+        return name;
+    }
+}
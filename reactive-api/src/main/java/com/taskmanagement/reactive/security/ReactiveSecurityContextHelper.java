@@ -0,0 +1,21 @@
+package com.taskmanagement.reactive.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ReactiveSecurityContextHelper {
+
+    public Mono<Jwt> getCurrentToken() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getPrincipal)
+                .filter(Jwt.class::isInstance)
+                .cast(Jwt.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("No authenticated user found in security context")));
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.dto.response.PageResponse;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+final class Pages {
+
+    private Pages() {
+    }
+
+    // A short first page is the whole result, so the count query is only run when it can differ.
+    static <T> Mono<PageResponse<T>> of(Flux<T> content, Mono<Long> count, Pageable pageable) {
+        return content.collectList().flatMap(items -> {
+            Mono<Long> total = pageable.getOffset() == 0 && items.size() < pageable.getPageSize()
+                    ? Mono.just((long) items.size())
+                    : count;
+            return total.map(totalElements -> page(items, totalElements, pageable));
+        });
+    }
+
+    private static <T> PageResponse<T> page(List<T> items, long totalElements, Pageable pageable) {
+        return PageResponse.<T>builder()
+                .content(items)
+                .pageNumber(pageable.getPageNumber())
+                .pageSize(pageable.getPageSize())
+                .totalElements(totalElements)
+                .totalPages((int) Math.ceil((double) totalElements / pageable.getPageSize()))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.reactive.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.OutboxConfig;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.reactive.repository.ReactiveOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes the same outbox rows as the servlet API's {@code OutboxService}. There is no reactive
+ * before-commit event phase, so callers chain these inserts into their own transaction. Delivery
+ * stays with the servlet API's webhook dispatcher.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveOutboxService {
+
+    private final ReactiveOutboxEventRepository outboxEventRepository;
+    private final OutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> record(TaskChangedEvent event) {
+        return record("TASK", event.getTaskId(), event.getType().name(), event);
+    }
+
+    public Mono<Void> record(ProjectChangedEvent event) {
+        return record("PROJECT", event.getProjectId(), event.getType().name(), event);
+    }
+
+    private Mono<Void> record(String aggregateType, Long aggregateId, String eventType, Object event) {
+        if (outboxConfig.getEndpoints().isEmpty()) {
+            return Mono.empty();
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            return Mono.error(new IllegalStateException("Could not serialize " + aggregateType + " event", e));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return Flux.fromIterable(outboxConfig.getEndpoints())
+                .concatMap(endpoint -> outboxEventRepository.insert(
+                        endpoint.getName(), aggregateType, aggregateId, eventType, payload, now))
+                .then(Mono.fromRunnable(() -> log.debug("Recorded {} {} outbox event(s) for {} {}",
+                        outboxConfig.getEndpoints().size(), eventType, aggregateType, aggregateId)));
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.dto.request.ProjectRequest;
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.enums.ProjectEventType;
+import com.taskmanagement.reactive.repository.ReactiveProjectRepository;
+import com.taskmanagement.reactive.repository.ReactiveTaskTombstoneRepository;
+import com.taskmanagement.repository.ProjectSortKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveProjectService {
+
+    private final ReactiveProjectRepository projectRepository;
+    private final ReactiveTaskTombstoneRepository taskTombstoneRepository;
+    private final ReactiveUserService userService;
+    private final ReactiveOutboxService outboxService;
+
+    @Transactional
+    public Mono<ProjectResponse> createProject(ProjectRequest request) {
+        log.debug("Creating new project: {}", request.getName());
+
+        return userService.getOrCreateCurrentUser()
+                .flatMap(currentUser -> projectRepository.insert(Project.builder()
+                        .name(request.getName())
+                        .description(request.getDescription())
+                        .owner(currentUser)
+                        .build()))
+                .flatMap(savedProject -> {
+                    log.info("Project created successfully with ID: {}", savedProject.getId());
+
+                    ProjectResponse response = ProjectResponse.fromEntity(savedProject, 0);
+                    return publishProjectEvent(ProjectEventType.CREATED, savedProject.getId(), response)
+                            .thenReturn(response);
+                });
+    }
+
+    public Mono<PageResponse<ProjectResponse>> getCurrentUserProjects(ProjectSortKey sortKey, Sort.Direction direction,
+                                                                      Pageable pageable) {
+        log.debug("Fetching projects for current user with pagination");
+
+        return userService.getOrCreateCurrentUser()
+                .flatMap(currentUser -> Pages.of(
+                        projectRepository.findByOwnerId(currentUser.getId(), sortKey, direction,
+                                pageable.getOffset(), pageable.getPageSize()),
+                        projectRepository.countByOwnerId(currentUser.getId()),
+                        pageable));
+    }
+
+    public Mono<PageResponse<ProjectResponse>> getUserProjectsById(Long userId, int page, int size) {
+        log.debug("Fetching projects for user: {}", userId);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return userService.requireAdmin("Only admins can view other users' projects")
+                .then(Pages.of(
+                        projectRepository.findByOwnerId(userId, ProjectSortKey.CREATED_AT, Sort.Direction.DESC,
+                                pageable.getOffset(), pageable.getPageSize()),
+                        projectRepository.countByOwnerId(userId),
+                        pageable));
+    }
+
+    public Mono<PageResponse<ProjectResponse>> searchProjects(String searchTerm, Pageable pageable) {
+        log.debug("Searching projects with term: {}", searchTerm);
+
+        return userService.getOrCreateCurrentUser()
+                .flatMap(currentUser -> Pages.of(
+                        projectRepository.searchByOwnerId(currentUser.getId(), searchTerm,
+                                pageable.getOffset(), pageable.getPageSize()),
+                        projectRepository.countSearchByOwnerId(currentUser.getId(), searchTerm),
+                        pageable));
+    }
+
+    public Mono<ProjectResponse> getProjectById(Long id) {
+        log.debug("Fetching project with ID: {}", id);
+
+        return findProjectById(id).zipWhen(project -> userService.getOrCreateCurrentUser())
+                .flatMap(tuple -> {
+                    Project project = tuple.getT1();
+                    if (!project.isOwnedBy(tuple.getT2().getId()) && !tuple.getT2().isAdmin()) {
+                        return Mono.error(new UnauthorizedException("You don't have access to this project"));
+                    }
+                    return projectRepository.countTasks(id)
+                            .map(taskCount -> ProjectResponse.fromEntity(project, taskCount));
+                });
+    }
+
+    public Mono<Project> findProjectById(Long id) {
+        return projectRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Project not found with ID: " + id)));
+    }
+
+    /**
+     * {@link #findProjectById} behind a share lock on the project, held until the transaction ends,
+     * for task writes that record the project's owner. See the servlet API's
+     * {@code ProjectService.findProjectForTaskWrite}.
+     */
+    public Mono<Project> findProjectForTaskWrite(Long id) {
+        return projectRepository.lockSharedById(id).then(findProjectById(id));
+    }
+
+    @Transactional
+    public Mono<ProjectResponse> updateProject(Long id, ProjectRequest request) {
+        log.debug("Updating project with ID: {}", id);
+
+        return findProjectById(id).zipWhen(project -> userService.getOrCreateCurrentUser())
+                .flatMap(tuple -> {
+                    Project project = tuple.getT1();
+                    if (!project.isOwnedBy(tuple.getT2().getId())) {
+                        return Mono.error(new UnauthorizedException("You don't own this project"));
+                    }
+
+                    project.setName(request.getName());
+                    project.setDescription(request.getDescription());
+                    return projectRepository.update(project);
+                })
+                .flatMap(updatedProject -> projectRepository.countTasks(id).flatMap(taskCount -> {
+                    log.info("Project updated successfully with ID: {}", updatedProject.getId());
+
+                    ProjectResponse response = ProjectResponse.fromEntity(updatedProject, taskCount);
+                    return publishProjectEvent(ProjectEventType.UPDATED, id, response).thenReturn(response);
+                }));
+    }
+
+    @Transactional
+    public Mono<Void> deleteProject(Long id) {
+        log.debug("Deleting project with ID: {}", id);
+
+        return findProjectById(id).zipWhen(project -> userService.getOrCreateCurrentUser())
+                .flatMap(tuple -> {
+                    Project project = tuple.getT1();
+                    if (!project.isOwnedBy(tuple.getT2().getId())) {
+                        return Mono.error(new UnauthorizedException("You don't own this project"));
+                    }
+
+                    return taskTombstoneRepository.recordProjectTasksDeleted(id, project.getOwner().getId(), LocalDateTime.now())
+                            .then(projectRepository.deleteById(id))
+                            .then(Mono.fromRunnable(() -> log.info("Project deleted successfully with ID: {}", id)))
+                            .then(publishProjectEvent(ProjectEventType.DELETED, id, null));
+                });
+    }
+
+    private Mono<Void> publishProjectEvent(ProjectEventType type, Long projectId, ProjectResponse project) {
+        return outboxService.record(ProjectChangedEvent.builder()
+                .type(type)
+                .projectId(projectId)
+                .project(project)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+}
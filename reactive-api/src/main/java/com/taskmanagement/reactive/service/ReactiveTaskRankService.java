@@ -0,0 +1,52 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.reactive.repository.ReactiveTaskRepository;
+import com.taskmanagement.util.FractionalRank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The servlet API's {@code TaskRankService} for the end of a column: one indexed lookup of the last
+ * key, and a respace of the column first when the next key would not fit. Columns with merely long
+ * keys are respaced by the servlet application's {@code TaskRankRebalancer}, which sees these writes
+ * in the shared database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTaskRankService {
+
+    private final ReactiveTaskRepository taskRepository;
+
+    public Mono<String> rankAtEnd(Long projectId, TaskStatus status) {
+        return keyAtEnd(projectId, status)
+                .switchIfEmpty(Mono.defer(() -> rebalance(projectId, status).then(keyAtEnd(projectId, status))));
+    }
+
+    @Transactional
+    public Mono<Integer> rebalance(Long projectId, TaskStatus status) {
+        return taskRepository.lockColumn(projectId, status).collectList().flatMap(column -> {
+            List<String> keys = FractionalRank.spaced(column.size());
+            return Flux.range(0, column.size())
+                    .concatMap(i -> taskRepository.updateRank(column.get(i), keys.get(i)))
+                    .then(Mono.fromSupplier(() -> {
+                        log.info("Respaced ranks of {} {} tasks in project {}", column.size(), status, projectId);
+                        return column.size();
+                    }));
+        });
+    }
+
+    private Mono<String> keyAtEnd(Long projectId, TaskStatus status) {
+        return taskRepository.findLastRank(projectId, status)
+                .map(last -> FractionalRank.between(last, null))
+                .defaultIfEmpty(FractionalRank.between(null, null))
+                .filter(rank -> rank.length() <= FractionalRank.MAX_LENGTH);
+    }
+}
@@ -0,0 +1,261 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.request.UpdateTaskStatusRequest;
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TaskFieldChange;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.Task;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.TaskEventType;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.reactive.repository.ReactiveTaskAuditRepository;
+import com.taskmanagement.reactive.repository.ReactiveTaskRepository;
+import com.taskmanagement.reactive.repository.ReactiveTaskTombstoneRepository;
+import com.taskmanagement.repository.TaskSortKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTaskService {
+
+    // Rows the driver fetches per round trip while a list is streamed.
+    private static final int STREAM_FETCH_SIZE = 256;
+
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveTaskTombstoneRepository taskTombstoneRepository;
+    private final ReactiveTaskAuditRepository taskAuditRepository;
+    private final ReactiveProjectService projectService;
+    private final ReactiveTaskRankService taskRankService;
+    private final ReactiveUserService userService;
+    private final ReactiveOutboxService outboxService;
+
+    @Transactional
+    public Mono<TaskResponse> createTask(Long projectId, TaskRequest request) {
+        log.debug("Creating task in project with ID: {}", projectId);
+
+        return ownedProject(projectService.findProjectForTaskWrite(projectId))
+                .flatMap(access -> taskRepository.existsByTitleAndProjectId(request.getTitle(), projectId)
+                        .flatMap(exists -> exists
+                                ? Mono.error(new ValidationException("Task with title '" + request.getTitle() + "' already exists in this project"))
+                                : taskRankService.rankAtEnd(projectId, request.getStatus()).flatMap(rank -> taskRepository.insert(Task.builder()
+                                        .title(request.getTitle())
+                                        .description(request.getDescription())
+                                        .status(request.getStatus())
+                                        .rank(rank)
+                                        .project(access.getT1())
+                                        .ownerId(access.getT1().getOwner().getId())
+                                        .build())))
+                        .flatMap(savedTask -> {
+                            log.info("Task created successfully with ID: {}", savedTask.getId());
+
+                            List<TaskFieldChange> changes = new ArrayList<>();
+                            addChange(changes, "title", null, savedTask.getTitle());
+                            addChange(changes, "description", null, savedTask.getDescription());
+                            addChange(changes, "status", null, savedTask.getStatus());
+
+                            TaskResponse response = TaskResponse.fromEntity(savedTask);
+                            return publishTaskEvent(TaskEventType.CREATED, projectId, savedTask.getId(), response,
+                                    access.getT2().getId(), changes).thenReturn(response);
+                        }));
+    }
+
+    public Mono<TaskResponse> getTaskById(Long projectId, Long taskId) {
+        log.debug("Fetching task with ID: {} from project: {}", taskId, projectId);
+
+        return readableProject(projectId)
+                .then(findTask(projectId, taskId))
+                .map(TaskResponse::fromEntity);
+    }
+
+    public Mono<PageResponse<TaskResponse>> getTasksByProject(Long projectId, TaskStatus status, TaskSortKey sortKey,
+                                                              Sort.Direction direction, Pageable pageable) {
+        log.debug("Fetching tasks for project: {} with status: {}", projectId, status);
+
+        return readableProject(projectId)
+                .then(Pages.of(
+                        taskRepository.findByProjectId(projectId, status, sortKey, direction,
+                                pageable.getOffset(), pageable.getPageSize()).map(TaskResponse::summaryOf),
+                        taskRepository.countByProjectId(projectId, status),
+                        pageable));
+    }
+
+    public Flux<TaskResponse> streamTasksByProject(Long projectId, TaskStatus status, TaskSortKey sortKey,
+                                                   Sort.Direction direction) {
+        log.debug("Streaming tasks for project: {} with status: {}", projectId, status);
+
+        return readableProject(projectId)
+                .thenMany(taskRepository.streamByProjectId(projectId, status, sortKey, direction, STREAM_FETCH_SIZE))
+                .map(TaskResponse::summaryOf);
+    }
+
+    public Mono<PageResponse<TaskResponse>> getCurrentUserTasks(Pageable pageable, TaskStatus status) {
+        log.debug("Fetching tasks for current user");
+
+        return userService.getOrCreateCurrentUser()
+                .flatMap(currentUser -> ownerTasks(currentUser.getId(), status, pageable));
+    }
+
+    public Flux<TaskResponse> streamCurrentUserTasks(TaskStatus status) {
+        log.debug("Streaming tasks for current user");
+
+        return userService.getOrCreateCurrentUser()
+                .flatMapMany(currentUser -> taskRepository.streamByOwnerId(currentUser.getId(), status, STREAM_FETCH_SIZE))
+                .map(TaskResponse::summaryOf);
+    }
+
+    public Mono<PageResponse<TaskResponse>> getUserTasksById(Long userId, int page, int size, TaskStatus status) {
+        log.debug("Fetching tasks for user: {}", userId);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return userService.requireAdmin("Only admins can view other users' tasks")
+                .then(ownerTasks(userId, status, pageable));
+    }
+
+    @Transactional
+    public Mono<TaskResponse> updateTask(Long projectId, Long taskId, TaskRequest request) {
+        log.debug("Updating task with ID: {} in project: {}", taskId, projectId);
+
+        return ownedProject(projectService.findProjectById(projectId))
+                .flatMap(access -> findTask(projectId, taskId)
+                        .flatMap(task -> (task.getTitle().equals(request.getTitle())
+                                ? Mono.just(false)
+                                : taskRepository.existsByTitleAndProjectId(request.getTitle(), projectId))
+                                .flatMap(duplicate -> {
+                                    if (duplicate) {
+                                        return Mono.error(new ValidationException("Task with title '" + request.getTitle() + "' already exists in this project"));
+                                    }
+
+                                    List<TaskFieldChange> changes = new ArrayList<>();
+                                    addChange(changes, "title", task.getTitle(), request.getTitle());
+                                    addChange(changes, "description", task.getDescription(), request.getDescription());
+                                    addChange(changes, "status", task.getStatus(), request.getStatus());
+
+                                    task.setTitle(request.getTitle());
+                                    task.setDescription(request.getDescription());
+
+                                    return changeStatus(task, request.getStatus()).flatMap(taskRepository::update).flatMap(updatedTask -> {
+                                        log.info("Task updated successfully with ID: {}", updatedTask.getId());
+
+                                        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+                                        return publishTaskEvent(TaskEventType.UPDATED, projectId, taskId, response,
+                                                access.getT2().getId(), changes).thenReturn(response);
+                                    });
+                                })));
+    }
+
+    @Transactional
+    public Mono<TaskResponse> updateTaskStatus(Long projectId, Long taskId, UpdateTaskStatusRequest request) {
+        log.debug("Updating task status for task: {} in project: {}", taskId, projectId);
+
+        return ownedProject(projectService.findProjectById(projectId))
+                .flatMap(access -> findTask(projectId, taskId).flatMap(task -> {
+                    List<TaskFieldChange> changes = new ArrayList<>();
+                    addChange(changes, "status", task.getStatus(), request.getStatus());
+
+                    return changeStatus(task, request.getStatus()).flatMap(taskRepository::updateStatus).flatMap(updatedTask -> {
+                        log.info("Task status updated successfully for ID: {}", updatedTask.getId());
+
+                        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+                        return publishTaskEvent(TaskEventType.STATUS_CHANGED, projectId, taskId, response,
+                                access.getT2().getId(), changes).thenReturn(response);
+                    });
+                }));
+    }
+
+    @Transactional
+    public Mono<Void> deleteTask(Long projectId, Long taskId) {
+        log.debug("Deleting task with ID: {} from project: {}", taskId, projectId);
+
+        return ownedProject(projectService.findProjectForTaskWrite(projectId))
+                .flatMap(access -> findTask(projectId, taskId)
+                        .flatMap(task -> taskRepository.deleteById(taskId))
+                        .then(taskTombstoneRepository.recordTaskDeleted(taskId, projectId,
+                                access.getT1().getOwner().getId(), LocalDateTime.now()))
+                        .then(Mono.fromRunnable(() -> log.info("Task deleted successfully with ID: {}", taskId)))
+                        .then(publishTaskEvent(TaskEventType.DELETED, projectId, taskId, null,
+                                access.getT2().getId(), List.of())));
+    }
+
+    private Mono<Tuple2<Project, User>> ownedProject(Mono<Project> lookup) {
+        return lookup
+                .zipWhen(project -> userService.getOrCreateCurrentUser())
+                .filter(access -> access.getT1().isOwnedBy(access.getT2().getId()))
+                .switchIfEmpty(Mono.error(() -> new UnauthorizedException("You don't own this project")));
+    }
+
+    private Mono<Tuple2<Project, User>> readableProject(Long projectId) {
+        return projectService.findProjectById(projectId)
+                .zipWhen(project -> userService.getOrCreateCurrentUser())
+                .filter(access -> access.getT1().isOwnedBy(access.getT2().getId()) || access.getT2().isAdmin())
+                .switchIfEmpty(Mono.error(() -> new UnauthorizedException("You don't have access to this project")));
+    }
+
+    private Mono<Task> findTask(Long projectId, Long taskId) {
+        return taskRepository.findByIdAndProjectId(taskId, projectId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with ID: " + taskId)));
+    }
+
+    // A task that changes column goes to the end of its new column, as in the servlet API.
+    private Mono<Task> changeStatus(Task task, TaskStatus status) {
+        if (task.getStatus() == status) {
+            return Mono.just(task);
+        }
+        return taskRankService.rankAtEnd(task.getProject().getId(), status).map(rank -> {
+            task.setRank(rank);
+            task.setStatus(status);
+            return task;
+        });
+    }
+
+    private Mono<PageResponse<TaskResponse>> ownerTasks(Long ownerId, TaskStatus status, Pageable pageable) {
+        return Pages.of(
+                taskRepository.findByOwnerId(ownerId, status, pageable.getOffset(), pageable.getPageSize())
+                        .map(TaskResponse::summaryOf),
+                taskRepository.countByOwnerId(ownerId, status),
+                pageable);
+    }
+
+    // Audit rows and outbox rows commit or roll back with the change itself.
+    private Mono<Void> publishTaskEvent(TaskEventType type, Long projectId, Long taskId, TaskResponse task,
+                                        Long actorId, List<TaskFieldChange> changes) {
+        TaskChangedEvent event = TaskChangedEvent.builder()
+                .type(type)
+                .projectId(projectId)
+                .taskId(taskId)
+                .task(task)
+                .actorId(actorId)
+                .changes(changes)
+                .occurredAt(LocalDateTime.now())
+                .build();
+        return taskAuditRepository.insertChanges(event).then(outboxService.record(event));
+    }
+
+    private static void addChange(List<TaskFieldChange> changes, String field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new TaskFieldChange(field,
+                    oldValue != null ? oldValue.toString() : null,
+                    newValue != null ? newValue.toString() : null));
+        }
+    }
+}
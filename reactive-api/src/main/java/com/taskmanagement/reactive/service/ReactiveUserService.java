@@ -0,0 +1,78 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.reactive.repository.ReactiveUserRepository;
+import com.taskmanagement.reactive.security.JwtClaims;
+import com.taskmanagement.reactive.security.ReactiveSecurityContextHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveSecurityContextHelper securityContextHelper;
+
+    public Mono<User> getOrCreateCurrentUser() {
+        return securityContextHelper.getCurrentToken().flatMap(jwt -> {
+            String cognitoSub = jwt.getSubject();
+
+            return userRepository.findByCognitoSub(cognitoSub)
+                    .switchIfEmpty(Mono.defer(() -> {
+                        log.info("Creating new user with Cognito sub: {}", cognitoSub);
+
+                        User newUser = User.builder()
+                                .cognitoSub(cognitoSub)
+                                .email(JwtClaims.getEmail(jwt))
+                                .name(JwtClaims.getName(jwt))
+                                .role(JwtClaims.getRole(jwt))
+                                .build();
+
+                        // A concurrent first request from the same user may have inserted the row.
+                        return userRepository.insert(newUser)
+                                .onErrorResume(DataIntegrityViolationException.class,
+                                        e -> userRepository.findByCognitoSub(cognitoSub));
+                    }));
+        });
+    }
+
+    public Mono<UserResponse> getCurrentUserProfile() {
+        log.debug("Fetching current user profile");
+        return getOrCreateCurrentUser().map(UserResponse::fromEntity);
+    }
+
+    public Mono<UserResponse> getUserProfileById(Long userId) {
+        log.debug("Fetching user profile for user ID: {}", userId);
+
+        return requireAdmin("Only admins can view other users' profiles")
+                .then(userRepository.findById(userId))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found with ID: " + userId)))
+                .map(UserResponse::fromEntity);
+    }
+
+    public Mono<PageResponse<UserResponse>> getAllUsers(int page, int size) {
+        log.debug("Fetching all users - page: {}, size: {}", page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return requireAdmin("Only admins can view all users")
+                .then(Pages.of(userRepository.findAll(pageable.getOffset(), pageable.getPageSize())
+                        .map(UserResponse::fromEntity), userRepository.count(), pageable));
+    }
+
+    public Mono<User> requireAdmin(String message) {
+        return getOrCreateCurrentUser()
+                .filter(User::isAdmin)
+                .switchIfEmpty(Mono.error(() -> new UnauthorizedException(message)));
+    }
+}
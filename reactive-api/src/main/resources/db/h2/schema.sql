@@ -0,0 +1,93 @@
+-- The Postgres schema after the servlet API's Flyway migrations, for in-memory H2 databases.
+-- TEXT columns are VARCHAR here, which H2 reads back as strings rather than CLOB handles.
+-- H2 has no partial indexes, so those cover every row. SchemaSyncTest compares this with Flyway.
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cognito_sub VARCHAR(255) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255),
+    role VARCHAR(50) NOT NULL DEFAULT 'USER',
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_cognito_sub ON users (cognito_sub);
+CREATE INDEX IF NOT EXISTS idx_email ON users (email);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR,
+    description_preview VARCHAR(200),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_projects_owner_name ON projects (owner_id, name);
+CREATE INDEX IF NOT EXISTS idx_projects_owner_created ON projects (owner_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_projects_owner_updated ON projects (owner_id, updated_at, id);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id BIGINT NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    owner_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR,
+    description_preview VARCHAR(200),
+    status SMALLINT NOT NULL CHECK (status BETWEEN 0 AND 2),
+    rank VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT unique_task_title_per_project UNIQUE (title, project_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created ON tasks (project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_created ON tasks (project_id, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_updated ON tasks (project_id, status, updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_rank ON tasks (project_id, status, rank, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_long_rank ON tasks (project_id, status);
+CREATE INDEX IF NOT EXISTS idx_tasks_owner_created ON tasks (owner_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_owner_status_created ON tasks (owner_id, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_owner_updated ON tasks (owner_id, updated_at, id);
+
+CREATE TABLE IF NOT EXISTS task_tombstones (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    owner_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_owner ON task_tombstones (owner_id, id);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    endpoint VARCHAR(100) NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload VARCHAR NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    delivered_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_due ON outbox_events (endpoint, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_outbox_finished ON outbox_events (next_attempt_at);
+
+CREATE TABLE IF NOT EXISTS task_audit (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    field VARCHAR(50) NOT NULL,
+    old_value VARCHAR,
+    new_value VARCHAR,
+    changed_by BIGINT,
+    changed_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_audit_task ON task_audit (task_id, id);
@@ -0,0 +1,297 @@
+package com.taskmanagement.reactive.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskmanagement.util.FractionalRank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("Reactive API Tests")
+class ReactiveApiIntegrationTest {
+
+    // The database behind the test profile's R2DBC URL.
+    private static final String JDBC_URL = "jdbc:h2:mem:reactive-testdb;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private String subject;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        subject = "reactive-" + UUID.randomUUID();
+        client = as(subject, "USER");
+    }
+
+    @Test
+    @DisplayName("Should create the user from token claims on first request")
+    void shouldCreateUserFromToken() {
+        client.get().uri("/api/users/me")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo(subject + "@example.com")
+                .jsonPath("$.name").isEqualTo("Reactive User")
+                .jsonPath("$.role").isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("Should reject requests without a token")
+    void shouldRejectAnonymousRequests() {
+        webTestClient.get().uri("/api/users/me")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Should create, list, update and delete tasks with the servlet API's contract")
+    void shouldManageTasks() {
+        long projectId = createProject("Reactive project");
+
+        JsonNode task = client.post().uri("/api/projects/{projectId}/tasks", projectId)
+                .bodyValue(Map.of("title", "First task", "description", "  Spread \n over lines  ", "status", "TODO"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        assertThat(task.get("descriptionPreview").asText()).isEqualTo("Spread over lines");
+        assertThat(task.get("projectName").asText()).isEqualTo("Reactive project");
+        long taskId = task.get("id").asLong();
+
+        client.post().uri("/api/projects/{projectId}/tasks", projectId)
+                .bodyValue(Map.of("title", "First task", "status", "TODO"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Task with title 'First task' already exists in this project");
+
+        client.patch().uri("/api/projects/{projectId}/tasks/{taskId}/status", projectId, taskId)
+                .bodyValue(Map.of("status", "DONE"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("DONE");
+
+        client.get().uri("/api/projects/{projectId}/tasks?status=DONE&fields=id,status", projectId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1)
+                .jsonPath("$.content[0].id").isEqualTo(taskId)
+                .jsonPath("$.content[0].title").doesNotExist();
+
+        client.get().uri("/api/projects/{projectId}", projectId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.taskCount").isEqualTo(1);
+
+        client.delete().uri("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        assertThat(count("SELECT COUNT(*) FROM task_audit WHERE task_id = " + taskId)).isEqualTo(4);
+        assertThat(count("SELECT COUNT(*) FROM task_tombstones WHERE task_id = " + taskId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream a project's tasks as newline-delimited JSON")
+    void shouldStreamTasks() {
+        long projectId = createProject("Streamed project");
+        for (int i = 0; i < 5; i++) {
+            client.post().uri("/api/projects/{projectId}/tasks", projectId)
+                    .bodyValue(Map.of("title", "Task " + i, "description", "Not in the list view", "status", "TODO"))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        List<JsonNode> tasks = client.get().uri("/api/projects/{projectId}/tasks?sortBy=createdAt&direction=ASC", projectId)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(JsonNode.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(tasks).extracting(task -> task.get("title").asText())
+                .containsExactly("Task 0", "Task 1", "Task 2", "Task 3", "Task 4");
+        assertThat(tasks).allSatisfy(task -> assertThat(task.has("description")).isFalse());
+        assertThat(tasks).extracting(task -> task.get("rank").asText()).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should enforce project ownership, admin access and request validation")
+    void shouldEnforceAccessRules() {
+        long projectId = createProject("Private project");
+
+        as("reactive-" + UUID.randomUUID(), "USER").get().uri("/api/projects/{projectId}", projectId)
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("You don't have access to this project");
+
+        as("reactive-" + UUID.randomUUID(), "ADMIN").get().uri("/api/projects/{projectId}/tasks", projectId)
+                .exchange()
+                .expectStatus().isOk();
+
+        client.get().uri("/api/users")
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Access denied");
+
+        client.post().uri("/api/projects")
+                .bodyValue(Map.of("name", "x"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Validation failed")
+                .jsonPath("$.validationErrors[0].field").isEqualTo("name");
+
+        client.get().uri("/api/projects?sortBy=title")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should search the current user's projects by name")
+    void shouldSearchProjects() {
+        createProject("Alpha launch");
+        createProject("Beta 100% done");
+
+        client.get().uri("/api/projects/search?searchTerm={term}", "100%")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1)
+                .jsonPath("$.content[0].name").isEqualTo("Beta 100% done")
+                .jsonPath("$.content[0].taskCount").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should respace a column whose next key would not fit before adding a task to its end")
+    void shouldRespaceColumnWhenKeyWouldNotFit() {
+        long projectId = createProject("Crowded column");
+        long first = createTask(projectId, "First");
+        databaseClient.sql("UPDATE tasks SET rank = :rank WHERE id = :id")
+                .bind("rank", "z".repeat(FractionalRank.MAX_LENGTH))
+                .bind("id", first)
+                .then()
+                .block();
+
+        long second = createTask(projectId, "Second");
+
+        List<String> ranks = databaseClient.sql("SELECT id, rank FROM tasks WHERE project_id = :projectId ORDER BY rank")
+                .bind("projectId", projectId)
+                .map(row -> row.get("id", Long.class) + ":" + row.get("rank", String.class))
+                .all()
+                .collectList()
+                .block();
+        assertThat(ranks).hasSize(2);
+        assertThat(ranks.get(0)).startsWith(first + ":");
+        assertThat(ranks.get(1)).startsWith(second + ":");
+        assertThat(ranks).allSatisfy(rank -> assertThat(rank.substring(rank.indexOf(':') + 1))
+                .hasSizeLessThanOrEqualTo(FractionalRank.REBALANCE_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Should make task creates and deletes wait for a lock on the project, as an owner transfer takes")
+    void shouldLockProjectForTaskWrites() throws Exception {
+        long projectId = createProject("Locked project");
+        long taskId = createTask(projectId, "Locked task");
+
+        assertThat(whileProjectLocked(projectId, () -> client.post().uri("/api/projects/{projectId}/tasks", projectId)
+                .bodyValue(Map.of("title", "Created while locked", "status", "TODO"))))
+                .isEqualTo(HttpStatus.CREATED);
+        assertThat(whileProjectLocked(projectId, () -> client.delete()
+                .uri("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)))
+                .isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    // Holds the row lock an owner transfer takes, checks the request waits for it, then releases it.
+    private HttpStatusCode whileProjectLocked(long projectId, Supplier<WebTestClient.RequestHeadersSpec<?>> request)
+            throws Exception {
+        CompletableFuture<HttpStatusCode> response;
+        try (Connection transfer = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = transfer.createStatement()) {
+            transfer.setAutoCommit(false);
+            statement.execute("SELECT id FROM projects WHERE id = " + projectId + " FOR UPDATE");
+
+            response = CompletableFuture.supplyAsync(() -> request.get().exchange().returnResult(Void.class).getStatus());
+            assertThatThrownBy(() -> response.get(300, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            transfer.commit();
+        }
+        return response.get(5, TimeUnit.SECONDS);
+    }
+
+    private long createTask(long projectId, String title) {
+        return client.post().uri("/api/projects/{projectId}/tasks", projectId)
+                .bodyValue(Map.of("title", title, "status", "TODO"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class).returnResult().getResponseBody()
+                .get("id").asLong();
+    }
+
+    private long createProject(String name) {
+        return client.post().uri("/api/projects")
+                .bodyValue(Map.of("name", name, "description", "Created by the reactive API test"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class).returnResult().getResponseBody()
+                .get("id").asLong();
+    }
+
+    private WebTestClient as(String sub, String role) {
+        return webTestClient.mutateWith(mockJwt()
+                .jwt(jwt -> jwt.subject(sub)
+                        .claim("email", sub + "@example.com")
+                        .claim("name", "Reactive User")
+                        .claim("custom:role", role))
+                .authorities(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+
+    private long count(String sql) {
+        return databaseClient.sql(sql)
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one()
+                .block();
+    }
+}
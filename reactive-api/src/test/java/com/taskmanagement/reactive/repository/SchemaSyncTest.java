@@ -0,0 +1,158 @@
+package com.taskmanagement.reactive.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Checks that {@code db/h2/schema.sql} still matches the servlet API's Flyway migrations: tables,
+ * column types and nullability, keys and index names and columns. The migrations only run on
+ * PostgreSQL, so this needs a server, e.g.
+ * {@code TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/task_management_dev} with docker-compose.
+ * Index predicates are not compared, since H2 has no partial indexes.
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@DisplayName("H2 schema Tests")
+class SchemaSyncTest {
+
+    private static final String SCHEMA = "reactive_schema_sync";
+    private static final String FLYWAY_HISTORY_TABLE = "flyway_schema_history";
+
+    @Test
+    @DisplayName("Should match the schema created by the Flyway migrations")
+    void shouldMatchFlywaySchema() throws SQLException {
+        Flyway flyway = Flyway.configure()
+                .dataSource(System.getenv("TEST_POSTGRES_URL"),
+                        System.getenv("TEST_POSTGRES_USERNAME"), System.getenv("TEST_POSTGRES_PASSWORD"))
+                .schemas(SCHEMA)
+                .cleanDisabled(false)
+                .load();
+        List<String> migrated;
+        try {
+            flyway.clean();
+            flyway.migrate();
+            try (Connection postgres = flyway.getConfiguration().getDataSource().getConnection()) {
+                migrated = describe(postgres, SCHEMA);
+            }
+        } finally {
+            flyway.clean();
+        }
+
+        List<String> embedded;
+        try (Connection h2 = DriverManager.getConnection("jdbc:h2:mem:schema-sync;MODE=PostgreSQL", "sa", "");
+             Statement statement = h2.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:db/h2/schema.sql'");
+            embedded = describe(h2, "PUBLIC");
+        }
+
+        assertThat(migrated).isNotEmpty();
+        assertThat(embedded).isEqualTo(migrated);
+    }
+
+    /**
+     * One line per column, primary key, foreign key, unique constraint and named index, sorted, with
+     * vendor-specific names (primary keys, unique constraints, H2's foreign key indexes) left out.
+     */
+    private static List<String> describe(Connection connection, String schema) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        TreeSet<String> lines = new TreeSet<>();
+
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = metaData.getTables(null, schema, "%", new String[]{"TABLE"})) {
+            while (rs.next()) {
+                String table = rs.getString("TABLE_NAME");
+                if (!table.equalsIgnoreCase(FLYWAY_HISTORY_TABLE)) {
+                    tables.add(table);
+                }
+            }
+        }
+
+        for (String table : tables) {
+            String name = table.toLowerCase();
+
+            try (ResultSet rs = metaData.getColumns(null, schema, table, "%")) {
+                while (rs.next()) {
+                    lines.add(name + "." + rs.getString("COLUMN_NAME").toLowerCase() + " " + type(rs)
+                            + (rs.getInt("NULLABLE") == DatabaseMetaData.columnNoNulls ? " NOT NULL" : ""));
+                }
+            }
+
+            List<String> primaryKey = new ArrayList<>();
+            try (ResultSet rs = metaData.getPrimaryKeys(null, schema, table)) {
+                while (rs.next()) {
+                    primaryKey.add(rs.getString("COLUMN_NAME").toLowerCase());
+                }
+            }
+            lines.add(name + " PRIMARY KEY (" + String.join(", ", primaryKey) + ")");
+
+            try (ResultSet rs = metaData.getImportedKeys(null, schema, table)) {
+                while (rs.next()) {
+                    lines.add(name + " FOREIGN KEY (" + rs.getString("FKCOLUMN_NAME").toLowerCase() + ") REFERENCES "
+                            + rs.getString("PKTABLE_NAME").toLowerCase() + " (" + rs.getString("PKCOLUMN_NAME").toLowerCase()
+                            + ") ON DELETE " + deleteRule(rs.getShort("DELETE_RULE")));
+                }
+            }
+
+            Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+            Map<String, Boolean> indexUnique = new LinkedHashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(null, schema, table, false, false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    if (index == null) {
+                        continue;
+                    }
+                    indexColumns.computeIfAbsent(index.toLowerCase(), key -> new ArrayList<>())
+                            .add(rs.getString("COLUMN_NAME").toLowerCase());
+                    indexUnique.put(index.toLowerCase(), !rs.getBoolean("NON_UNIQUE"));
+                }
+            }
+            indexColumns.forEach((index, columns) -> {
+                String definition = "(" + String.join(", ", columns) + ")";
+                boolean unique = indexUnique.get(index);
+                if (index.startsWith("idx_")) {
+                    lines.add(name + (unique ? " UNIQUE INDEX " : " INDEX ") + index + " " + definition);
+                } else if (unique && !columns.equals(primaryKey)) {
+                    lines.add(name + " UNIQUE " + definition);
+                }
+            });
+        }
+        return new ArrayList<>(lines);
+    }
+
+    // TEXT and unbounded VARCHAR both report a huge size; only declared lengths are compared.
+    private static String type(ResultSet column) throws SQLException {
+        int dataType = column.getInt("DATA_TYPE");
+        String name = JDBCType.valueOf(dataType).getName();
+        return switch (dataType) {
+            case Types.VARCHAR -> column.getInt("COLUMN_SIZE") < 1_000_000 ? name + "(" + column.getInt("COLUMN_SIZE") + ")" : name;
+            case Types.TIMESTAMP -> name + "(" + column.getInt("DECIMAL_DIGITS") + ")";
+            default -> name;
+        };
+    }
+
+    private static String deleteRule(short rule) {
+        return switch (rule) {
+            case DatabaseMetaData.importedKeyCascade -> "CASCADE";
+            case DatabaseMetaData.importedKeySetNull -> "SET NULL";
+            case DatabaseMetaData.importedKeySetDefault -> "SET DEFAULT";
+            default -> "NO ACTION";
+        };
+    }
+}
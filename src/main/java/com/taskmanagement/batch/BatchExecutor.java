@@ -0,0 +1,380 @@
+package com.taskmanagement.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.taskmanagement.config.BatchConfig;
+import com.taskmanagement.datasource.ConsistencyToken;
+import com.taskmanagement.dto.request.BatchRequest;
+import com.taskmanagement.dto.response.BatchResponse;
+import com.taskmanagement.dto.response.ErrorResponse;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.security.RateLimitFilter;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the items of a {@code POST /api/batch} through a dedicated {@link DispatcherServlet}, so
+ * each item gets the same handler mappings, interceptors, validation and exception handling as a
+ * standalone call, without another trip through the servlet filters. The batch was authenticated
+ * once; items inherit its security context and method-level authorization still applies. Each item
+ * is charged to the caller's rate limit for its own class and answered with {@code 429} when over it.
+ *
+ * <p>Independent items run in order, except that consecutive GETs run concurrently, at most
+ * {@code app.batch.max-concurrent-reads} at a time. Transactional
+ * batches run every item in order inside one transaction that is rolled back as soon as an item
+ * fails; the items after it are answered with {@code 424 Failed Dependency}.
+ */
+@Component
+@Slf4j
+public class BatchExecutor {
+
+    /** Set on every item, so an item that reaches the batch endpoint in any spelling can be refused. */
+    public static final String ITEM_ATTRIBUTE = BatchExecutor.class.getName() + ".item";
+
+    private static final Set<String> METHODS = Set.of("GET", "POST", "PUT", "PATCH", "DELETE");
+    private static final String BATCH_PATH = "/api/batch";
+
+    private final WebApplicationContext applicationContext;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final BatchConfig batchConfig;
+    private final RateLimitFilter rateLimitFilter;
+    private final ThreadPoolExecutor executor;
+    private volatile DispatcherServlet dispatcher;
+
+    public BatchExecutor(WebApplicationContext applicationContext,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         BatchConfig batchConfig,
+                         RateLimitFilter rateLimitFilter) {
+        this.applicationContext = applicationContext;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        this.batchConfig = batchConfig;
+        this.rateLimitFilter = rateLimitFilter;
+        this.executor = new ThreadPoolExecutor(
+                batchConfig.getCorePoolSize(),
+                batchConfig.getMaxPoolSize(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(batchConfig.getQueueCapacity()),
+                new CustomizableThreadFactory("batch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public BatchResponse execute(BatchRequest batch, HttpServletRequest request, HttpServletResponse response) {
+        List<BatchRequest.Item> items = batch.getRequests();
+        validate(items);
+
+        long deadline = System.nanoTime() + batchConfig.getTimeout().toNanos();
+        Context context = new Context(request, response, request.getHeader(ConsistencyToken.HEADER));
+        BatchResponse.Item[] results = new BatchResponse.Item[items.size()];
+
+        Boolean committed = null;
+        if (batch.isTransactional()) {
+            committed = executeInTransaction(items, results, context, deadline);
+        } else {
+            executeIndependently(items, results, context, deadline);
+        }
+
+        String token = context.consistencyToken;
+        if (token != null && !token.equals(request.getHeader(ConsistencyToken.HEADER)) && !response.isCommitted()) {
+            response.setHeader(ConsistencyToken.HEADER, token);
+        }
+
+        return BatchResponse.builder()
+                .responses(List.of(results))
+                .committed(committed)
+                .build();
+    }
+
+    private void validate(List<BatchRequest.Item> items) {
+        if (items.size() > batchConfig.getMaxRequests()) {
+            throw new ValidationException("A batch may contain at most " + batchConfig.getMaxRequests() + " requests");
+        }
+        for (BatchRequest.Item item : items) {
+            if (!METHODS.contains(item.getMethod())) {
+                throw new ValidationException("Unsupported method '" + item.getMethod() + "', expected any of: " + String.join(", ", METHODS));
+            }
+            String path = item.getPath();
+            String route = path.split("[?#]", 2)[0];
+            if (!route.startsWith("/api/") || route.equals(BATCH_PATH) || route.startsWith(BATCH_PATH + "/")
+                    || route.matches(".*/\\.{1,2}(/.*)?") || route.contains("%") || route.contains(";")) {
+                throw new ValidationException("Unsupported path '" + path + "', expected an /api/ resource other than " + BATCH_PATH);
+            }
+        }
+    }
+
+    private void executeIndependently(List<BatchRequest.Item> items, BatchResponse.Item[] results,
+                                      Context context, long deadline) {
+        int start = 0;
+        while (start < items.size()) {
+            int end = start + 1;
+            if (isRead(items.get(start))) {
+                while (end < items.size() && end - start < batchConfig.getMaxConcurrentReads() && isRead(items.get(end))) {
+                    end++;
+                }
+            }
+
+            if (end - start == 1) {
+                BatchRequest.Item item = items.get(start);
+                results[start] = System.nanoTime() < deadline ? dispatch(item, context) : timedOut(item);
+            } else {
+                executeConcurrently(items.subList(start, end), results, start, context, deadline);
+            }
+            start = end;
+        }
+    }
+
+    private void executeConcurrently(List<BatchRequest.Item> reads, BatchResponse.Item[] results, int offset,
+                                     Context context, long deadline) {
+        List<Future<BatchResponse.Item>> futures = new ArrayList<>(reads.size());
+        for (BatchRequest.Item item : reads) {
+            try {
+                futures.add(executor.submit(new DelegatingSecurityContextCallable<>(() -> dispatch(item, context))));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            BatchRequest.Item item = reads.get(i);
+            Future<BatchResponse.Item> future = futures.get(i);
+            if (future == null) {
+                results[offset + i] = error(item, HttpStatus.SERVICE_UNAVAILABLE, "Too many batch requests in progress");
+                continue;
+            }
+            try {
+                results[offset + i] = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                results[offset + i] = timedOut(item);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.stream().filter(Objects::nonNull).forEach(pending -> pending.cancel(true));
+                results[offset + i] = timedOut(item);
+            } catch (ExecutionException e) {
+                log.error("Batch request {} {} failed", item.getMethod(), item.getPath(), e.getCause());
+                results[offset + i] = error(item, HttpStatus.INTERNAL_SERVER_ERROR, "Request processing failed");
+            }
+        }
+    }
+
+    private boolean executeInTransaction(List<BatchRequest.Item> items, BatchResponse.Item[] results,
+                                         Context context, long deadline) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(deadline - System.nanoTime())));
+
+        try {
+            Boolean committed = transaction.execute(status -> {
+                boolean failed = false;
+                for (int i = 0; i < items.size(); i++) {
+                    BatchRequest.Item item = items.get(i);
+                    if (failed) {
+                        results[i] = error(item, HttpStatus.FAILED_DEPENDENCY, "Not executed because an earlier request in the batch failed");
+                        continue;
+                    }
+                    results[i] = System.nanoTime() < deadline ? dispatch(item, context) : timedOut(item);
+                    failed = results[i].getStatus() >= 400;
+                }
+                if (failed) {
+                    status.setRollbackOnly();
+                }
+                return !failed;
+            });
+            return Boolean.TRUE.equals(committed);
+        } catch (TransactionException e) {
+            log.warn("Batch transaction was rolled back: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private BatchResponse.Item dispatch(BatchRequest.Item item, Context context) {
+        SubRequest request;
+        try {
+            byte[] body = item.getBody() != null ? objectMapper.writeValueAsBytes(item.getBody()) : new byte[0];
+            request = new SubRequest(context.request, item.getMethod(), item.getPath(), body, context.consistencyToken);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return error(item, HttpStatus.BAD_REQUEST, "Malformed request: " + e.getMessage());
+        }
+
+        long waitNanos = rateLimitFilter.tryAcquire(request);
+        if (waitNanos > 0) {
+            return error(item, HttpStatus.TOO_MANY_REQUESTS,
+                    "Rate limit exceeded, retry after " + RateLimitFilter.retryAfterSeconds(waitNanos) + " seconds");
+        }
+
+        CapturedResponse response = new CapturedResponse(context.response);
+        try {
+            dispatcher().service(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            log.error("Batch request {} {} failed", item.getMethod(), item.getPath(), e);
+            return error(item, HttpStatus.INTERNAL_SERVER_ERROR, "Request processing failed");
+        }
+
+        String issued = response.getHeader(ConsistencyToken.HEADER);
+        if (issued != null) {
+            context.issued(issued);
+        }
+        return BatchResponse.Item.builder()
+                .id(item.getId())
+                .status(response.status())
+                .body(bodyOf(item, response))
+                .build();
+    }
+
+    private JsonNode bodyOf(BatchRequest.Item item, CapturedResponse response) {
+        byte[] body = response.body();
+        if (body.length == 0) {
+            HttpStatus status = HttpStatus.resolve(response.status());
+            return response.status() >= 400
+                    ? errorBody(item, response.status(), status != null ? status.getReasonPhrase() : null, null)
+                    : null;
+        }
+
+        String contentType = response.getContentType();
+        if (contentType == null || MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                log.debug("Batch response for {} {} is not JSON, returning it as text", item.getMethod(), item.getPath());
+            }
+        }
+        return TextNode.valueOf(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private BatchResponse.Item timedOut(BatchRequest.Item item) {
+        return error(item, HttpStatus.GATEWAY_TIMEOUT, "Batch did not complete within " + batchConfig.getTimeout().toMillis() + " ms");
+    }
+
+    private BatchResponse.Item error(BatchRequest.Item item, HttpStatus status, String message) {
+        return BatchResponse.Item.builder()
+                .id(item.getId())
+                .status(status.value())
+                .body(errorBody(item, status.value(), status.getReasonPhrase(), message))
+                .build();
+    }
+
+    private JsonNode errorBody(BatchRequest.Item item, int status, String error, String message) {
+        return objectMapper.valueToTree(ErrorResponse.builder()
+                .status(status)
+                .error(error)
+                .message(message)
+                .path(item.getPath())
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    private static boolean isRead(BatchRequest.Item item) {
+        return "GET".equals(item.getMethod());
+    }
+
+    /*
+     * Created on first use rather than borrowed from the container, so the same code path works
+     * under MockMvc, where the application's DispatcherServlet bean is never initialized.
+     */
+    private DispatcherServlet dispatcher() throws ServletException {
+        DispatcherServlet current = dispatcher;
+        if (current == null) {
+            synchronized (this) {
+                current = dispatcher;
+                if (current == null) {
+                    current = new DispatcherServlet(applicationContext);
+                    current.setPublishContext(false);
+                    current.setPublishEvents(false);
+                    current.init(new BatchServletConfig(applicationContext.getServletContext()));
+                    dispatcher = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    private static final class Context {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private volatile String consistencyToken;
+
+        private Context(HttpServletRequest request, HttpServletResponse response, String consistencyToken) {
+            this.request = request;
+            this.response = response;
+            this.consistencyToken = consistencyToken;
+        }
+
+        // Later items must observe earlier writes, so they are pinned to the newest commit position.
+        private synchronized void issued(String token) {
+            try {
+                if (consistencyToken == null || ConsistencyToken.parse(token) > ConsistencyToken.parse(consistencyToken)) {
+                    consistencyToken = token;
+                }
+            } catch (IllegalArgumentException e) {
+                consistencyToken = token;
+            }
+        }
+    }
+
+    private record BatchServletConfig(ServletContext servletContext) implements ServletConfig {
+
+        @Override
+        public String getServletName() {
+            return "batch";
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return servletContext;
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return null;
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return Collections.emptyEnumeration();
+        }
+    }
+}
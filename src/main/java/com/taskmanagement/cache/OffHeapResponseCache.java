@@ -0,0 +1,161 @@
+package com.taskmanagement.cache;
+
+import com.taskmanagement.config.ResponseCacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Encoded responses in direct buffers, split into stripes by key. Each stripe is an LRU with an
+ * equal share of the byte budget and its own lock, so lookups only contend with others that hash
+ * to the same stripe. Entries expire after {@code app.response-cache.ttl} even when no write on
+ * this node bumps their generation.
+ */
+@Component
+@Slf4j
+public class OffHeapResponseCache {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long maxEntryBytes;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public OffHeapResponseCache(ResponseCacheConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    OffHeapResponseCache(ResponseCacheConfig config, LongSupplier clock) {
+        int count = Integer.highestOneBit(Math.max(1, config.getStripes()));
+        long stripeBytes = config.getMaxSize().toBytes() / count;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(stripeBytes);
+        }
+        this.mask = count - 1;
+        this.maxEntryBytes = Math.min(config.getMaxEntrySize().toBytes(), stripeBytes);
+        this.ttlNanos = config.getTtl().toNanos();
+        this.clock = clock;
+    }
+
+    public CachedResponse get(String key, long generation) {
+        CachedResponse cached = stripe(key).get(key, generation, clock.getAsLong());
+
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached;
+    }
+
+    public boolean put(String key, long generation, String contentType, byte[] body) {
+        if (body.length > maxEntryBytes) {
+            return false;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(body.length);
+        buffer.put(body).flip();
+        CachedResponse cached = new CachedResponse(generation, clock.getAsLong() + ttlNanos, contentType,
+                buffer.asReadOnlyBuffer());
+
+        stripe(key).put(key, cached);
+        return true;
+    }
+
+    public long getUsedBytes() {
+        return Arrays.stream(stripes).mapToLong(Stripe::usedBytes).sum();
+    }
+
+    public int getEntryCount() {
+        return Arrays.stream(stripes).mapToInt(Stripe::size).sum();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private final class Stripe {
+
+        private final long maxBytes;
+        private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private long usedBytes;
+
+        private Stripe(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        private synchronized CachedResponse get(String key, long generation, long now) {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && (cached.generation() != generation || now - cached.expiresAt() >= 0)) {
+                remove(key);
+                return null;
+            }
+            return cached;
+        }
+
+        private synchronized void put(String key, CachedResponse cached) {
+            remove(key);
+            Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+            while (usedBytes + cached.length() > maxBytes && eldest.hasNext()) {
+                usedBytes -= eldest.next().getValue().length();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+            entries.put(key, cached);
+            usedBytes += cached.length();
+        }
+
+        private synchronized long usedBytes() {
+            return usedBytes;
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private void remove(String key) {
+            CachedResponse removed = entries.remove(key);
+            if (removed != null) {
+                usedBytes -= removed.length();
+            }
+        }
+    }
+
+    public record CachedResponse(long generation, long expiresAt, String contentType, ByteBuffer body) {
+
+        public int length() {
+            return body.capacity();
+        }
+
+        public ByteBuffer content() {
+            return body.duplicate();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskmanagement.cache;
+
+import com.taskmanagement.config.ResponseCacheConfig;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TaskRanksRespacedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class ProjectGenerations {
+
+    private final AtomicLongArray generations;
+    private final int mask;
+
+    public ProjectGenerations(ResponseCacheConfig config) {
+        int stripes = Integer.highestOneBit(Math.max(1, config.getGenerationStripes() - 1)) << 1;
+        this.generations = new AtomicLongArray(stripes);
+        this.mask = stripes - 1;
+    }
+
+    public long current(Long projectId) {
+        return generations.get(stripe(projectId));
+    }
+
+    public void bump(Long projectId) {
+        generations.incrementAndGet(stripe(projectId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        bump(event.getProjectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRanksRespaced(TaskRanksRespacedEvent event) {
+        bump(event.getProjectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        bump(event.getProjectId());
+    }
+
+    private int stripe(Long projectId) {
+        long h = projectId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
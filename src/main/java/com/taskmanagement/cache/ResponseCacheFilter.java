@@ -0,0 +1,136 @@
+package com.taskmanagement.cache;
+
+import com.taskmanagement.config.ResponseCacheConfig;
+import com.taskmanagement.security.SecurityContextHelper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String CACHE_HEADER = "X-Cache";
+
+    private static final List<MediaType> CACHEABLE_TYPES = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
+    private static final Pattern PROJECT_TASKS = Pattern.compile("^/api/projects/(\\d+)/tasks/?$");
+
+    private final OffHeapResponseCache responseCache;
+    private final ProjectGenerations projectGenerations;
+    private final SecurityContextHelper securityContextHelper;
+    private final ResponseCacheConfig config;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !PROJECT_TASKS.matcher(path(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!securityContextHelper.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = path(request);
+        Matcher matcher = PROJECT_TASKS.matcher(path);
+        matcher.matches();
+        Long projectId = Long.valueOf(matcher.group(1));
+
+        String key = principalScope() + '|' + path + '?' + normalizedQuery(request)
+                + '|' + request.getHeader(HttpHeaders.ACCEPT);
+        long generation = projectGenerations.current(projectId);
+
+        OffHeapResponseCache.CachedResponse cached = responseCache.get(key, generation);
+        if (cached != null) {
+            writeCached(response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            String contentType = wrapper.getContentType();
+            if (wrapper.getStatus() == HttpStatus.OK.value() && isCacheable(contentType)) {
+                responseCache.put(key, generation, contentType, wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeCached(HttpServletResponse response, OffHeapResponseCache.CachedResponse cached) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.length());
+        response.setHeader(CACHE_HEADER, "HIT");
+
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        ByteBuffer body = cached.content();
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+
+    private static boolean isCacheable(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return CACHEABLE_TYPES.stream().anyMatch(type -> type.isCompatibleWith(mediaType));
+    }
+
+    private String principalScope() {
+        return securityContextHelper.getCurrentUserCognitoSub() + ':' + securityContextHelper.getCurrentUserRole();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String normalizedQuery(HttpServletRequest request) {
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : parameter.getValue()) {
+                if (!query.isEmpty()) {
+                    query.append('&');
+                }
+                query.append(URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        }
+        return query.toString();
+    }
+}
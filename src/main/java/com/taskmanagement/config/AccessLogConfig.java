@@ -0,0 +1,17 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.access-log")
+@Data
+public class AccessLogConfig {
+
+    private boolean enabled = true;
+    private double successSampleRate = 0.1;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
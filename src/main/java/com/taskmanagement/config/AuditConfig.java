@@ -0,0 +1,18 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.audit")
+@Data
+public class AuditConfig {
+
+    private int bufferSize = 8192;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(200);
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
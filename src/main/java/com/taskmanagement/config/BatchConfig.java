@@ -0,0 +1,21 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.batch")
+@Data
+public class BatchConfig {
+
+    private int maxRequests = 30;
+    private Duration timeout = Duration.ofSeconds(10);
+    // Each running read holds a pooled connection, so these stay well below the Hikari pool size.
+    private int maxConcurrentReads = 3;
+    private int corePoolSize = 4;
+    private int maxPoolSize = 4;
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,66 @@
+package com.taskmanagement.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.Data;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+@Data
+public class CacheConfig {
+
+    public static final String PROJECT_REGION = "projects";
+    public static final String USER_REGION = "users";
+    public static final String USER_NATURAL_ID_REGION = "users-by-cognito-sub";
+
+    private static final List<String> REGIONS = List.of(PROJECT_REGION, USER_REGION, USER_NATURAL_ID_REGION);
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    @Data
+    public static class Region {
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, createCacheManager());
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private CacheManager createCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("task-management:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String name : REGIONS) {
+            Region region = regions.getOrDefault(name, new Region());
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        }
+        return cacheManager;
+    }
+}
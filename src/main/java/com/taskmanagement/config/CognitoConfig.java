@@ -13,4 +13,5 @@ public class CognitoConfig {
     private String userPoolId;
     private String clientId;
     private String issuerUri;
+    private String jwksUri;
 }
\ No newline at end of file
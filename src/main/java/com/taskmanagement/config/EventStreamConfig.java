@@ -0,0 +1,19 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.events")
+@Data
+public class EventStreamConfig {
+
+    private int bufferSize = 256;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+    private int dispatchThreads = 2;
+    private Duration sendTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.datasource.ReplicaRoutingDataSource;
+import com.taskmanagement.monitoring.DbTimeSessionListener;
+import com.taskmanagement.monitoring.PoolSaturationMetrics;
+import com.taskmanagement.monitoring.QueryCountingStatementInspector;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class MetricsConfig {
+
+    static final String[] HIGH_CARDINALITY_TAGS = {"projectId", "taskId", "userId", "id", "cognitoSub", "email"};
+
+    @Bean
+    public MeterFilter highCardinalityTagFilter() {
+        return MeterFilter.ignoreTags(HIGH_CARDINALITY_TAGS);
+    }
+
+    @Bean
+    public MeterFilter httpUriCardinalityGuard() {
+        return MeterFilter.maximumAllowableTags("http.server.requests", "uri", 100, MeterFilter.deny());
+    }
+
+    @Bean
+    public PoolSaturationMetrics poolSaturationMetrics(ObjectProvider<HikariDataSource> hikariDataSources,
+                                                       ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        List<HikariDataSource> pools = new ArrayList<>(hikariDataSources.stream().toList());
+        replicaRoutingDataSource.ifAvailable(routing -> routing.getReplicas().stream()
+                .map(ReplicaRoutingDataSource.Replica::getDataSource)
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .forEach(pools::add));
+        return new PoolSaturationMetrics(pools);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestDbMetricsCustomizer(QueryCountingStatementInspector statementInspector) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, DbTimeSessionListener.class.getName());
+        };
+    }
+}
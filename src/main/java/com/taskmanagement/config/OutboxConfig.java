@@ -0,0 +1,35 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.outbox")
+@Data
+public class OutboxConfig {
+
+    private boolean enabled = true;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private int batchSize = 50;
+    private int maxAttempts = 10;
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofHours(1);
+    private Duration leaseTimeout = Duration.ofMinutes(1);
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    private Duration retention = Duration.ofDays(7);
+    private Duration purgeInterval = Duration.ofHours(1);
+    private int purgeBatchSize = 1000;
+    private List<Endpoint> endpoints = new ArrayList<>();
+
+    @Data
+    public static class Endpoint {
+        private String name;
+        private String url;
+        private int maxConcurrency = 4;
+    }
+}
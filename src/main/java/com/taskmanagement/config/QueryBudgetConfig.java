@@ -0,0 +1,14 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.query-budget")
+@Data
+public class QueryBudgetConfig {
+
+    private boolean enabled = true;
+    private int defaultBudget = 10;
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.rank")
+@Data
+public class RankConfig {
+
+    private boolean rebalanceEnabled = true;
+    private Duration rebalanceInterval = Duration.ofMinutes(1);
+    private int rebalanceBatchSize = 20;
+}
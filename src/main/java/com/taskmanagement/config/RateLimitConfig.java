@@ -0,0 +1,33 @@
+package com.taskmanagement.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Data
+public class RateLimitConfig {
+
+    private boolean enabled = true;
+    private Limit read = new Limit(50, 100);
+    private Limit write = new Limit(10, 20);
+    private Limit admin = new Limit(5, 10);
+    private List<String> adminPaths = new ArrayList<>(List.of("/api/users", "/api/users/{userId:\\d+}/**"));
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        private double requestsPerSecond;
+        private int burst;
+    }
+}
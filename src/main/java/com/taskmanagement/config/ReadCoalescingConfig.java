@@ -0,0 +1,16 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.read-coalescing")
+@Data
+public class ReadCoalescingConfig {
+
+    private boolean enabled = true;
+    private Duration maxWait = Duration.ofSeconds(2);
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Project generations live in process memory, so a write handled by another instance, or by the
+ * reactive API, does not invalidate this instance's pages until they expire. Only enable the cache
+ * on a single instance, or where responses up to {@code ttl} old are acceptable.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.response-cache")
+@Data
+public class ResponseCacheConfig {
+
+    private boolean enabled = false;
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+    private Duration ttl = Duration.ofSeconds(30);
+    private int stripes = 16;
+    private int generationStripes = 4096;
+}
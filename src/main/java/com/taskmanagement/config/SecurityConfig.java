@@ -1,9 +1,16 @@
 package com.taskmanagement.config;
 
+import com.taskmanagement.monitoring.AccessLogFilter;
 import com.taskmanagement.security.CognitoJwtAuthenticationFilter;
+import com.taskmanagement.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -19,6 +26,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final CognitoJwtAuthenticationFilter cognitoJwtAuthenticationFilter;
+    private final AccessLogFilter accessLogFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ManagementServerProperties managementServerProperties;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -26,12 +37,14 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authz -> authz
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
                                 "/actuator/health"
                         ).permitAll()
+                        .requestMatchers(this::isManagementPort).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session ->
@@ -40,8 +53,26 @@ public class SecurityConfig {
                 .addFilterBefore(
                         cognitoJwtAuthenticationFilter,
                         UsernamePasswordAuthenticationFilter.class
+                )
+                .addFilterAfter(
+                        accessLogFilter,
+                        CognitoJwtAuthenticationFilter.class
+                )
+                .addFilterAfter(
+                        rateLimitFilter,
+                        AccessLogFilter.class
                 );
 
         return http.build();
     }
+
+    // Actuator is only served on the management port, which is not published outside the host or
+    // cluster network, so scrapers need no credentials there. On the API port it stays authenticated.
+    private boolean isManagementPort(HttpServletRequest request) {
+        if (ManagementPortType.get(environment) != ManagementPortType.DIFFERENT) {
+            return false;
+        }
+        Integer port = managementServerProperties.getPort();
+        return port != null && request.getLocalPort() == port;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.sync")
+@Data
+public class SyncConfig {
+
+    private Duration safetyLag = Duration.ofSeconds(10);
+}
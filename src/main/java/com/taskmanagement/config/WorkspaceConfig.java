@@ -0,0 +1,20 @@
+package com.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.workspace")
+@Data
+public class WorkspaceConfig {
+
+    private int projectLimit = 5;
+    private int recentTaskLimit = 5;
+    private Duration timeout = Duration.ofSeconds(3);
+    private int corePoolSize = 4;
+    private int maxPoolSize = 8;
+    private int queueCapacity = 100;
+}
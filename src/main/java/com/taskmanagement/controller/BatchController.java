@@ -0,0 +1,45 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.batch.BatchExecutor;
+import com.taskmanagement.dto.request.BatchRequest;
+import com.taskmanagement.dto.response.BatchResponse;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.monitoring.MaxQueries;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Batch", description = "Multiple API calls in one round trip")
+@SecurityRequirement(name = "bearer-jwt")
+public class BatchController {
+
+    private final BatchExecutor batchExecutor;
+
+    // Items are budgeted by their own endpoints; this covers the writes a transactional batch flushes on commit.
+    @PostMapping
+    @MaxQueries(30)
+    @Operation(summary = "Execute a batch", description = "Runs up to 30 API calls and returns each status and body in request order. "
+            + "Set transactional to run them in one transaction that is rolled back if any call fails")
+    public ResponseEntity<BatchResponse> execute(@Valid @RequestBody BatchRequest request,
+                                                 HttpServletRequest httpRequest,
+                                                 HttpServletResponse httpResponse) {
+
+        if (httpRequest.getAttribute(BatchExecutor.ITEM_ATTRIBUTE) != null) {
+            throw new ValidationException("Batches cannot be nested");
+        }
+        log.debug("Executing batch of {} requests, transactional: {}", request.getRequests().size(), request.isTransactional());
+        BatchResponse response = batchExecutor.execute(request, httpRequest, httpResponse);
+        return ResponseEntity.ok(response);
+    }
+}
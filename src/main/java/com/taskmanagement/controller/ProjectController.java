@@ -1,8 +1,12 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.request.ProjectRequest;
+import com.taskmanagement.dto.request.TransferProjectRequest;
 import com.taskmanagement.dto.response.PageResponse;
 import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.dto.response.SparseFieldset;
+import com.taskmanagement.monitoring.MaxQueries;
+import com.taskmanagement.repository.ProjectSortKey;
 import com.taskmanagement.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,8 +20,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
@@ -29,62 +36,84 @@ public class ProjectController {
     private final ProjectService projectService;
 
     @PostMapping
+    @MaxQueries(4)
     @Operation(summary = "Create a new project", description = "Creates a new project for the authenticated user")
     public ResponseEntity<ProjectResponse> createProject(@Valid @RequestBody ProjectRequest request) {
-        log.info("Creating new project: {}", request.getName());
+        log.debug("Creating new project: {}", request.getName());
         ProjectResponse response = projectService.createProject(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping
+    @MaxQueries(5)
     @Operation(summary = "Get all projects", description = "Returns all projects for the authenticated user with pagination")
     public ResponseEntity<PageResponse<ProjectResponse>> getAllProjects(@Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
                                                                         @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
-                                                                        @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
-                                                                        @Parameter(description = "Sort direction (ASC or DESC)") @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
-        log.info("Fetching projects - page: {}, size: {}", page, size);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+                                                                        @Parameter(description = "Sort by field (createdAt, updatedAt or name)") @RequestParam(defaultValue = "createdAt") String sortBy,
+                                                                        @Parameter(description = "Sort direction (ASC or DESC)") @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+                                                                        @Parameter(description = "Comma-separated list fields to return (default: all except description)") @RequestParam(required = false) String fields) {
+        log.debug("Fetching projects - page: {}, size: {}", page, size);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
+        Pageable pageable = PageRequest.of(page, size, ProjectSortKey.of(sortBy).toSort(direction));
         PageResponse<ProjectResponse> response = projectService.getCurrentUserProjects(pageable);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.map(project -> project.select(selected)));
     }
 
     @GetMapping("/{projectId}")
+    @MaxQueries(3)
     @Operation(summary = "Get project by ID", description = "Returns a specific project by ID if owned by the user")
     public ResponseEntity<ProjectResponse> getProjectById(@Parameter(description = "Project ID") @PathVariable Long projectId) {
 
-        log.info("Fetching project with ID: {}", projectId);
+        log.debug("Fetching project with ID: {}", projectId);
         ProjectResponse response = projectService.getProjectById(projectId);
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{projectId}")
+    @MaxQueries(4)
     @Operation(summary = "Update project", description = "Updates an existing project")
     public ResponseEntity<ProjectResponse> updateProject(@Parameter(description = "Project ID") @PathVariable Long projectId, @Valid @RequestBody ProjectRequest request) {
 
-        log.info("Updating project with ID: {}", projectId);
+        log.debug("Updating project with ID: {}", projectId);
         ProjectResponse response = projectService.updateProject(projectId, request);
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/{projectId}/owner")
+    @PreAuthorize("hasRole('ADMIN')")
+    @MaxQueries(8)
+    @Operation(summary = "Transfer project (Admin only)", description = "Moves a project and its tasks to another owner")
+    public ResponseEntity<ProjectResponse> transferProject(@Parameter(description = "Project ID") @PathVariable Long projectId,
+                                                           @Valid @RequestBody TransferProjectRequest request) {
+
+        log.debug("Transferring project {} to user {}", projectId, request.getOwnerId());
+        ProjectResponse response = projectService.transferProject(projectId, request.getOwnerId());
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{projectId}")
+    @MaxQueries(10)
     @Operation(summary = "Delete project", description = "Deletes a project and all its tasks")
     public ResponseEntity<Void> deleteProject(@Parameter(description = "Project ID") @PathVariable Long projectId) {
 
-        log.info("Deleting project with ID: {}", projectId);
+        log.debug("Deleting project with ID: {}", projectId);
         projectService.deleteProject(projectId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/search")
+    @MaxQueries(5)
     @Operation(summary = "Search projects", description = "Search projects by name for the authenticated user")
     public ResponseEntity<PageResponse<ProjectResponse>> searchProjects(@Parameter(description = "Search term") @RequestParam String searchTerm,
                                                                         @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-                                                                        @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
-        log.info("Searching projects with term: {}", searchTerm);
+                                                                        @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+                                                                        @Parameter(description = "Comma-separated list fields to return (default: all except description)") @RequestParam(required = false) String fields) {
+        log.debug("Searching projects with term: {}", searchTerm);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         PageResponse<ProjectResponse> response = projectService.searchProjects(searchTerm, pageable);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.map(project -> project.select(selected)));
     }
 }
@@ -1,10 +1,17 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.dto.request.MoveTaskRequest;
+import com.taskmanagement.dto.request.TaskPatchRequest;
 import com.taskmanagement.dto.request.TaskRequest;
 import com.taskmanagement.dto.request.UpdateTaskStatusRequest;
 import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.SparseFieldset;
+import com.taskmanagement.dto.response.TaskHistoryResponse;
 import com.taskmanagement.dto.response.TaskResponse;
 import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.monitoring.MaxQueries;
+import com.taskmanagement.repository.TaskSortKey;
+import com.taskmanagement.service.TaskAuditService;
 import com.taskmanagement.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,8 +24,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/projects/{projectId}/tasks")
@@ -29,28 +40,34 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskAuditService taskAuditService;
 
     @PostMapping
+    @MaxQueries(5)
     @Operation(summary = "Create a new task", description = "Creates a new task in the specified project")
     public ResponseEntity<TaskResponse> createTask(@Parameter(description = "Project ID") @PathVariable Long projectId,
                                                    @Valid @RequestBody TaskRequest request) {
-        log.info("Creating new task in project: {}", projectId);
+        log.debug("Creating new task in project: {}", projectId);
         TaskResponse response = taskService.createTask(projectId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @GetMapping
+    @MaxQueries(4)
     @Operation(summary = "Get all tasks in project", description = "Returns all tasks in the specified project with pagination")
     public ResponseEntity<PageResponse<TaskResponse>> getTasksByProject(@Parameter(description = "Project ID") @PathVariable Long projectId,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort by field (createdAt, updatedAt or rank)") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction (ASC or DESC)") @RequestParam(defaultValue = "DESC") Sort.Direction direction,
-            @Parameter(description = "Filter by status (optional)") @RequestParam(required = false) TaskStatus status) {
+            @Parameter(description = "Filter by status (optional)") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Comma-separated list fields to return (default: all except description)") @RequestParam(required = false) String fields) {
+
+        log.debug("Fetching tasks for project: {} - page: {}, size: {}", projectId, page, size);
 
-        log.info("Fetching tasks for project: {} - page: {}, size: {}", projectId, page, size);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        Pageable pageable = PageRequest.of(page, size, TaskSortKey.of(sortBy).toSort(direction));
         PageResponse<TaskResponse> response;
 
         if (status != null) {
@@ -58,47 +75,98 @@ public class TaskController {
         } else {
             response = taskService.getTasksByProject(projectId, pageable);
         }
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.map(task -> task.select(selected)));
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @MaxQueries(3)
+    @Operation(summary = "Stream task events", description = "Streams task create, update, status and delete events for the project over Server-Sent Events")
+    public SseEmitter streamTaskEvents(@Parameter(description = "Project ID") @PathVariable Long projectId) {
+
+        log.debug("Subscribing to task events for project {}", projectId);
+        return taskService.subscribeToTaskEvents(projectId);
     }
 
     @GetMapping("/{taskId}")
+    @MaxQueries(3)
     @Operation(summary = "Get task by ID", description = "Returns a specific task by ID within a project")
     public ResponseEntity<TaskResponse> getTaskById(@Parameter(description = "Project ID") @PathVariable Long projectId,
             @Parameter(description = "Task ID") @PathVariable Long taskId) {
 
-        log.info("Fetching task {} in project {}", taskId, projectId);
+        log.debug("Fetching task {} in project {}", taskId, projectId);
         TaskResponse response = taskService.getTaskById(projectId, taskId);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{taskId}/history")
+    @MaxQueries(3)
+    @Operation(summary = "Get task history", description = "Returns field-level changes of a task, newest first, paged by audit entry ID")
+    public ResponseEntity<TaskHistoryResponse> getTaskHistory(@Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Task ID") @PathVariable Long taskId,
+            @Parameter(description = "Return entries older than this audit entry ID (optional)") @RequestParam(required = false) Long before,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size) {
+
+        log.debug("Fetching history of task {} in project {}", taskId, projectId);
+        TaskHistoryResponse response = taskAuditService.getTaskHistory(projectId, taskId, before, size);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{taskId}")
+    @MaxQueries(5)
     @Operation(summary = "Update task", description = "Updates an existing task")
     public ResponseEntity<TaskResponse> updateTask(@Parameter(description = "Project ID") @PathVariable Long projectId,
            @Parameter(description = "Task ID") @PathVariable Long taskId, @Valid @RequestBody TaskRequest request) {
 
-        log.info("Updating task {} in project {}", taskId, projectId);
+        log.debug("Updating task {} in project {}", taskId, projectId);
         TaskResponse response = taskService.updateTask(projectId, taskId, request);
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping(path = "/{taskId}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @MaxQueries(5)
+    @Operation(summary = "Patch task", description = "Applies a JSON Merge Patch to a task: only the members present are changed, null removes the description")
+    public ResponseEntity<TaskResponse> patchTask(@Parameter(description = "Project ID") @PathVariable Long projectId,
+                                                  @Parameter(description = "Task ID") @PathVariable Long taskId,
+                                                  @Valid @RequestBody TaskPatchRequest request) {
+
+        log.debug("Patching task {} in project {}", taskId, projectId);
+        TaskResponse response = taskService.patchTask(projectId, taskId, request);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{taskId}/status")
+    @MaxQueries(4)
     @Operation(summary = "Update task status", description = "Updates only the status of a task")
     public ResponseEntity<TaskResponse> updateTaskStatus(@Parameter(description = "Project ID") @PathVariable Long projectId,
                                                         @Parameter(description = "Task ID") @PathVariable Long taskId,
                                                         @Valid @RequestBody UpdateTaskStatusRequest request) {
 
-        log.info("Updating task {} status to {}", taskId, request.getStatus());
+        log.debug("Updating task {} status to {}", taskId, request.getStatus());
         TaskResponse response = taskService.updateTaskStatus(projectId, taskId, request);
         return ResponseEntity.ok(response);
     }
 
+    // Excludes the rare inline respacing of a column that has run out of room between two keys.
+    @PostMapping("/{taskId}/move")
+    @MaxQueries(5)
+    @Operation(summary = "Move task", description = "Places a task after or before another task of the target status column, "
+            + "or at its end. Only the moved task is written")
+    public ResponseEntity<TaskResponse> moveTask(@Parameter(description = "Project ID") @PathVariable Long projectId,
+                                                 @Parameter(description = "Task ID") @PathVariable Long taskId,
+                                                 @RequestBody MoveTaskRequest request) {
+
+        log.debug("Moving task {} in project {}", taskId, projectId);
+        TaskResponse response = taskService.moveTask(projectId, taskId, request);
+        return ResponseEntity.ok(response);
+    }
 
     @DeleteMapping("/{taskId}")
+    @MaxQueries(5)
     @Operation(summary = "Delete task", description = "Deletes a task from a project")
     public ResponseEntity<Void> deleteTask(@Parameter(description = "Project ID") @PathVariable Long projectId,
                                            @Parameter(description = "Task ID") @PathVariable Long taskId) {
 
-        log.info("Deleting task {} from project {}", taskId, projectId);
+        log.debug("Deleting task {} from project {}", taskId, projectId);
         taskService.deleteTask(projectId, taskId);
         return ResponseEntity.noContent().build();
     }
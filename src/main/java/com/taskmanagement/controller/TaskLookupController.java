@@ -0,0 +1,36 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.response.TaskLookupResponse;
+import com.taskmanagement.monitoring.MaxQueries;
+import com.taskmanagement.service.TaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Tasks", description = "Task management endpoints")
+@SecurityRequirement(name = "bearer-jwt")
+public class TaskLookupController {
+
+    private final TaskService taskService;
+
+    @GetMapping
+    @MaxQueries(3)
+    @Operation(summary = "Get tasks by ID", description = "Returns the requested tasks across projects in request order, plus the IDs that do not exist or are not accessible")
+    public ResponseEntity<TaskLookupResponse> getTasksByIds(@Parameter(description = "Comma-separated task IDs (up to 500)") @RequestParam List<Long> ids) {
+
+        log.debug("Looking up {} tasks by ID", ids.size());
+        TaskLookupResponse response = taskService.getTasksByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+}
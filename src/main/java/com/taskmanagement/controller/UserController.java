@@ -2,12 +2,17 @@ package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.response.PageResponse;
 import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.dto.response.SparseFieldset;
+import com.taskmanagement.dto.response.TaskChangesResponse;
 import com.taskmanagement.dto.response.TaskResponse;
 import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.dto.response.WorkspaceResponse;
 import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.monitoring.MaxQueries;
 import com.taskmanagement.service.ProjectService;
 import com.taskmanagement.service.TaskService;
 import com.taskmanagement.service.UserService;
+import com.taskmanagement.service.WorkspaceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -20,6 +25,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -31,45 +38,75 @@ public class UserController {
     private final UserService userService;
     private final ProjectService projectService;
     private final TaskService taskService;
+    private final WorkspaceService workspaceService;
 
     @GetMapping("/me")
+    @MaxQueries(2)
     @Operation(summary = "Get current user profile", description = "Returns the profile of the currently authenticated user")
     public ResponseEntity<UserResponse> getCurrentUserProfile() {
-        log.info("Fetching current user profile");
+        log.debug("Fetching current user profile");
         UserResponse response = userService.getCurrentUserProfile();
         return ResponseEntity.ok(response);
     }
 
+    // Counts the sections run on the workspace pool: user, projects, their task counts, one task list per status.
+    @GetMapping("/me/workspace")
+    @MaxQueries(6)
+    @Operation(summary = "Get current user's workspace", description = "Returns the profile, most recent projects with task counts and most recent tasks per status in one call")
+    public ResponseEntity<WorkspaceResponse> getCurrentUserWorkspace() {
+        log.debug("Fetching workspace for current user");
+        WorkspaceResponse response = workspaceService.getCurrentUserWorkspace();
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/me/projects")
+    @MaxQueries(5)
     @Operation(summary = "Get current user's projects", description = "Returns all projects owned by the authenticated user")
     public ResponseEntity<PageResponse<ProjectResponse>> getCurrentUserProjects(@RequestParam(defaultValue = "0") int page,
-                                                                                @RequestParam(defaultValue = "20") int size) {
+                                                                                @RequestParam(defaultValue = "20") int size,
+                                                                                @RequestParam(required = false) String fields) {
 
-        log.info("Fetching projects for current user - page: {}, size: {}", page, size);
+        log.debug("Fetching projects for current user - page: {}, size: {}", page, size);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
         Pageable pageable = PageRequest.of(page, size);
         PageResponse<ProjectResponse> response = projectService.getCurrentUserProjects(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.map(project -> project.select(selected)));
     }
 
     @GetMapping("/me/tasks")
+    @MaxQueries(4)
     @Operation(summary = "Get current user's tasks", description = "Returns all tasks from projects owned by the authenticated user")
     public ResponseEntity<PageResponse<TaskResponse>> getCurrentUserTasks(@RequestParam(defaultValue = "0") int page,
                                                                           @RequestParam(defaultValue = "20") int size,
-                                                                          @RequestParam(required = false) TaskStatus status) {
+                                                                          @RequestParam(required = false) TaskStatus status,
+                                                                          @RequestParam(required = false) String fields) {
 
-        log.info("Fetching tasks for current user - page: {}, size: {}, status: {}", page, size, status);
+        log.debug("Fetching tasks for current user - page: {}, size: {}, status: {}", page, size, status);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
         Pageable pageable = PageRequest.of(page, size);
         PageResponse<TaskResponse> response = taskService.getCurrentUserTasks(pageable, status);
+        return ResponseEntity.ok(response.map(task -> task.select(selected)));
+    }
+
+    @GetMapping("/me/tasks/changes")
+    @MaxQueries(4)
+    @Operation(summary = "Get current user's task changes", description = "Returns tasks changed and deleted since the given watermark, keyset-paged, together with the next watermark")
+    public ResponseEntity<TaskChangesResponse> getCurrentUserTaskChanges(@Parameter(description = "Watermark returned by the previous call (omit for a full sync)") @RequestParam(required = false) String since,
+                                                                         @Parameter(description = "Maximum number of changes and deletions per call") @RequestParam(defaultValue = "100") int limit) {
+
+        log.debug("Fetching task changes for current user - limit: {}", limit);
+        TaskChangesResponse response = taskService.getCurrentUserTaskChanges(since, limit);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
+    @MaxQueries(3)
     @Operation(summary = "List all users (Admin only)", description = "Returns a paginated list of all users")
     public ResponseEntity<PageResponse<UserResponse>> getAllUsers(@RequestParam(defaultValue = "0") int page,
                                                                   @RequestParam(defaultValue = "20") int size) {
 
-        log.info("Admin fetching all users - page: {}, size: {}", page, size);
+        log.debug("Admin fetching all users - page: {}, size: {}", page, size);
         PageResponse<UserResponse> response = userService.getAllUsers(page, size);
         return ResponseEntity.ok(response);
     }
@@ -77,36 +114,43 @@ public class UserController {
 
     @GetMapping("/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
+    @MaxQueries(2)
     @Operation(summary = "Get user by ID (Admin only)", description = "Returns user details by their ID")
     public ResponseEntity<UserResponse> getUserById(@Parameter(description = "User ID", required = true) @PathVariable Long userId) {
-        log.info("Getting user by ID: {}", userId);
+        log.debug("Getting user by ID: {}", userId);
         UserResponse response = userService.getUserProfileById(userId);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{userId}/projects")
     @PreAuthorize("hasRole('ADMIN')")
+    @MaxQueries(5)
     @Operation(summary = "Get user's projects (Admin only)", description = "Returns all projects owned by a specific user")
     public ResponseEntity<PageResponse<ProjectResponse>> getUserProjectsById(@Parameter(description = "User  ID", required = true)
                                                                              @PathVariable Long userId,
                                                                              @RequestParam(defaultValue = "0") int page,
-                                                                             @RequestParam(defaultValue = "20") int size) {
+                                                                             @RequestParam(defaultValue = "20") int size,
+                                                                             @RequestParam(required = false) String fields) {
 
-        log.info("Admin fetching projects for user {} - page: {}, size: {}", userId, page, size);
+        log.debug("Admin fetching projects for user {} - page: {}, size: {}", userId, page, size);
+        Set<String> selected = SparseFieldset.parse(fields, ProjectResponse.LIST_FIELDS);
         PageResponse<ProjectResponse> response = projectService.getUserProjectsById(userId, page, size);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.map(project -> project.select(selected)));
     }
 
     @GetMapping("/{userId}/tasks")
     @PreAuthorize("hasRole('ADMIN')")
+    @MaxQueries(4)
     @Operation(summary = "Get user's tasks (Admin only)", description = "Returns all tasks from projects owned by a specific user")
     public ResponseEntity<PageResponse<TaskResponse>> getUserTasksById(@Parameter(description = "User ID", required = true)
                                                                        @PathVariable Long userId, @RequestParam(defaultValue = "0") int page,
                                                                        @RequestParam(defaultValue = "20") int size,
-                                                                       @RequestParam(required = false) TaskStatus status) {
+                                                                       @RequestParam(required = false) TaskStatus status,
+                                                                       @RequestParam(required = false) String fields) {
 
-        log.info("Admin fetching tasks for user {} - page: {}, size: {}, status: {}", userId, page, size, status);
+        log.debug("Admin fetching tasks for user {} - page: {}, size: {}, status: {}", userId, page, size, status);
+        Set<String> selected = SparseFieldset.parse(fields, TaskResponse.LIST_FIELDS);
         PageResponse<TaskResponse> response = taskService.getUserTasksById(userId, page, size, status);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(response.map(task -> task.select(selected)));
     }
 }
\ No newline at end of file
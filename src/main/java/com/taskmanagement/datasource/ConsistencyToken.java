@@ -0,0 +1,79 @@
+package com.taskmanagement.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Set;
+
+public final class ConsistencyToken {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    static final long NONE = 0L;
+    static final long PRIMARY_ONLY = Long.MAX_VALUE;
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final String ISSUED_ATTRIBUTE = ConsistencyToken.class.getName() + ".issued";
+
+    private ConsistencyToken() {
+    }
+
+    public static long parse(String lsn) {
+        int slash = lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            throw new IllegalArgumentException("Malformed LSN: " + lsn);
+        }
+        long high = Long.parseLong(lsn.substring(0, slash), 16);
+        long low = Long.parseLong(lsn.substring(slash + 1), 16);
+        if (high > 0xFFFFFFFFL || low > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Malformed LSN: " + lsn);
+        }
+        return (high << 32) | low;
+    }
+
+    public static String format(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+
+    static long required() {
+        HttpServletRequest request = currentRequest();
+        String header = request != null ? request.getHeader(HEADER) : null;
+        if (header == null || header.isBlank()) {
+            return NONE;
+        }
+        try {
+            return parse(header.trim());
+        } catch (IllegalArgumentException e) {
+            return PRIMARY_ONLY;
+        }
+    }
+
+    static boolean isWriteRequest() {
+        HttpServletRequest request = currentRequest();
+        return request != null && !SAFE_METHODS.contains(request.getMethod());
+    }
+
+    static void issue(long lsn) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        Long issued = (Long) request.getAttribute(ISSUED_ATTRIBUTE);
+        if (issued != null && issued >= lsn) {
+            return;
+        }
+        request.setAttribute(ISSUED_ATTRIBUTE, lsn);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            response.setHeader(HEADER, format(lsn));
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+
+@Slf4j
+public class ReadYourWritesListener implements TransactionExecutionListener {
+
+    private static final String COMMIT_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    private final JdbcTemplate primary;
+
+    public ReadYourWritesListener(DataSource primaryDataSource) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()
+                || !ConsistencyToken.isWriteRequest()) {
+            return;
+        }
+
+        try {
+            ConsistencyToken.issue(ConsistencyToken.parse(primary.queryForObject(COMMIT_LSN_SQL, String.class)));
+        } catch (RuntimeException e) {
+            log.warn("Could not read commit WAL position: {}", e.getMessage());
+        }
+    }
+}
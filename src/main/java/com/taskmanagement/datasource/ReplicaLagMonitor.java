@@ -0,0 +1,78 @@
+package com.taskmanagement.datasource;
+
+import com.taskmanagement.config.ReplicaConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLICA_STATUS_SQL = "SELECT pg_last_wal_replay_lsn()::text AS replay_lsn, " +
+            "COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) AS replay_delay";
+
+    private final JdbcTemplate primary;
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final long maxLagBytes;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, ReplicaRoutingDataSource routingDataSource,
+                             ReplicaConfig config, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.routingDataSource = routingDataSource;
+        this.maxLagBytes = config.getMaxLag().toBytes();
+
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            Gauge.builder("db.replica.lag", replica, ReplicaRoutingDataSource.Replica::getLagBytes)
+                    .description("WAL bytes the replica still has to replay")
+                    .baseUnit("bytes")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.replay.delay", replica, ReplicaRoutingDataSource.Replica::getReplayDelaySeconds)
+                    .description("Age of the last transaction replayed by the replica while it is behind")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("Whether read-only transactions are routed to the replica")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@replicaConfig.lagCheckInterval.toMillis()}")
+    public void refresh() {
+        long primaryLsn;
+        try {
+            primaryLsn = ConsistencyToken.parse(primary.queryForObject(PRIMARY_LSN_SQL, String.class));
+        } catch (RuntimeException e) {
+            log.warn("Could not read primary WAL position: {}", e.getMessage());
+            return;
+        }
+
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            try {
+                Map<String, Object> status = new JdbcTemplate(replica.getDataSource()).queryForMap(REPLICA_STATUS_SQL);
+                String replayLsn = (String) status.get("replay_lsn");
+                if (replayLsn == null) {
+                    log.warn("Replica {} is not in recovery, excluding it from routing", replica.getName());
+                    replica.markUnavailable();
+                    continue;
+                }
+
+                long replayed = ConsistencyToken.parse(replayLsn);
+                long lagBytes = Math.max(0, primaryLsn - replayed);
+                double delay = lagBytes == 0 ? 0 : ((Number) status.get("replay_delay")).doubleValue();
+                replica.update(lagBytes <= maxLagBytes, replayed, lagBytes, delay);
+            } catch (RuntimeException e) {
+                log.warn("Could not read status of replica {}: {}", replica.getName(), e.getMessage());
+                replica.markUnavailable();
+            }
+        }
+    }
+}
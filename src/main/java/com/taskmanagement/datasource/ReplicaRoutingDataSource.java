@@ -0,0 +1,119 @@
+package com.taskmanagement.datasource;
+
+import com.taskmanagement.config.ReplicaConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, Replica> replicas = new LinkedHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaConfig config) {
+        this(primary, createPools(config));
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            replicas.put(name, new Replica(name, dataSource));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public List<Replica> getReplicas() {
+        return List.copyOf(replicas.values());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        long required = ConsistencyToken.required();
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas.values()) {
+            if (replica.isAvailable() && replica.getReplayLsn() >= required) {
+                candidates.add(replica);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size())).getName();
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas.values()) {
+            if (replica.getDataSource() instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        }
+    }
+
+    private static Map<String, DataSource> createPools(ReplicaConfig config) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (ReplicaConfig.Node node : config.getNodes()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + node.getName());
+            pool.setJdbcUrl(node.getUrl());
+            pool.setUsername(node.getUsername());
+            pool.setPassword(node.getPassword());
+            pool.setMaximumPoolSize(node.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            pools.put(node.getName(), pool);
+        }
+        log.info("Routing read-only transactions to {} replica(s)", pools.size());
+        return pools;
+    }
+
+    @Getter
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile long replayLsn;
+        private volatile long lagBytes;
+        private volatile double replayDelaySeconds;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void update(boolean available, long replayLsn, long lagBytes, double replayDelaySeconds) {
+            this.replayLsn = replayLsn;
+            this.lagBytes = lagBytes;
+            this.replayDelaySeconds = replayDelaySeconds;
+            this.available = available;
+        }
+
+        void markUnavailable() {
+            this.available = false;
+        }
+    }
+}
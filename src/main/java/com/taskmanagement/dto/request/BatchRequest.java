@@ -0,0 +1,42 @@
+package com.taskmanagement.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRequest {
+
+    @NotEmpty(message = "At least one sub-request is required")
+    @Valid
+    private List<Item> requests;
+
+    private boolean transactional;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        private String id;
+
+        @NotBlank(message = "Sub-request method is required")
+        private String method;
+
+        @NotBlank(message = "Sub-request path is required")
+        private String path;
+
+        private JsonNode body;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.dto.request;
+
+import com.taskmanagement.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Where to put a task: in {@code status} (default: its current column), directly after
+ * {@code afterTaskId} or directly before {@code beforeTaskId}, or at the end of the column when
+ * neither is given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoveTaskRequest {
+
+    private TaskStatus status;
+    private Long afterTaskId;
+    private Long beforeTaskId;
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.taskmanagement.model.enums.TaskStatus;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch (RFC 7386) body for a task: absent members are left untouched, members set to
+ * {@code null} are removed. Jackson only calls the setters of members present in the document,
+ * which is how an explicit {@code null} is told apart from an absent member.
+ */
+@Getter
+@NoArgsConstructor
+public class TaskPatchRequest {
+
+    @Size(min = 3, max = 255, message = "Task title must be between 3 and 255 characters")
+    private String title;
+
+    @Size(max = 5000, message = "Description cannot exceed 5000 characters")
+    private String description;
+
+    private TaskStatus status;
+
+    @JsonIgnore
+    private final Set<String> present = new HashSet<>();
+
+    public void setTitle(String title) {
+        this.title = title;
+        present.add("title");
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        present.add("description");
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        present.add("status");
+    }
+
+    public boolean hasTitle() {
+        return present.contains("title");
+    }
+
+    public boolean hasDescription() {
+        return present.contains("description");
+    }
+
+    public boolean hasStatus() {
+        return present.contains("status");
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferProjectRequest {
+
+    @NotNull(message = "New owner ID is required")
+    private Long ownerId;
+}
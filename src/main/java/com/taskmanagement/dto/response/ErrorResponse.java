@@ -1,5 +1,6 @@
 package com.taskmanagement.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonPropertyOrder({"status", "error", "message", "path", "timestamp", "validationErrors"})
 public class ErrorResponse {
 
     private int status;
@@ -25,6 +27,7 @@ public class ErrorResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonPropertyOrder({"field", "message"})
     public static class ValidationError {
         private String field;
         private String message;
@@ -1,16 +1,20 @@
 package com.taskmanagement.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonPropertyOrder({"content", "pageNumber", "pageSize", "totalElements", "totalPages", "last", "first", "empty"})
 public class PageResponse<T> {
 
     private List<T> content;
@@ -21,4 +25,9 @@ public class PageResponse<T> {
     private boolean last;
     private boolean first;
     private boolean empty;
+
+    public <R> PageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        return new PageResponse<>(content.stream().map(mapper).collect(Collectors.toList()),
+                pageNumber, pageSize, totalElements, totalPages, last, first, empty);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.taskmanagement.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.taskmanagement.model.entity.Project;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,34 +9,75 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "name", "description", "descriptionPreview", "ownerId", "ownerName", "ownerEmail", "taskCount", "createdAt", "updatedAt"})
 public class ProjectResponse {
 
+    public static final Set<String> LIST_FIELDS = Collections.unmodifiableSet(SparseFieldset.of(
+            "id", "name", "descriptionPreview", "ownerId", "ownerName", "ownerEmail", "taskCount",
+            "createdAt", "updatedAt"));
+
     private Long id;
     private String name;
     private String description;
+    private String descriptionPreview;
     private Long ownerId;
     private String ownerName;
     private String ownerEmail;
-    private int taskCount;
+    private Integer taskCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public static ProjectResponse fromEntity(Project project) {
+        return fromEntity(project, project.getTaskCount());
+    }
+
+    public static ProjectResponse fromEntity(Project project, int taskCount) {
+        ProjectResponse response = summaryOf(project, taskCount);
+        response.setDescription(project.getDescription());
+        return response;
+    }
+
+    public static ProjectResponse summaryOf(Project project) {
+        return summaryOf(project, project.getTaskCount());
+    }
+
+    // Never touches the lazily loaded description.
+    public static ProjectResponse summaryOf(Project project, int taskCount) {
         return ProjectResponse.builder()
                 .id(project.getId())
                 .name(project.getName())
-                .description(project.getDescription())
+                .descriptionPreview(project.getDescriptionPreview())
                 .ownerId(project.getOwner().getId())
                 .ownerName(project.getOwner().getName())
                 .ownerEmail(project.getOwner().getEmail())
-                .taskCount(project.getTaskCount())
+                .taskCount(taskCount)
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public ProjectResponse select(Set<String> fields) {
+        if (fields == LIST_FIELDS) {
+            return this;
+        }
+        return ProjectResponse.builder()
+                .id(fields.contains("id") ? id : null)
+                .name(fields.contains("name") ? name : null)
+                .descriptionPreview(fields.contains("descriptionPreview") ? descriptionPreview : null)
+                .ownerId(fields.contains("ownerId") ? ownerId : null)
+                .ownerName(fields.contains("ownerName") ? ownerName : null)
+                .ownerEmail(fields.contains("ownerEmail") ? ownerEmail : null)
+                .taskCount(fields.contains("taskCount") ? taskCount : null)
+                .createdAt(fields.contains("createdAt") ? createdAt : null)
+                .updatedAt(fields.contains("updatedAt") ? updatedAt : null)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskmanagement.dto.response;
+
+import com.taskmanagement.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parses the {@code fields=} query parameter of list endpoints against the fields a list item may carry.
+ */
+public final class SparseFieldset {
+
+    private SparseFieldset() {
+    }
+
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return allowed;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new ValidationException("Unsupported field '" + name + "', expected any of: "
+                        + String.join(", ", allowed));
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? allowed : selected;
+    }
+
+    static Set<String> of(String... fields) {
+        return new LinkedHashSet<>(Arrays.asList(fields));
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.taskmanagement.model.entity.TaskAudit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonPropertyOrder({"id", "field", "oldValue", "newValue", "changedBy", "changedAt"})
+public class TaskAuditResponse {
+
+    private Long id;
+    private String field;
+    private String oldValue;
+    private String newValue;
+    private Long changedBy;
+    private LocalDateTime changedAt;
+
+    public static TaskAuditResponse fromEntity(TaskAudit audit) {
+        return TaskAuditResponse.builder()
+                .id(audit.getId())
+                .field(audit.getField())
+                .oldValue(audit.getOldValue())
+                .newValue(audit.getNewValue())
+                .changedBy(audit.getChangedBy())
+                .changedAt(audit.getChangedAt())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonPropertyOrder({"changed", "deleted", "watermark", "hasMore"})
+public class TaskChangesResponse {
+
+    private List<TaskResponse> changed;
+    private List<TaskTombstoneResponse> deleted;
+    private String watermark;
+    private boolean hasMore;
+}
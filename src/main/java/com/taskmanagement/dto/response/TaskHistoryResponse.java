@@ -0,0 +1,21 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonPropertyOrder({"entries", "nextBefore", "hasMore"})
+public class TaskHistoryResponse {
+
+    private List<TaskAuditResponse> entries;
+    private Long nextBefore;
+    private boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonPropertyOrder({"items", "missingIds"})
+public class TaskLookupResponse {
+
+    private List<TaskResponse> items;
+    private List<Long> missingIds;
+}
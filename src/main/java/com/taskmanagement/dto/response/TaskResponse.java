@@ -1,5 +1,7 @@
 package com.taskmanagement.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.taskmanagement.model.entity.Task;
 import com.taskmanagement.model.enums.TaskStatus;
 import lombok.AllArgsConstructor;
@@ -8,32 +10,66 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"id", "title", "description", "descriptionPreview", "status", "rank", "projectId", "projectName", "createdAt", "updatedAt"})
 public class TaskResponse {
 
+    public static final Set<String> LIST_FIELDS = Collections.unmodifiableSet(SparseFieldset.of(
+            "id", "title", "descriptionPreview", "status", "rank", "projectId", "projectName", "createdAt", "updatedAt"));
+
     private Long id;
     private String title;
     private String description;
+    private String descriptionPreview;
     private TaskStatus status;
+    private String rank;
     private Long projectId;
     private String projectName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public static TaskResponse fromEntity(Task task) {
+        TaskResponse response = summaryOf(task);
+        response.setDescription(task.getDescription());
+        return response;
+    }
+
+    // Never touches the lazily loaded description.
+    public static TaskResponse summaryOf(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
-                .description(task.getDescription())
+                .descriptionPreview(task.getDescriptionPreview())
                 .status(task.getStatus())
+                .rank(task.getRank())
                 .projectId(task.getProject().getId())
                 .projectName(task.getProject().getName())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public TaskResponse select(Set<String> fields) {
+        if (fields == LIST_FIELDS) {
+            return this;
+        }
+        return TaskResponse.builder()
+                .id(fields.contains("id") ? id : null)
+                .title(fields.contains("title") ? title : null)
+                .descriptionPreview(fields.contains("descriptionPreview") ? descriptionPreview : null)
+                .status(fields.contains("status") ? status : null)
+                .rank(fields.contains("rank") ? rank : null)
+                .projectId(fields.contains("projectId") ? projectId : null)
+                .projectName(fields.contains("projectName") ? projectName : null)
+                .createdAt(fields.contains("createdAt") ? createdAt : null)
+                .updatedAt(fields.contains("updatedAt") ? updatedAt : null)
+                .build();
+    }
+}
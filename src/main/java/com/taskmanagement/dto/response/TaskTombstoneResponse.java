@@ -0,0 +1,30 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.taskmanagement.model.entity.TaskTombstone;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonPropertyOrder({"taskId", "projectId", "deletedAt"})
+public class TaskTombstoneResponse {
+
+    private Long taskId;
+    private Long projectId;
+    private LocalDateTime deletedAt;
+
+    public static TaskTombstoneResponse fromEntity(TaskTombstone tombstone) {
+        return TaskTombstoneResponse.builder()
+                .taskId(tombstone.getTaskId())
+                .projectId(tombstone.getProjectId())
+                .deletedAt(tombstone.getDeletedAt())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanagement.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.taskmanagement.model.entity.Project;
 import com.taskmanagement.model.entity.User;
 import com.taskmanagement.model.enums.UserRole;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonPropertyOrder({"id", "email", "name", "role", "createdAt", "updatedAt"})
 public class UserResponse {
 
     private Long id;
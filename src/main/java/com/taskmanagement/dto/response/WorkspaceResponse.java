@@ -0,0 +1,23 @@
+package com.taskmanagement.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.taskmanagement.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonPropertyOrder({"profile", "projects", "recentTasks"})
+public class WorkspaceResponse {
+
+    private UserResponse profile;
+    private List<ProjectResponse> projects;
+    private Map<TaskStatus, List<TaskResponse>> recentTasks;
+}
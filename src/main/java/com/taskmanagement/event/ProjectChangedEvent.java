@@ -0,0 +1,20 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.model.enums.ProjectEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class ProjectChangedEvent {
+
+    private final ProjectEventType type;
+    private final Long projectId;
+    private final ProjectResponse project;
+    private final LocalDateTime occurredAt;
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.model.enums.TaskEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskChangedEvent {
+
+    private final TaskEventType type;
+    private final Long projectId;
+    private final Long taskId;
+    private final TaskResponse task;
+    private final Long actorId;
+    @Builder.Default
+    private final List<TaskFieldChange> changes = List.of();
+    private final LocalDateTime occurredAt;
+}
@@ -0,0 +1,199 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.config.EventStreamConfig;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.model.enums.ProjectEventType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class TaskEventBroadcaster {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final EventStreamConfig config;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeats;
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TaskEventBroadcaster(EventStreamConfig config) {
+        this(config,
+                Executors.newFixedThreadPool(config.getDispatchThreads(), new CustomizableThreadFactory("task-events-")),
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-events-heartbeat-")));
+    }
+
+    // Heartbeats run on their own thread so that they keep firing, and keep detecting stalled
+    // subscribers, while every dispatcher thread is blocked writing to a slow client.
+    TaskEventBroadcaster(EventStreamConfig config, ExecutorService dispatcher, ScheduledExecutorService heartbeats) {
+        this.config = config;
+        this.dispatcher = dispatcher;
+        this.heartbeats = heartbeats;
+        long interval = config.getHeartbeatInterval().toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Access is checked by the caller when the stream opens; the user is kept so that the stream
+     * can be closed once that access goes away with the project or its ownership.
+     */
+    public SseEmitter subscribe(Long projectId, Long userId, boolean admin) {
+        SseEmitter emitter = new SseEmitter(config.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(projectId, userId, admin, emitter,
+                new ArrayBlockingQueue<>(config.getBufferSize()));
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        log.debug("New task event subscriber for project: {}", projectId);
+        return emitter;
+    }
+
+    public int getSubscriberCount(Long projectId) {
+        Set<Subscriber> projectSubscribers = subscribers.get(projectId);
+        return projectSubscribers != null ? projectSubscribers.size() : 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getProjectId());
+        if (projectSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : projectSubscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getProjectId());
+        if (projectSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : projectSubscribers) {
+            if (event.getType() == ProjectEventType.DELETED
+                    || (event.getType() == ProjectEventType.UPDATED && !subscriber.hasAccess(event.getProject()))) {
+                log.debug("Closing task event subscriber of user {} for project {} after {}",
+                        subscriber.userId(), subscriber.projectId(), event.getType());
+                disconnect(subscriber);
+            }
+        }
+    }
+
+    void sendHeartbeats() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(subscriber -> {
+            long sendStartedAt = subscriber.sendStartedAt().get();
+            if (sendStartedAt != 0 && now - sendStartedAt > config.getSendTimeout().toNanos()) {
+                log.warn("Disconnecting stalled task event subscriber for project: {}", subscriber.projectId());
+                disconnect(subscriber);
+            } else {
+                enqueue(subscriber, HEARTBEAT);
+            }
+        }));
+    }
+
+    private void enqueue(Subscriber subscriber, Object frame) {
+        if (!subscriber.buffer().offer(frame)) {
+            log.warn("Disconnecting slow task event subscriber for project: {}", subscriber.projectId());
+            disconnect(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Object frame;
+            while ((frame = subscriber.buffer().poll()) != null) {
+                subscriber.sendStartedAt().set(System.nanoTime());
+                subscriber.emitter().send(toSseEvent(frame));
+                subscriber.sendStartedAt().set(0);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Task event subscriber for project {} went away: {}", subscriber.projectId(), e.getMessage());
+            remove(subscriber);
+            subscriber.buffer().clear();
+            return;
+        } finally {
+            subscriber.sendStartedAt().set(0);
+            subscriber.draining().set(false);
+        }
+
+        if (!subscriber.buffer().isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(Object frame) {
+        if (frame == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        TaskChangedEvent event = (TaskChangedEvent) frame;
+        return SseEmitter.event()
+                .name(event.getType().name().toLowerCase())
+                .data(event);
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.buffer().clear();
+        subscriber.emitter().complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId(), (projectId, projectSubscribers) -> {
+            projectSubscribers.remove(subscriber);
+            return projectSubscribers.isEmpty() ? null : projectSubscribers;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(projectSubscribers ->
+                projectSubscribers.forEach(subscriber -> subscriber.emitter().complete()));
+        subscribers.clear();
+    }
+
+    private record Subscriber(Long projectId, Long userId, boolean admin, SseEmitter emitter,
+                              BlockingQueue<Object> buffer, AtomicBoolean draining, AtomicLong sendStartedAt) {
+
+        Subscriber(Long projectId, Long userId, boolean admin, SseEmitter emitter, BlockingQueue<Object> buffer) {
+            this(projectId, userId, admin, emitter, buffer, new AtomicBoolean(), new AtomicLong());
+        }
+
+        boolean hasAccess(ProjectResponse project) {
+            return admin || project == null || userId.equals(project.getOwnerId());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskFieldChange {
+
+    private final String field;
+    private final String oldValue;
+    private final String newValue;
+}
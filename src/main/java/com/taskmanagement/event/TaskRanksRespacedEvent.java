@@ -0,0 +1,17 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A status column got new rank keys for all of its tasks. Unlike {@link TaskChangedEvent} it is not
+ * a user change, so it only invalidates cached responses and is neither streamed nor delivered.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskRanksRespacedEvent {
+
+    private final Long projectId;
+    private final TaskStatus status;
+}
@@ -0,0 +1,8 @@
+package com.taskmanagement.exception;
+
+public class RequestTimeoutException extends RuntimeException {
+
+    public RequestTimeoutException(String message) {
+        super(message);
+    }
+}
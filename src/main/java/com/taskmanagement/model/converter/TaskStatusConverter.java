@@ -0,0 +1,24 @@
+package com.taskmanagement.model.converter;
+
+import com.taskmanagement.model.enums.TaskStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link TaskStatus} as its stable {@code smallint} code rather than its name, keeping
+ * the status column and every composite index that contains it narrow. Codes must never be
+ * reused or renumbered.
+ */
+@Converter
+public class TaskStatusConverter implements AttributeConverter<TaskStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public TaskStatus convertToEntityAttribute(Short code) {
+        return code != null ? TaskStatus.fromCode(code) : null;
+    }
+}
@@ -1,7 +1,11 @@
 package com.taskmanagement.model.entity;
 
+import com.taskmanagement.config.CacheConfig;
+import com.taskmanagement.util.DescriptionPreview;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,13 +15,15 @@ import java.util.List;
 
 @Entity
 @Table(name = "projects", indexes = {
-        @Index(name = "idx_projects_owner", columnList = "owner_id"),
-        @Index(name = "idx_projects_name_owner", columnList = "name, owner_id", unique = true)})
+        @Index(name = "idx_projects_owner_name", columnList = "owner_id, name", unique = true),
+        @Index(name = "idx_projects_owner_created", columnList = "owner_id, created_at, id"),
+        @Index(name = "idx_projects_owner_updated", columnList = "owner_id, updated_at, id")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.PROJECT_REGION)
 public class Project {
 
     @Id
@@ -27,9 +33,14 @@ public class Project {
     @Column(nullable = false, length = 255)
     private String name;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "description_preview", length = DescriptionPreview.MAX_LENGTH)
+    private String descriptionPreview;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false, foreignKey = @ForeignKey(name = "fk_project_owner"))
     private User owner;
@@ -46,6 +57,20 @@ public class Project {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionPreview = DescriptionPreview.of(description);
+    }
+
+    public static class ProjectBuilder {
+
+        public ProjectBuilder description(String description) {
+            this.description = description;
+            this.descriptionPreview = DescriptionPreview.of(description);
+            return this;
+        }
+    }
+
     public boolean isOwnedBy(Long userId) {
         return owner != null && owner.getId().equals(userId);
     }
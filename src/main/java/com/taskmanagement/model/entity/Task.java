@@ -1,18 +1,28 @@
 package com.taskmanagement.model.entity;
 
+import com.taskmanagement.model.converter.TaskStatusConverter;
 import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.util.DescriptionPreview;
+import com.taskmanagement.util.FractionalRank;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks", indexes = {
-        @Index(name = "idx_tasks_project", columnList = "project_id"),
-        @Index(name = "idx_tasks_status", columnList = "status"),
-        @Index(name = "idx_tasks_title_project", columnList = "title, project_id", unique = true)})
+@DynamicUpdate
+@Table(name = "tasks", uniqueConstraints = {
+        @UniqueConstraint(name = "unique_task_title_per_project", columnNames = {"title", "project_id"})}, indexes = {
+        @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_project_status_created", columnList = "project_id, status, created_at, id"),
+        @Index(name = "idx_tasks_project_status_updated", columnList = "project_id, status, updated_at, id"),
+        @Index(name = "idx_tasks_project_status_rank", columnList = "project_id, status, rank, id"),
+        @Index(name = "idx_tasks_owner_created", columnList = "owner_id, created_at, id"),
+        @Index(name = "idx_tasks_owner_status_created", columnList = "owner_id, status, created_at, id"),
+        @Index(name = "idx_tasks_owner_updated", columnList = "owner_id, updated_at, id")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,17 +37,29 @@ public class Task {
     @Column(nullable = false, length = 255)
     private String title;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 50)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "description_preview", length = DescriptionPreview.MAX_LENGTH)
+    private String descriptionPreview;
+
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(nullable = false)
     private TaskStatus status;
 
+    // Position within the status column, see FractionalRank. Ordered by (rank, id).
+    @Column(nullable = false, length = FractionalRank.MAX_LENGTH)
+    private String rank;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false, foreignKey = @ForeignKey(name = "fk_task_project"))
     private Project project;
 
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -45,4 +67,18 @@ public class Task {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionPreview = DescriptionPreview.of(description);
+    }
+
+    public static class TaskBuilder {
+
+        public TaskBuilder description(String description) {
+            this.description = description;
+            this.descriptionPreview = DescriptionPreview.of(description);
+            return this;
+        }
+    }
+}
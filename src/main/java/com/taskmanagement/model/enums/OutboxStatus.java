@@ -0,0 +1,8 @@
+package com.taskmanagement.model.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    IN_FLIGHT,
+    DELIVERED,
+    DEAD
+}
@@ -0,0 +1,7 @@
+package com.taskmanagement.model.enums;
+
+public enum ProjectEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.model.enums;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    MOVED,
+    DELETED
+}
@@ -1,14 +1,28 @@
 package com.taskmanagement.model.enums;
 
+import java.util.Arrays;
+
 public enum TaskStatus {
-    TODO("To Do"),
-    IN_PROGRESS("In Progress"),
-    DONE("Done");
+    TODO("To Do", (short) 0),
+    IN_PROGRESS("In Progress", (short) 1),
+    DONE("Done", (short) 2);
 
     private final String displayName;
+    private final short code;
 
-    TaskStatus(String displayName) {
+    TaskStatus(String displayName, short code) {
         this.displayName = displayName;
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code;
     }
 
-}
\ No newline at end of file
+    public static TaskStatus fromCode(short code) {
+        return Arrays.stream(values())
+                .filter(status -> status.code == code)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown task status code: " + code));
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanagement.monitoring;
+
+import com.taskmanagement.config.AccessLogConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one logfmt line per request to the {@code access} logger: user, endpoint, status, total
+ * time and database time. Server errors are logged at WARN and are never sampled or dropped; failed
+ * and slow requests are always logged; successful ones are sampled.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private final AccessLogConfig config;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        DbTimeSessionListener.startTiming();
+        int status = 500;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long dbNanos = DbTimeSessionListener.stopTiming();
+            long totalNanos = System.nanoTime() - start;
+            log(request, status, totalNanos, dbNanos);
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long totalNanos, long dbNanos) {
+        boolean serverError = status >= 500;
+        boolean alwaysLogged = serverError || status >= 400 || totalNanos >= config.getSlowThreshold().toNanos();
+        if (!alwaysLogged && ThreadLocalRandom.current().nextDouble() >= config.getSuccessSampleRate()) {
+            return;
+        }
+        if (serverError ? !ACCESS_LOG.isWarnEnabled() : !ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+
+        String line = String.format("method=%s endpoint=%s status=%d duration_ms=%.1f db_ms=%.1f queries=%s user=%s",
+                request.getMethod(),
+                endpoint(request),
+                status,
+                totalNanos / 1_000_000.0,
+                dbNanos / 1_000_000.0,
+                queries(request),
+                user());
+        if (serverError) {
+            ACCESS_LOG.warn(line);
+        } else {
+            ACCESS_LOG.info(line);
+        }
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static Object queries(HttpServletRequest request) {
+        Object count = request.getAttribute(QueryBudgetInterceptor.QUERY_COUNT_ATTRIBUTE);
+        return count != null ? count : "-";
+    }
+
+    private static String user() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return "-";
+        }
+        if (authentication.getPrincipal() instanceof Map<?, ?> details && details.get("cognitoSub") != null) {
+            return details.get("cognitoSub").toString();
+        }
+        return authentication.getName();
+    }
+}
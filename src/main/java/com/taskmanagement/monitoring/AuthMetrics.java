@@ -0,0 +1,71 @@
+package com.taskmanagement.monitoring;
+
+import com.auth0.jwk.NetworkException;
+import com.auth0.jwk.RateLimitReachedException;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AuthMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordSuccess(Timer.Sample sample) {
+        sample.stop(validationTimer("success"));
+    }
+
+    public void recordFailure(Timer.Sample sample, Exception failure) {
+        sample.stop(validationTimer("failure"));
+        Counter.builder("auth.failures")
+                .description("Rejected bearer tokens by reason")
+                .tag("reason", reason(failure))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer validationTimer(String outcome) {
+        return Timer.builder("jwt.validation")
+                .description("Time spent validating bearer tokens, including JWKS lookups")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    static String reason(Exception failure) {
+        if (failure instanceof TokenExpiredException) {
+            return "expired";
+        }
+        if (failure instanceof SignatureVerificationException || failure instanceof AlgorithmMismatchException) {
+            return "invalid_signature";
+        }
+        if (failure instanceof InvalidClaimException) {
+            return "invalid_claim";
+        }
+        if (failure instanceof JWTDecodeException) {
+            return "malformed";
+        }
+        if (failure instanceof NetworkException || failure instanceof RateLimitReachedException) {
+            return "jwks_unavailable";
+        }
+        if (failure instanceof SigningKeyNotFoundException) {
+            return "unknown_key";
+        }
+        if (failure instanceof IllegalArgumentException) {
+            return "missing_key_id";
+        }
+        return "other";
+    }
+}
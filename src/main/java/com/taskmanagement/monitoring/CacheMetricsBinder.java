@@ -0,0 +1,57 @@
+package com.taskmanagement.monitoring;
+
+import com.taskmanagement.cache.OffHeapResponseCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final OffHeapResponseCache responseCache;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("response.cache.requests", responseCache, OffHeapResponseCache::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("response.cache.requests", responseCache, OffHeapResponseCache::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("response.cache.evictions", responseCache, OffHeapResponseCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("response.cache.size", responseCache, OffHeapResponseCache::getUsedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("response.cache.entries", responseCache, OffHeapResponseCache::getEntryCount)
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", responseCache,
+                        cache -> ratio(cache.getHitCount(), cache.getMissCount()))
+                .description("Hits divided by lookups since startup")
+                .tag("cache", "response")
+                .register(registry);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        Gauge.builder("cache.hit.ratio", statistics,
+                        stats -> ratio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount()))
+                .description("Hits divided by lookups since startup")
+                .tag("cache", "hibernate-l2")
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Registered through {@code hibernate.session.events.auto}, so Hibernate creates one per session.
+ * Adds JDBC execution time to the accumulator of the current thread when one is open.
+ */
+public class DbTimeSessionListener extends BaseSessionEventListener {
+
+    private static final ThreadLocal<long[]> ELAPSED = new ThreadLocal<>();
+
+    private long executeStart;
+    private long batchStart;
+
+    public static void startTiming() {
+        ELAPSED.set(new long[1]);
+    }
+
+    public static long stopTiming() {
+        long[] elapsed = ELAPSED.get();
+        ELAPSED.remove();
+        return elapsed != null ? elapsed[0] : 0;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        long[] elapsed = ELAPSED.get();
+        if (elapsed != null) {
+            elapsed[0] += System.nanoTime() - start;
+        }
+    }
+}
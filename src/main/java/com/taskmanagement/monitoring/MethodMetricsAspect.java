@@ -0,0 +1,73 @@
+package com.taskmanagement.monitoring;
+
+import com.taskmanagement.exception.RequestTimeoutException;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodMetricsAspect {
+
+    static final String METRIC_NAME = "app.method";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.taskmanagement.controller..*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+
+    @Around("execution(public * com.taskmanagement.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Latency of controller and service methods")
+                    .tag("layer", layer)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome(failure))
+                    .tag("exception", failure != null ? failure.getClass().getSimpleName() : "none")
+                    .register(meterRegistry));
+        }
+    }
+
+    static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "success";
+        }
+        if (failure instanceof ResourceNotFoundException) {
+            return "not_found";
+        }
+        if (failure instanceof UnauthorizedException || failure instanceof AccessDeniedException) {
+            return "forbidden";
+        }
+        if (failure instanceof ValidationException) {
+            return "invalid";
+        }
+        if (failure instanceof RequestTimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+}
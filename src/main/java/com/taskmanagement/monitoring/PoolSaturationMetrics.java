@@ -0,0 +1,37 @@
+package com.taskmanagement.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+
+public class PoolSaturationMetrics implements MeterBinder {
+
+    private final List<HikariDataSource> pools;
+
+    public PoolSaturationMetrics(List<HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HikariDataSource pool : pools) {
+            Gauge.builder("db.pool.saturation", pool, PoolSaturationMetrics::saturation)
+                    .description("Active plus waiting connections relative to the pool maximum")
+                    .tag("pool", pool.getPoolName() != null ? pool.getPoolName() : "default")
+                    .register(registry);
+        }
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null) {
+            return 0;
+        }
+        return (double) (mxBean.getActiveConnections() + mxBean.getThreadsAwaitingConnection())
+                / pool.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanagement.monitoring;
+
+import com.taskmanagement.config.QueryBudgetConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".queryCount";
+
+    private final QueryCountingStatementInspector statementInspector;
+    private final QueryBudgetConfig config;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            statementInspector.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementInspector.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        int count = statementInspector.stop();
+        request.setAttribute(QUERY_COUNT_ATTRIBUTE, count);
+
+        String className = handlerMethod.getBeanType().getSimpleName();
+        String methodName = handlerMethod.getMethod().getName();
+        DistributionSummary.builder("http.server.queries")
+                .description("SQL statements issued per request")
+                .tag("class", className)
+                .tag("method", methodName)
+                .register(meterRegistry)
+                .record(count);
+
+        int budget = budgetOf(handlerMethod);
+        if (count > budget) {
+            log.warn("{} {} issued {} SQL statements, budget is {}", request.getMethod(), request.getRequestURI(), count, budget);
+            Counter.builder("http.server.queries.over.budget")
+                    .description("Requests that issued more SQL statements than their budget")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    int budgetOf(HandlerMethod handlerMethod) {
+        MaxQueries maxQueries = handlerMethod.getMethodAnnotation(MaxQueries.class);
+        return maxQueries != null ? maxQueries.value() : config.getDefaultBudget();
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanagement.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    private final ThreadLocal<Counter> counter = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Counter current = counter.get();
+        if (current != null) {
+            current.count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    // Nested starts (batch sub-requests dispatched on the same thread) count separately and
+    // hand the thread back to the enclosing counter when they stop.
+    public void start() {
+        counter.set(new Counter(counter.get()));
+    }
+
+    /**
+     * Runs {@code task}, on whichever thread, counting its statements towards the calling thread's
+     * request, for work a request fans out to an executor.
+     */
+    public <T> Supplier<T> propagate(Supplier<T> task) {
+        Counter caller = counter.get();
+        if (caller == null) {
+            return task;
+        }
+        return () -> {
+            Counter previous = counter.get();
+            counter.set(caller);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    counter.set(previous);
+                } else {
+                    counter.remove();
+                }
+            }
+        };
+    }
+
+    public int stop() {
+        Counter current = counter.get();
+        if (current == null) {
+            return 0;
+        }
+        if (current.parent != null) {
+            counter.set(current.parent);
+        } else {
+            counter.remove();
+        }
+        return current.count.get();
+    }
+
+    private static final class Counter {
+
+        private final Counter parent;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Counter(Counter parent) {
+            this.parent = parent;
+        }
+    }
+}
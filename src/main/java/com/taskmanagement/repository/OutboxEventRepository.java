@@ -0,0 +1,33 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = "SELECT * FROM outbox_events WHERE endpoint = :endpoint " +
+            "AND status IN ('PENDING', 'IN_FLIGHT') AND next_attempt_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockDueEvents(@Param("endpoint") String endpoint,
+                                    @Param("now") LocalDateTime now,
+                                    @Param("limit") int limit);
+
+    // A finished row's next_attempt_at is the lease expiry of its last attempt, so this ages rows
+    // from when they were delivered or dead-lettered, give or take the lease timeout.
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM outbox_events WHERE id IN (SELECT id FROM outbox_events " +
+            "WHERE status IN ('DELIVERED', 'DEAD') AND next_attempt_at < :cutoff LIMIT :limit)",
+            nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -1,29 +1,45 @@
 package com.taskmanagement.repository;
 
 import com.taskmanagement.model.entity.Project;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     Page<Project> findByOwnerId(Long ownerId, Pageable pageable);
     Optional<Project> findByIdAndOwnerId(Long id, Long ownerId);
     long countByOwnerId(Long ownerId);
     boolean existsByNameAndOwnerId(String name, Long ownerId);
-    Optional<Project> findById(Long id);
 
     @Query("SELECT p FROM Project p WHERE p.owner.id = :ownerId AND " +
             "LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Project> searchByName(@Param("ownerId") Long ownerId, @Param("searchTerm") String searchTerm, Pageable pageable);
 
     Page<Project> findByOwnerIdAndNameContainingIgnoreCase(Long id, String searchTerm, Pageable pageable);
+
+    List<Project> findByOwnerIdOrderByUpdatedAtDesc(Long ownerId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> lockById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> lockSharedById(@Param("id") Long id);
+
+    @Query("SELECT p.id AS projectId, COUNT(t) AS taskCount FROM Project p LEFT JOIN p.tasks t " +
+            "WHERE p.id IN :projectIds GROUP BY p.id")
+    List<ProjectTaskCount> countTasksByProjectIds(@Param("projectIds") Collection<Long> projectIds);
 }
@@ -0,0 +1,59 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.exception.ValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys accepted by the owner's project listing, each backed by an {@code owner_id}
+ * composite index. Names are unique per owner, so only the timestamp keys need {@code id}
+ * as a tie-breaker.
+ */
+public enum ProjectSortKey {
+
+    CREATED_AT("createdAt", "created_at", "idx_projects_owner_created", true),
+    UPDATED_AT("updatedAt", "updated_at", "idx_projects_owner_updated", true),
+    NAME("name", "name", "idx_projects_owner_name", false);
+
+    private final String property;
+    private final String column;
+    private final String index;
+    private final boolean tieBreakById;
+
+    ProjectSortKey(String property, String column, String index, boolean tieBreakById) {
+        this.property = property;
+        this.column = column;
+        this.index = index;
+        this.tieBreakById = tieBreakById;
+    }
+
+    public static ProjectSortKey of(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Unsupported sort key '" + property + "', expected one of: "
+                        + Arrays.stream(values()).map(ProjectSortKey::getProperty).collect(Collectors.joining(", "))));
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        return tieBreakById ? Sort.by(direction, property, "id") : Sort.by(direction, property);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isTieBreakById() {
+        return tieBreakById;
+    }
+
+    public String getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanagement.repository;
+
+public interface ProjectTaskCount {
+
+    Long getProjectId();
+
+    long getTaskCount();
+}
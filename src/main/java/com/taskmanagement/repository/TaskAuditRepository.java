@@ -0,0 +1,14 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.entity.TaskAudit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskAuditRepository extends JpaRepository<TaskAudit, Long> {
+
+    List<TaskAudit> findByTaskIdAndProjectIdAndIdLessThanOrderByIdDesc(Long taskId, Long projectId, Long id, Pageable pageable);
+}
@@ -0,0 +1,10 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.enums.TaskStatus;
+
+public interface TaskRankColumn {
+
+    Long getProjectId();
+
+    TaskStatus getStatus();
+}
@@ -2,13 +2,21 @@ package com.taskmanagement.repository;
 
 import com.taskmanagement.model.entity.Task;
 import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.util.FractionalRank;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,14 +27,66 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Optional<Task> findByIdAndProjectId(Long id, Long projectId);
     long countByProjectId(Long projectId);
     boolean existsByTitleAndProjectId(String title, Long projectId);
-    @Query("SELECT t FROM Task t WHERE t.project.owner = :ownerId AND t.status = :status")
-    Page<Task> findByProjectOwnerIdAndStatus(
+    @Query("SELECT t FROM Task t WHERE t.ownerId = :ownerId AND t.status = :status ORDER BY t.createdAt DESC, t.id DESC")
+    Page<Task> findByOwnerIdAndStatus(
             @Param("ownerId") Long ownerId,
             @Param("status") TaskStatus status,
             Pageable pageable
     );
-    @Query("SELECT t FROM Task t WHERE t.project.owner.id = :ownerId")
-    Page<Task> findByProjectOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+    @Query("SELECT t FROM Task t WHERE t.ownerId = :ownerId ORDER BY t.createdAt DESC, t.id DESC")
+    Page<Task> findByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"project", "description"})
+    List<Task> findByIdIn(Collection<Long> ids);
 
+    @EntityGraph(attributePaths = {"project", "description"})
+    List<Task> findByIdInAndOwnerId(Collection<Long> ids, Long ownerId);
+
+    @EntityGraph(attributePaths = "description")
+    @Query("SELECT t FROM Task t WHERE t.ownerId = :ownerId AND " +
+            "(t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :taskId)) " +
+            "AND t.updatedAt <= :until " +
+            "ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedSince(@Param("ownerId") Long ownerId,
+                                @Param("updatedAt") LocalDateTime updatedAt,
+                                @Param("taskId") Long taskId,
+                                @Param("until") LocalDateTime until,
+                                Pageable pageable);
+
+    List<Task> findByOwnerIdAndStatusOrderByUpdatedAtDescIdDesc(Long ownerId, TaskStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.ownerId = :ownerId, t.updatedAt = :updatedAt WHERE t.project.id = :projectId")
+    int reassignOwner(@Param("projectId") Long projectId,
+                      @Param("ownerId") Long ownerId,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    // The redundant rank bound keeps these a range scan of idx_tasks_project_status_rank from the anchor.
+    @Query("SELECT t.rank FROM Task t WHERE t.project.id = :projectId AND t.status = :status AND t.rank >= :rank " +
+            "AND (t.rank > :rank OR t.id > :id) ORDER BY t.rank, t.id")
+    List<String> findRanksAfter(@Param("projectId") Long projectId,
+                                @Param("status") TaskStatus status,
+                                @Param("rank") String rank,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @Query("SELECT t.rank FROM Task t WHERE t.project.id = :projectId AND t.status = :status AND t.rank <= :rank " +
+            "AND (t.rank < :rank OR t.id < :id) ORDER BY t.rank DESC, t.id DESC")
+    List<String> findRanksBefore(@Param("projectId") Long projectId,
+                                 @Param("status") TaskStatus status,
+                                 @Param("rank") String rank,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    @Query("SELECT t.rank FROM Task t WHERE t.project.id = :projectId AND t.status = :status ORDER BY t.rank DESC, t.id DESC")
+    List<String> findLastRanks(@Param("projectId") Long projectId, @Param("status") TaskStatus status, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.status = :status ORDER BY t.rank, t.id")
+    List<Task> lockColumn(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    // The literal threshold lets PostgreSQL match the partial index idx_tasks_long_rank.
+    @Query("SELECT DISTINCT t.project.id AS projectId, t.status AS status FROM Task t " +
+            "WHERE LENGTH(t.rank) > " + FractionalRank.REBALANCE_LENGTH)
+    List<TaskRankColumn> findColumnsWithLongRanks(Pageable pageable);
 }
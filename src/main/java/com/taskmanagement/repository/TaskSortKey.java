@@ -0,0 +1,73 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.exception.ValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys accepted by the project task listing. Each key is backed by a composite index
+ * that serves both the {@code project_id} and the {@code project_id + status} filters in
+ * index order, with {@code id} as the tie-breaker, so a page never needs a full sort.
+ * {@code rank} is the manual order within a status column; unfiltered, it lists the columns in
+ * status order, each in rank order, from the same index. {@code updatedAt} without a status filter
+ * has no index of its own, since every task update would have to write it; the project's tasks are
+ * found through the status index and sorted.
+ */
+public enum TaskSortKey {
+
+    CREATED_AT("createdAt", "created_at", "idx_tasks_project_created", "idx_tasks_project_status_created", false, true),
+    UPDATED_AT("updatedAt", "updated_at", "idx_tasks_project_status_updated", "idx_tasks_project_status_updated", false, false),
+    RANK("rank", "rank", "idx_tasks_project_status_rank", "idx_tasks_project_status_rank", true, true);
+
+    private final String property;
+    private final String column;
+    private final String projectIndex;
+    private final String projectStatusIndex;
+    private final boolean groupedByStatus;
+    private final boolean projectIndexOrdered;
+
+    TaskSortKey(String property, String column, String projectIndex, String projectStatusIndex, boolean groupedByStatus,
+                boolean projectIndexOrdered) {
+        this.property = property;
+        this.column = column;
+        this.projectIndex = projectIndex;
+        this.projectStatusIndex = projectStatusIndex;
+        this.groupedByStatus = groupedByStatus;
+        this.projectIndexOrdered = projectIndexOrdered;
+    }
+
+    public static TaskSortKey of(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Unsupported sort key '" + property + "', expected one of: "
+                        + Arrays.stream(values()).map(TaskSortKey::getProperty).collect(Collectors.joining(", "))));
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        return groupedByStatus ? Sort.by(direction, "status", property, "id") : Sort.by(direction, property, "id");
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isGroupedByStatus() {
+        return groupedByStatus;
+    }
+
+    public String getIndex(boolean statusFiltered) {
+        return statusFiltered ? projectStatusIndex : projectIndex;
+    }
+
+    /** Whether {@link #getIndex} returns the rows in this key's order, rather than only finding them. */
+    public boolean isIndexOrdered(boolean statusFiltered) {
+        return statusFiltered || projectIndexOrdered;
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.entity.TaskTombstone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    List<TaskTombstone> findByOwnerIdAndIdGreaterThanAndDeletedAtLessThanEqualOrderByIdAsc(
+            Long ownerId, Long id, LocalDateTime until, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_tombstones"))
+    @Query(value = "INSERT INTO task_tombstones (task_id, project_id, owner_id, deleted_at) " +
+            "SELECT t.id, t.project_id, :ownerId, :deletedAt FROM tasks t WHERE t.project_id = :projectId",
+            nativeQuery = true)
+    int recordProjectTasksDeleted(@Param("projectId") Long projectId,
+                                  @Param("ownerId") Long ownerId,
+                                  @Param("deletedAt") LocalDateTime deletedAt);
+}
@@ -12,9 +12,8 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    Optional<User> findByCognitoSub(String cognitoSub);
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    Optional<User> findByCognitoSub(String cognitoSub);
+}
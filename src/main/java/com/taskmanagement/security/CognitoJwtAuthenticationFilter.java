@@ -2,6 +2,8 @@ package com.taskmanagement.security;
 
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.taskmanagement.model.enums.UserRole;
+import com.taskmanagement.monitoring.AuthMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +28,7 @@ import java.util.Map;
 public class CognitoJwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenValidator jwtTokenValidator;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -45,7 +48,15 @@ public class CognitoJwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void authenticateUser(HttpServletRequest request, String token) throws Exception {
-        DecodedJWT decodedJWT = jwtTokenValidator.validateToken(token);
+        Timer.Sample sample = authMetrics.start();
+        DecodedJWT decodedJWT;
+        try {
+            decodedJWT = jwtTokenValidator.validateToken(token);
+        } catch (Exception e) {
+            authMetrics.recordFailure(sample, e);
+            throw e;
+        }
+        authMetrics.recordSuccess(sample);
 
         String cognitoSub = jwtTokenValidator.getSubject(decodedJWT);
         String email = jwtTokenValidator.getEmail(decodedJWT);
@@ -7,8 +7,9 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
+import com.taskmanagement.config.CognitoConfig;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.net.URL;
@@ -21,26 +22,26 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class JwtTokenValidator {
 
-    private final String userPoolId;
-    private final String region;
     private final String issuerUri;
     private final JwkProvider jwkProvider;
 
-    public JwtTokenValidator(
-            @Value("${aws.cognito.user-pool-id}") String userPoolId,
-            @Value("${aws.cognito.region}") String region) throws Exception {
+    @Autowired
+    public JwtTokenValidator(CognitoConfig cognitoConfig) throws Exception {
+        this(cognitoConfig.getIssuerUri(), cognitoJwkProvider(cognitoConfig.getJwksUri()));
+    }
+
+    public JwtTokenValidator(String issuerUri, JwkProvider jwkProvider) {
+        this.issuerUri = issuerUri;
+        this.jwkProvider = jwkProvider;
 
-        this.userPoolId = userPoolId;
-        this.region = region;
-        this.issuerUri = String.format("https://cognito-idp.%s.amazonaws.com/%s", region, userPoolId);
+        log.info("JWT Token Validator initialized for issuer: {}", issuerUri);
+    }
 
-        String jwksUrl = issuerUri + "/.well-known/jwks.json";
-        this.jwkProvider = new JwkProviderBuilder(new URL(jwksUrl))
+    private static JwkProvider cognitoJwkProvider(String jwksUri) throws Exception {
+        return new JwkProviderBuilder(new URL(jwksUri))
                 .cached(10, 24, TimeUnit.HOURS)
                 .rateLimited(10, 1, TimeUnit.MINUTES)
                 .build();
-
-        log.info("JWT Token Validator initialized for issuer: {}", issuerUri);
     }
 
     public DecodedJWT validateToken(String token) throws Exception {
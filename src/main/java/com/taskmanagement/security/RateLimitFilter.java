@@ -0,0 +1,135 @@
+package com.taskmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.RateLimitConfig;
+import com.taskmanagement.dto.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfig config;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> adminPatterns;
+    private final Map<RateLimiter.RequestClass, Counter> rejections = new EnumMap<>(RateLimiter.RequestClass.class);
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitConfig config, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.adminPatterns = config.getAdminPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        for (RateLimiter.RequestClass requestClass : RateLimiter.RequestClass.values()) {
+            rejections.put(requestClass, Counter.builder("rate.limit.rejected")
+                    .description("Requests rejected by the per-user rate limiter")
+                    .tag("class", requestClass.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = tryAcquire(request);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(request, response, waitNanos);
+    }
+
+    /**
+     * Charges a request against the current caller's limit for its class. Also used for calls that
+     * are dispatched in-process and never pass through this filter, such as batch items.
+     *
+     * @return zero if the request may proceed, otherwise how long the caller should wait
+     */
+    public long tryAcquire(HttpServletRequest request) {
+        String principal = config.isEnabled() ? principal() : null;
+        if (principal == null) {
+            return 0;
+        }
+
+        RateLimiter.RequestClass requestClass = classify(request);
+        long waitNanos = rateLimiter.tryAcquire(principal, requestClass);
+        if (waitNanos > 0) {
+            rejections.get(requestClass).increment();
+            log.debug("Rate limited {} request from {}", requestClass, principal);
+        }
+        return waitNanos;
+    }
+
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    RateLimiter.RequestClass classify(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (PathPattern pattern : adminPatterns) {
+            if (pattern.matches(path)) {
+                return RateLimiter.RequestClass.ADMIN;
+            }
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> RateLimiter.RequestClass.READ;
+            default -> RateLimiter.RequestClass.WRITE;
+        };
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = retryAfterSeconds(waitNanos);
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Rate limit exceeded, retry after " + retryAfterSeconds + " seconds")
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Map<?, ?> details) {
+            Object sub = details.get("cognitoSub");
+            return sub != null ? sub.toString() : null;
+        }
+        return null;
+    }
+}
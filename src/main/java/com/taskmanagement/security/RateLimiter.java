@@ -0,0 +1,114 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.config.RateLimitConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-principal rate limiter using the generic cell rate algorithm: each bucket is a single
+ * "theoretical arrival time" updated with a CAS, so a decision is one map lookup and one
+ * compare-and-set with no locks and no allocation once the principal is known.
+ */
+@Component
+public class RateLimiter {
+
+    public enum RequestClass {
+        READ, WRITE, ADMIN
+    }
+
+    private final Map<RequestClass, Cell> cells = new EnumMap<>(RequestClass.class);
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimiter(RateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitConfig config, LongSupplier clock) {
+        cells.put(RequestClass.READ, new Cell(config.getRead()));
+        cells.put(RequestClass.WRITE, new Cell(config.getWrite()));
+        cells.put(RequestClass.ADMIN, new Cell(config.getAdmin()));
+        this.idleTimeoutNanos = config.getIdleTimeout().toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns 0 when the request is allowed, otherwise the nanoseconds to wait before retrying.
+     */
+    public long tryAcquire(String principal, RequestClass requestClass) {
+        Cell cell = cells.get(requestClass);
+        Bucket bucket = buckets.get(principal);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(principal, key -> new Bucket(clock.getAsLong()));
+        }
+        AtomicLong tat = bucket.get(requestClass);
+        while (true) {
+            long now = clock.getAsLong();
+            long current = tat.get();
+            long next = Math.max(current, now) + cell.emissionIntervalNanos;
+            long excess = next - now - cell.toleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@rateLimitConfig.idleTimeout.toMillis()}")
+    public void evictIdleBuckets() {
+        long cutoff = clock.getAsLong() - idleTimeoutNanos;
+        buckets.values().removeIf(bucket -> bucket.latest() < cutoff);
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private static final class Cell {
+
+        private final long emissionIntervalNanos;
+        private final long toleranceNanos;
+
+        private Cell(RateLimitConfig.Limit limit) {
+            this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRequestsPerSecond());
+            this.toleranceNanos = emissionIntervalNanos * Math.max(1, limit.getBurst());
+        }
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong read;
+        private final AtomicLong write;
+        private final AtomicLong admin;
+
+        private Bucket(long now) {
+            this.read = new AtomicLong(now);
+            this.write = new AtomicLong(now);
+            this.admin = new AtomicLong(now);
+        }
+
+        private AtomicLong get(RequestClass requestClass) {
+            return switch (requestClass) {
+                case READ -> read;
+                case WRITE -> write;
+                case ADMIN -> admin;
+            };
+        }
+
+        private long latest() {
+            return Math.max(read.get(), Math.max(write.get(), admin.get()));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes outbox rows that will never be sent again, which would otherwise pile up forever.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxPurger {
+
+    private final OutboxService outboxService;
+
+    @Scheduled(fixedDelayString = "#{@outboxConfig.purgeInterval.toMillis()}")
+    public void purge() {
+        try {
+            outboxService.purgeFinished();
+        } catch (Exception e) {
+            log.error("Failed to purge finished outbox events: {}", e.getMessage());
+        }
+    }
+}
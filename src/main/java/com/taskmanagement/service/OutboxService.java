@@ -0,0 +1,139 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.OutboxConfig;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.model.entity.OutboxEvent;
+import com.taskmanagement.model.enums.OutboxStatus;
+import com.taskmanagement.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        record("TASK", event.getTaskId(), event.getType().name(), event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        record("PROJECT", event.getProjectId(), event.getType().name(), event);
+    }
+
+    private void record(String aggregateType, Long aggregateId, String eventType, Object event) {
+        if (outboxConfig.getEndpoints().isEmpty()) {
+            return;
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + aggregateType + " event", e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = outboxConfig.getEndpoints().stream()
+                .map(endpoint -> OutboxEvent.builder()
+                        .endpoint(endpoint.getName())
+                        .aggregateType(aggregateType)
+                        .aggregateId(aggregateId)
+                        .eventType(eventType)
+                        .payload(payload)
+                        .nextAttemptAt(now)
+                        .build())
+                .collect(Collectors.toList());
+
+        outboxEventRepository.saveAll(rows);
+        log.debug("Recorded {} {} outbox event(s) for {} {}", rows.size(), eventType, aggregateType, aggregateId);
+    }
+
+    @Transactional
+    public List<OutboxEvent> claimBatch(String endpoint, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockDueEvents(endpoint, now, limit);
+
+        LocalDateTime leaseExpiry = now.plus(outboxConfig.getLeaseTimeout());
+        for (OutboxEvent event : events) {
+            event.setStatus(OutboxStatus.IN_FLIGHT);
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(leaseExpiry);
+        }
+        return events;
+    }
+
+    @Transactional
+    public void markDelivered(Long eventId) {
+        outboxEventRepository.findById(eventId).ifPresent(event -> {
+            event.setStatus(OutboxStatus.DELIVERED);
+            event.setDeliveredAt(LocalDateTime.now());
+            event.setLastError(null);
+        });
+    }
+
+    @Transactional
+    public void markFailed(Long eventId, String error) {
+        outboxEventRepository.findById(eventId).ifPresent(event -> {
+            event.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                    ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+            if (event.getAttempts() >= outboxConfig.getMaxAttempts()) {
+                event.setStatus(OutboxStatus.DEAD);
+                log.warn("Outbox event {} for endpoint {} dead-lettered after {} attempts: {}",
+                        eventId, event.getEndpoint(), event.getAttempts(), error);
+                return;
+            }
+
+            event.setStatus(OutboxStatus.PENDING);
+            event.setNextAttemptAt(LocalDateTime.now().plus(backoff(event.getAttempts())));
+        });
+    }
+
+    /**
+     * Deletes delivered and dead-lettered rows older than {@code app.outbox.retention}, one batch
+     * per transaction so that no single delete holds locks on a large part of the table.
+     */
+    public int purgeFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(outboxConfig.getRetention());
+        int batchSize = outboxConfig.getPurgeBatchSize();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = outboxEventRepository.deleteFinishedBefore(cutoff, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+
+        if (purged > 0) {
+            log.info("Purged {} finished outbox event(s) older than {}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    Duration backoff(int attempts) {
+        Duration maxBackoff = outboxConfig.getMaxBackoff();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration delay = outboxConfig.getInitialBackoff().multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
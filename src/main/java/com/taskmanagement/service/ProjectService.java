@@ -3,20 +3,29 @@ package com.taskmanagement.service;
 import com.taskmanagement.dto.request.ProjectRequest;
 import com.taskmanagement.dto.response.PageResponse;
 import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.event.ProjectChangedEvent;
 import com.taskmanagement.exception.ResourceNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.exception.ValidationException;
 import com.taskmanagement.model.entity.Project;
 import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.ProjectEventType;
 import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.ProjectTaskCount;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTombstoneRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,7 +34,11 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadCoalescer readCoalescer;
 
     @Transactional
     public ProjectResponse createProject(ProjectRequest request) {
@@ -42,7 +55,9 @@ public class ProjectService {
         Project savedProject = projectRepository.save(project);
         log.info("Project created successfully with ID: {}", savedProject.getId());
 
-        return ProjectResponse.fromEntity(savedProject);
+        ProjectResponse response = ProjectResponse.fromEntity(savedProject);
+        publishProjectEvent(ProjectEventType.CREATED, savedProject.getId(), response);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -53,7 +68,7 @@ public class ProjectService {
         Page<Project> projectPage = projectRepository.findByOwnerId(currentUser.getId(), pageable);
 
         List<ProjectResponse> projectResponses = projectPage.getContent().stream()
-                .map(ProjectResponse::fromEntity)
+                .map(ProjectResponse::summaryOf)
                 .collect(Collectors.toList());
 
         return PageResponse.<ProjectResponse>builder()
@@ -65,6 +80,26 @@ public class ProjectService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getRecentProjectsForOwner(Long ownerId, int limit) {
+        log.debug("Fetching {} most recently updated projects for owner: {}", limit, ownerId);
+
+        List<Project> projects = projectRepository.findByOwnerIdOrderByUpdatedAtDesc(ownerId, PageRequest.of(0, limit));
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> taskCounts = projectRepository.countTasksByProjectIds(
+                        projects.stream().map(Project::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ProjectTaskCount::getProjectId, ProjectTaskCount::getTaskCount));
+
+        return projects.stream()
+                .map(project -> ProjectResponse.summaryOf(project,
+                        taskCounts.getOrDefault(project.getId(), 0L).intValue()))
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<ProjectResponse> getUserProjectsById(Long userId, int page, int size) {
         log.debug("Fetching projects for user: {}", userId);
@@ -78,7 +113,7 @@ public class ProjectService {
         Page<Project> projectPage = projectRepository.findByOwnerId(userId, pageable);
 
         List<ProjectResponse> projectResponses = projectPage.getContent().stream()
-                .map(ProjectResponse::fromEntity)
+                .map(ProjectResponse::summaryOf)
                 .collect(Collectors.toList());
 
         return PageResponse.<ProjectResponse>builder()
@@ -99,7 +134,7 @@ public class ProjectService {
                 currentUser.getId(), searchTerm, pageable);
 
         List<ProjectResponse> projectResponses = projectPage.getContent().stream()
-                .map(ProjectResponse::fromEntity)
+                .map(ProjectResponse::summaryOf)
                 .collect(Collectors.toList());
 
         return PageResponse.<ProjectResponse>builder()
@@ -111,20 +146,21 @@ public class ProjectService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long id) {
         log.debug("Fetching project with ID: {}", id);
 
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + id));
+        // The response carries the owner, so the shared result is checked rather than loaded again.
+        ProjectResponse project = readCoalescer.execute("projectById", List.of(id), () -> projectRepository.findById(id)
+                .map(ProjectResponse::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + id)));
 
         User currentUser = userService.getOrCreateCurrentUser();
 
-        if (!project.isOwnedBy(currentUser.getId()) && !currentUser.isAdmin()) {
+        if (!currentUser.getId().equals(project.getOwnerId()) && !currentUser.isAdmin()) {
             throw new UnauthorizedException("You don't have access to this project");
         }
 
-        return ProjectResponse.fromEntity(project);
+        return project;
     }
 
     @Transactional(readOnly = true)
@@ -133,6 +169,16 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + id));
     }
 
+    /**
+     * Loads the project under a shared row lock, for writes that copy its owner onto tasks or
+     * tombstones. An owner transfer waits for them to commit and they wait for a transfer, so
+     * neither can record the previous owner after the transfer.
+     */
+    public Project findProjectForTaskWrite(Long id) {
+        return projectRepository.lockSharedById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + id));
+    }
+
     @Transactional
     public ProjectResponse updateProject(Long id, ProjectRequest request) {
         log.debug("Updating project with ID: {}", id);
@@ -152,7 +198,45 @@ public class ProjectService {
         Project updatedProject = projectRepository.save(project);
         log.info("Project updated successfully with ID: {}", updatedProject.getId());
 
-        return ProjectResponse.fromEntity(updatedProject);
+        ProjectResponse response = ProjectResponse.fromEntity(updatedProject);
+        publishProjectEvent(ProjectEventType.UPDATED, id, response);
+        return response;
+    }
+
+    @Transactional
+    public ProjectResponse transferProject(Long id, Long newOwnerId) {
+        log.debug("Transferring project with ID: {} to user: {}", id, newOwnerId);
+
+        User currentUser = userService.getOrCreateCurrentUser();
+        if (!currentUser.isAdmin()) {
+            throw new UnauthorizedException("Only admins can transfer projects");
+        }
+
+        Project project = projectRepository.lockById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + id));
+        Long previousOwnerId = project.getOwner().getId();
+        if (previousOwnerId.equals(newOwnerId)) {
+            return ProjectResponse.fromEntity(project);
+        }
+
+        User newOwner = userService.findById(newOwnerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + newOwnerId));
+        if (projectRepository.existsByNameAndOwnerId(project.getName(), newOwnerId)) {
+            throw new ValidationException("User " + newOwnerId + " already has a project named '" + project.getName() + "'");
+        }
+
+        // The previous owner's change feed sees the tasks as deleted, the new owner's as changed.
+        LocalDateTime now = LocalDateTime.now();
+        taskTombstoneRepository.recordProjectTasksDeleted(id, previousOwnerId, now);
+        taskRepository.reassignOwner(id, newOwnerId, now);
+
+        project.setOwner(newOwner);
+        Project transferredProject = projectRepository.save(project);
+        log.info("Project {} transferred from user {} to user {}", id, previousOwnerId, newOwnerId);
+
+        ProjectResponse response = ProjectResponse.fromEntity(transferredProject);
+        publishProjectEvent(ProjectEventType.UPDATED, id, response);
+        return response;
     }
 
     @Transactional
@@ -168,7 +252,19 @@ public class ProjectService {
             throw new UnauthorizedException("You don't own this project");
         }
 
+        taskTombstoneRepository.recordProjectTasksDeleted(id, project.getOwner().getId(), LocalDateTime.now());
         projectRepository.delete(project);
         log.info("Project deleted successfully with ID: {}", id);
+
+        publishProjectEvent(ProjectEventType.DELETED, id, null);
+    }
+
+    private void publishProjectEvent(ProjectEventType type, Long projectId, ProjectResponse project) {
+        eventPublisher.publishEvent(ProjectChangedEvent.builder()
+                .type(type)
+                .projectId(projectId)
+                .project(project)
+                .occurredAt(LocalDateTime.now())
+                .build());
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.ReadCoalescingConfig;
+import com.taskmanagement.datasource.ConsistencyToken;
+import com.taskmanagement.exception.RequestTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads into a single computation. The first caller for a key
+ * runs the loader on its own thread inside a read-only transaction; callers arriving while it is
+ * in flight wait for that result instead of issuing the same queries. Followers wait at most
+ * {@code app.read-coalescing.max-wait} and then load the data themselves.
+ *
+ * <p>The result is shared by everyone holding the same key, so each caller must authorize access
+ * either before joining or against the result itself before returning it. Shared results must
+ * be treated as immutable. Calls made inside an open
+ * transaction (a transactional batch) are never coalesced, as they may see uncommitted writes.
+ */
+@Component
+@Slf4j
+public class ReadCoalescer {
+
+    static final String CALLS_METRIC = "read.coalescing.calls";
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadCoalescingConfig config;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+
+    public ReadCoalescer(PlatformTransactionManager transactionManager,
+                         ReadCoalescingConfig config,
+                         MeterRegistry meterRegistry) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.config = config;
+        this.leaders = Counter.builder(CALLS_METRIC).tag("role", "leader").register(meterRegistry);
+        this.followers = Counter.builder(CALLS_METRIC).tag("role", "follower").register(meterRegistry);
+        this.fallbacks = Counter.builder(CALLS_METRIC).tag("role", "fallback").register(meterRegistry);
+        Gauge.builder("read.coalescing.collapse.ratio", this, ReadCoalescer::collapseRatio)
+                .description("Share of coalescable reads served by another caller's in-flight computation")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String operation, List<?> params, Supplier<T> loader) {
+        if (!config.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return load(loader);
+        }
+
+        Key key = new Key(operation, params, consistencyToken());
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing == null) {
+            leaders.increment();
+            try {
+                T result = load(loader);
+                mine.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        return await(key, existing, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(Key key, CompletableFuture<Object> leader, Supplier<T> loader) {
+        try {
+            T result = (T) leader.get(config.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+            followers.increment();
+            return result;
+        } catch (TimeoutException e) {
+            log.debug("Gave up waiting {} ms for in-flight {}, loading directly", config.getMaxWait().toMillis(), key.operation());
+            fallbacks.increment();
+            return load(loader);
+        } catch (ExecutionException e) {
+            followers.increment();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestTimeoutException("Interrupted while waiting for " + key.operation());
+        }
+    }
+
+    private <T> T load(Supplier<T> loader) {
+        return readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    double collapseRatio() {
+        double collapsed = followers.count();
+        double total = leaders.count() + collapsed + fallbacks.count();
+        return total == 0 ? 0 : collapsed / total;
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /*
+     * Requests pinned to a replica position must not share a result that was read under a
+     * different one, so the consistency token the caller sent becomes part of the key.
+     */
+    private static String consistencyToken() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String token = request.getHeader(ConsistencyToken.HEADER);
+            return token != null ? token.trim() : "";
+        }
+        return "";
+    }
+
+    private record Key(String operation, List<?> params, String consistencyToken) {
+    }
+}
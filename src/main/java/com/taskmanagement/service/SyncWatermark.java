@@ -0,0 +1,48 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor
+public class SyncWatermark {
+
+    private static final String VERSION = "v1";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static final SyncWatermark INITIAL = new SyncWatermark(EPOCH, 0L, 0L);
+
+    private final LocalDateTime taskUpdatedAt;
+    private final Long taskId;
+    private final Long tombstoneId;
+
+    public static SyncWatermark parse(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new ValidationException("Invalid sync watermark");
+            }
+            LocalDateTime updatedAt = EPOCH.plus(Long.parseLong(parts[1]), ChronoUnit.MICROS);
+            return new SyncWatermark(updatedAt, Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid sync watermark");
+        }
+    }
+
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(EPOCH.atOffset(ZoneOffset.UTC), taskUpdatedAt.atOffset(ZoneOffset.UTC));
+        String raw = String.join(":", VERSION, Long.toString(micros), taskId.toString(), tombstoneId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
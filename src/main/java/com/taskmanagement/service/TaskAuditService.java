@@ -0,0 +1,176 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.AuditConfig;
+import com.taskmanagement.dto.response.TaskAuditResponse;
+import com.taskmanagement.dto.response.TaskHistoryResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TaskFieldChange;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.TaskAudit;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.repository.TaskAuditRepository;
+import com.taskmanagement.util.MpscRingBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class TaskAuditService {
+
+    static final String INSERT_SQL = "INSERT INTO task_audit " +
+            "(task_id, project_id, field, old_value, new_value, changed_by, changed_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_HISTORY_SIZE = 200;
+
+    private final TaskAuditRepository taskAuditRepository;
+    private final ProjectService projectService;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditConfig config;
+    private final ScheduledExecutorService flusher;
+    private final MpscRingBuffer<TaskAudit> buffer;
+    private List<TaskAudit> pending = new ArrayList<>();
+
+    @Autowired
+    public TaskAuditService(TaskAuditRepository taskAuditRepository, ProjectService projectService,
+                            UserService userService, JdbcTemplate jdbcTemplate, AuditConfig config) {
+        this(taskAuditRepository, projectService, userService, jdbcTemplate, config,
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("task-audit-")));
+        long interval = config.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    TaskAuditService(TaskAuditRepository taskAuditRepository, ProjectService projectService, UserService userService,
+                     JdbcTemplate jdbcTemplate, AuditConfig config, ScheduledExecutorService flusher) {
+        this.taskAuditRepository = taskAuditRepository;
+        this.projectService = projectService;
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.flusher = flusher;
+        this.buffer = new MpscRingBuffer<>(config.getBufferSize());
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<TaskAudit> overflow = null;
+        for (TaskFieldChange change : event.getChanges()) {
+            TaskAudit entry = TaskAudit.builder()
+                    .taskId(event.getTaskId())
+                    .projectId(event.getProjectId())
+                    .field(change.getField())
+                    .oldValue(change.getOldValue())
+                    .newValue(change.getNewValue())
+                    .changedBy(event.getActorId())
+                    .changedAt(event.getOccurredAt())
+                    .build();
+
+            if (!buffer.offer(entry)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(entry);
+            }
+        }
+
+        if (overflow != null) {
+            log.warn("Audit buffer full, writing {} entries for task {} synchronously", overflow.size(), event.getTaskId());
+            write(overflow);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TaskHistoryResponse getTaskHistory(Long projectId, Long taskId, Long before, int size) {
+        log.debug("Fetching history for task: {} in project: {} before: {}", taskId, projectId, before);
+
+        if (size < 1 || size > MAX_HISTORY_SIZE) {
+            throw new ValidationException("Size must be between 1 and " + MAX_HISTORY_SIZE);
+        }
+
+        Project project = projectService.findProjectById(projectId);
+        User currentUser = userService.getOrCreateCurrentUser();
+
+        if (!project.isOwnedBy(currentUser.getId()) && !currentUser.isAdmin()) {
+            throw new UnauthorizedException("You don't have access to this project");
+        }
+
+        List<TaskAudit> entries = taskAuditRepository.findByTaskIdAndProjectIdAndIdLessThanOrderByIdDesc(
+                taskId, projectId, before != null ? before : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+
+        boolean hasMore = entries.size() > size;
+        entries = entries.subList(0, Math.min(size, entries.size()));
+
+        return TaskHistoryResponse.builder()
+                .entries(entries.stream().map(TaskAuditResponse::fromEntity).collect(Collectors.toList()))
+                .nextBefore(hasMore ? entries.get(entries.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size() + pending.size();
+    }
+
+    synchronized boolean flush() {
+        try {
+            while (true) {
+                if (pending.isEmpty() && buffer.drainTo(pending, config.getBatchSize()) == 0) {
+                    return true;
+                }
+                write(pending);
+                pending = new ArrayList<>();
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} audit entries, will retry", pending.size(), e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(config.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!flush()) {
+            log.error("Dropping {} audit entries that could not be written on shutdown", getBufferedCount());
+        }
+    }
+
+    private void write(List<TaskAudit> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getTaskId());
+            ps.setLong(2, entry.getProjectId());
+            ps.setString(3, entry.getField());
+            ps.setString(4, entry.getOldValue());
+            ps.setString(5, entry.getNewValue());
+            if (entry.getChangedBy() != null) {
+                ps.setLong(6, entry.getChangedBy());
+            } else {
+                ps.setNull(6, Types.BIGINT);
+            }
+            ps.setTimestamp(7, Timestamp.valueOf(entry.getChangedAt()));
+        });
+    }
+}
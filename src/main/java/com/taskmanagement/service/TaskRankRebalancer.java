@@ -0,0 +1,37 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.RankConfig;
+import com.taskmanagement.repository.TaskRankColumn;
+import com.taskmanagement.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Respaces status columns whose rank keys have grown long from repeated moves into the same gap,
+ * before they reach the column length and a move has to do it inline.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.rank", name = "rebalance-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class TaskRankRebalancer {
+
+    private final TaskRepository taskRepository;
+    private final TaskRankService taskRankService;
+    private final RankConfig rankConfig;
+
+    @Scheduled(fixedDelayString = "#{@rankConfig.rebalanceInterval.toMillis()}")
+    public void rebalance() {
+        for (TaskRankColumn column : taskRepository.findColumnsWithLongRanks(PageRequest.of(0, rankConfig.getRebalanceBatchSize()))) {
+            try {
+                taskRankService.rebalance(column.getProjectId(), column.getStatus());
+            } catch (Exception e) {
+                log.error("Failed to respace {} ranks in project {}: {}", column.getStatus(), column.getProjectId(), e.getMessage());
+            }
+        }
+    }
+}
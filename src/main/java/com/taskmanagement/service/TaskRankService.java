@@ -0,0 +1,87 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.TaskRanksRespacedEvent;
+import com.taskmanagement.model.entity.Task;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.util.FractionalRank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Picks {@link FractionalRank} keys for tasks from at most one indexed neighbour lookup, so placing a
+ * task writes only that task. When no key fits (two tasks share a key after concurrent moves, or
+ * keys have grown past the column length), the column is respaced first.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskRankService {
+
+    private static final PageRequest FIRST = PageRequest.of(0, 1);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public String rankAtEnd(Long projectId, TaskStatus status) {
+        String rank = keyAtEnd(projectId, status);
+        if (rank == null) {
+            rebalance(projectId, status);
+            rank = keyAtEnd(projectId, status);
+        }
+        return rank;
+    }
+
+    public String rankNextTo(Task anchor, boolean after) {
+        String rank = keyNextTo(anchor, after);
+        if (rank == null) {
+            rebalance(anchor.getProject().getId(), anchor.getStatus());
+            rank = keyNextTo(anchor, after);
+        }
+        return rank;
+    }
+
+    @Transactional
+    public int rebalance(Long projectId, TaskStatus status) {
+        List<Task> column = taskRepository.lockColumn(projectId, status);
+        List<String> keys = FractionalRank.spaced(column.size());
+        for (int i = 0; i < column.size(); i++) {
+            column.get(i).setRank(keys.get(i));
+        }
+        log.info("Respaced ranks of {} {} tasks in project {}", column.size(), status, projectId);
+        eventPublisher.publishEvent(new TaskRanksRespacedEvent(projectId, status));
+        return column.size();
+    }
+
+    private String keyAtEnd(Long projectId, TaskStatus status) {
+        String last = first(taskRepository.findLastRanks(projectId, status, FIRST));
+        return fitting(FractionalRank.between(last, null));
+    }
+
+    private String keyNextTo(Task anchor, boolean after) {
+        Long projectId = anchor.getProject().getId();
+        String neighbour = first(after
+                ? taskRepository.findRanksAfter(projectId, anchor.getStatus(), anchor.getRank(), anchor.getId(), FIRST)
+                : taskRepository.findRanksBefore(projectId, anchor.getStatus(), anchor.getRank(), anchor.getId(), FIRST));
+        if (anchor.getRank().equals(neighbour)) {
+            return null;
+        }
+        return fitting(after
+                ? FractionalRank.between(anchor.getRank(), neighbour)
+                : FractionalRank.between(neighbour, anchor.getRank()));
+    }
+
+    private static String fitting(String rank) {
+        return rank.length() <= FractionalRank.MAX_LENGTH ? rank : null;
+    }
+
+    private static String first(List<String> ranks) {
+        return ranks.isEmpty() ? null : ranks.get(0);
+    }
+}
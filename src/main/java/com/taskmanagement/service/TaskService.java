@@ -1,26 +1,48 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.config.SyncConfig;
+import com.taskmanagement.dto.request.MoveTaskRequest;
+import com.taskmanagement.dto.request.TaskPatchRequest;
 import com.taskmanagement.dto.request.TaskRequest;
 import com.taskmanagement.dto.request.UpdateTaskStatusRequest;
 import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.TaskChangesResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.TaskTombstoneResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TaskEventBroadcaster;
+import com.taskmanagement.event.TaskFieldChange;
 import com.taskmanagement.exception.ResourceNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
 import com.taskmanagement.exception.ValidationException;
 import com.taskmanagement.model.entity.Project;
 import com.taskmanagement.model.entity.Task;
+import com.taskmanagement.model.entity.TaskTombstone;
 import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.TaskEventType;
 import com.taskmanagement.model.enums.TaskStatus;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTombstoneRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,15 +50,24 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TaskService {
 
+    private static final int MAX_CHANGES_LIMIT = 500;
+    private static final int MAX_LOOKUP_IDS = 500;
+
     private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final ProjectService projectService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final ReadCoalescer readCoalescer;
+    private final TaskRankService taskRankService;
+    private final SyncConfig syncConfig;
 
     @Transactional
     public TaskResponse createTask(Long projectId, TaskRequest request) {
         log.debug("Creating task in project with ID: {}", projectId);
 
-        Project project = projectService.findProjectById(projectId);
+        Project project = projectService.findProjectForTaskWrite(projectId);
         User currentUser = userService.getOrCreateCurrentUser();
 
         if (!project.isOwnedBy(currentUser.getId())) {
@@ -51,13 +82,22 @@ public class TaskService {
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .status(request.getStatus())
+                .rank(taskRankService.rankAtEnd(projectId, request.getStatus()))
                 .project(project)
+                .ownerId(project.getOwner().getId())
                 .build();
 
         Task savedTask = taskRepository.save(task);
         log.info("Task created successfully with ID: {}", savedTask.getId());
 
-        return TaskResponse.fromEntity(savedTask);
+        List<TaskFieldChange> changes = new ArrayList<>();
+        addChange(changes, "title", null, savedTask.getTitle());
+        addChange(changes, "description", null, savedTask.getDescription());
+        addChange(changes, "status", null, savedTask.getStatus());
+
+        TaskResponse response = TaskResponse.fromEntity(savedTask);
+        publishTaskEvent(TaskEventType.CREATED, projectId, savedTask.getId(), response, currentUser.getId(), changes);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -78,6 +118,37 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
+    public TaskLookupResponse getTasksByIds(List<Long> ids) {
+        log.debug("Looking up {} tasks by ID", ids.size());
+
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.isEmpty() || requested.size() > MAX_LOOKUP_IDS) {
+            throw new ValidationException("Between 1 and " + MAX_LOOKUP_IDS + " task IDs are required");
+        }
+
+        User currentUser = userService.getOrCreateCurrentUser();
+        List<Task> tasks = currentUser.isAdmin()
+                ? taskRepository.findByIdIn(requested)
+                : taskRepository.findByIdInAndOwnerId(requested, currentUser.getId());
+        Map<Long, Task> found = tasks.stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskResponse> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            Task task = found.get(id);
+            if (task != null) {
+                items.add(TaskResponse.fromEntity(task));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return TaskLookupResponse.builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
+
     public PageResponse<TaskResponse> getTasksByProject(Long projectId, Pageable pageable) {
         log.debug("Fetching all tasks for project: {}", projectId);
 
@@ -88,22 +159,10 @@ public class TaskService {
             throw new UnauthorizedException("You don't have access to this project");
         }
 
-        Page<Task> taskPage = taskRepository.findByProjectId(projectId, pageable);
-
-        List<TaskResponse> taskResponses = taskPage.getContent().stream()
-                .map(TaskResponse::fromEntity)
-                .collect(Collectors.toList());
-
-        return PageResponse.<TaskResponse>builder()
-                .content(taskResponses)
-                .pageNumber(taskPage.getNumber())
-                .pageSize(taskPage.getSize())
-                .totalElements(taskPage.getTotalElements())
-                .totalPages(taskPage.getTotalPages())
-                .build();
+        return readCoalescer.execute("tasksByProject", Arrays.asList(projectId, pageable),
+                () -> toPageResponse(taskRepository.findByProjectId(projectId, pageable)));
     }
 
-    @Transactional(readOnly = true)
     public PageResponse<TaskResponse> getTasksByProjectAndStatus(Long projectId, TaskStatus status, Pageable pageable) {
         log.debug("Fetching tasks for project: {} with status: {}", projectId, status);
 
@@ -114,19 +173,8 @@ public class TaskService {
             throw new UnauthorizedException("You don't have access to this project");
         }
 
-        Page<Task> taskPage = taskRepository.findByProjectIdAndStatus(projectId, status, pageable);
-
-        List<TaskResponse> taskResponses = taskPage.getContent().stream()
-                .map(TaskResponse::fromEntity)
-                .collect(Collectors.toList());
-
-        return PageResponse.<TaskResponse>builder()
-                .content(taskResponses)
-                .pageNumber(taskPage.getNumber())
-                .pageSize(taskPage.getSize())
-                .totalElements(taskPage.getTotalElements())
-                .totalPages(taskPage.getTotalPages())
-                .build();
+        return readCoalescer.execute("tasksByProjectAndStatus", Arrays.asList(projectId, status, pageable),
+                () -> toPageResponse(taskRepository.findByProjectIdAndStatus(projectId, status, pageable)));
     }
 
     @Transactional(readOnly = true)
@@ -137,13 +185,13 @@ public class TaskService {
 
         Page<Task> taskPage;
         if (status != null) {
-            taskPage = taskRepository.findByProjectOwnerIdAndStatus(currentUser.getId(), status, pageable);
+            taskPage = taskRepository.findByOwnerIdAndStatus(currentUser.getId(), status, pageable);
         } else {
-            taskPage = taskRepository.findByProjectOwnerId(currentUser.getId(), pageable);
+            taskPage = taskRepository.findByOwnerId(currentUser.getId(), pageable);
         }
 
         List<TaskResponse> taskResponses = taskPage.getContent().stream()
-                .map(TaskResponse::fromEntity)
+                .map(TaskResponse::summaryOf)
                 .collect(Collectors.toList());
 
         return PageResponse.<TaskResponse>builder()
@@ -155,6 +203,54 @@ public class TaskService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getRecentTasksForOwner(Long ownerId, TaskStatus status, int limit) {
+        log.debug("Fetching {} most recently updated {} tasks for owner: {}", limit, status, ownerId);
+
+        return taskRepository.findByOwnerIdAndStatusOrderByUpdatedAtDescIdDesc(ownerId, status, PageRequest.of(0, limit))
+                .stream()
+                .map(TaskResponse::summaryOf)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getCurrentUserTaskChanges(String since, int limit) {
+        log.debug("Fetching task changes for current user since watermark: {}", since);
+
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+
+        SyncWatermark watermark = SyncWatermark.parse(since);
+        User currentUser = userService.getOrCreateCurrentUser();
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        // updated_at is taken at flush and tombstone ids at insert, both before commit, so a recent
+        // row may still be followed by an earlier one that is not yet visible. Rows inside the safety
+        // lag are left for the next call so the watermark never moves past an in-flight transaction.
+        LocalDateTime until = LocalDateTime.now().minus(syncConfig.getSafetyLag());
+        List<Task> changed = taskRepository.findChangedSince(
+                currentUser.getId(), watermark.getTaskUpdatedAt(), watermark.getTaskId(), until, window);
+        List<TaskTombstone> deleted = taskTombstoneRepository.findByOwnerIdAndIdGreaterThanAndDeletedAtLessThanEqualOrderByIdAsc(
+                currentUser.getId(), watermark.getTombstoneId(), until, window);
+
+        boolean hasMore = changed.size() > limit || deleted.size() > limit;
+        changed = changed.subList(0, Math.min(limit, changed.size()));
+        deleted = deleted.subList(0, Math.min(limit, deleted.size()));
+
+        SyncWatermark next = new SyncWatermark(
+                changed.isEmpty() ? watermark.getTaskUpdatedAt() : changed.get(changed.size() - 1).getUpdatedAt(),
+                changed.isEmpty() ? watermark.getTaskId() : changed.get(changed.size() - 1).getId(),
+                deleted.isEmpty() ? watermark.getTombstoneId() : deleted.get(deleted.size() - 1).getId());
+
+        return TaskChangesResponse.builder()
+                .changed(changed.stream().map(TaskResponse::fromEntity).collect(Collectors.toList()))
+                .deleted(deleted.stream().map(TaskTombstoneResponse::fromEntity).collect(Collectors.toList()))
+                .watermark(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<TaskResponse> getUserTasksById(Long userId, int page, int size, TaskStatus status) {
         log.debug("Fetching tasks for user: {}", userId);
@@ -168,13 +264,13 @@ public class TaskService {
 
         Page<Task> taskPage;
         if (status != null) {
-            taskPage = taskRepository.findByProjectOwnerIdAndStatus(userId, status, pageable);
+            taskPage = taskRepository.findByOwnerIdAndStatus(userId, status, pageable);
         } else {
-            taskPage = taskRepository.findByProjectOwnerId(userId, pageable);
+            taskPage = taskRepository.findByOwnerId(userId, pageable);
         }
 
         List<TaskResponse> taskResponses = taskPage.getContent().stream()
-                .map(TaskResponse::fromEntity)
+                .map(TaskResponse::summaryOf)
                 .collect(Collectors.toList());
 
         return PageResponse.<TaskResponse>builder()
@@ -205,14 +301,69 @@ public class TaskService {
             throw new ValidationException("Task with title '" + request.getTitle() + "' already exists in this project");
         }
 
+        List<TaskFieldChange> changes = new ArrayList<>();
+        addChange(changes, "title", task.getTitle(), request.getTitle());
+        addChange(changes, "description", task.getDescription(), request.getDescription());
+        addChange(changes, "status", task.getStatus(), request.getStatus());
+
+        changeStatus(task, request.getStatus());
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
-        task.setStatus(request.getStatus());
 
         Task updatedTask = taskRepository.save(task);
         log.info("Task updated successfully with ID: {}", updatedTask.getId());
 
-        return TaskResponse.fromEntity(updatedTask);
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        publishTaskEvent(TaskEventType.UPDATED, projectId, taskId, response, currentUser.getId(), changes);
+        return response;
+    }
+
+    @Transactional
+    public TaskResponse patchTask(Long projectId, Long taskId, TaskPatchRequest patch) {
+        log.debug("Patching task with ID: {} in project: {}", taskId, projectId);
+
+        Project project = projectService.findProjectById(projectId);
+        User currentUser = userService.getOrCreateCurrentUser();
+
+        if (!project.isOwnedBy(currentUser.getId())) {
+            throw new UnauthorizedException("You don't own this project");
+        }
+
+        if ((patch.hasTitle() && (patch.getTitle() == null || patch.getTitle().isBlank()))
+                || (patch.hasStatus() && patch.getStatus() == null)) {
+            throw new ValidationException("Task title and status cannot be removed");
+        }
+
+        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
+
+        List<TaskFieldChange> changes = new ArrayList<>();
+        if (patch.hasTitle() && !task.getTitle().equals(patch.getTitle())) {
+            if (taskRepository.existsByTitleAndProjectId(patch.getTitle(), projectId)) {
+                throw new ValidationException("Task with title '" + patch.getTitle() + "' already exists in this project");
+            }
+            addChange(changes, "title", task.getTitle(), patch.getTitle());
+            task.setTitle(patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            addChange(changes, "description", task.getDescription(), patch.getDescription());
+            task.setDescription(patch.getDescription());
+        }
+        if (patch.hasStatus()) {
+            addChange(changes, "status", task.getStatus(), patch.getStatus());
+            changeStatus(task, patch.getStatus());
+        }
+
+        if (changes.isEmpty()) {
+            return TaskResponse.fromEntity(task);
+        }
+
+        Task updatedTask = taskRepository.save(task);
+        log.info("Task patched successfully with ID: {}", updatedTask.getId());
+
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        publishTaskEvent(TaskEventType.UPDATED, projectId, taskId, response, currentUser.getId(), changes);
+        return response;
     }
 
     @Transactional
@@ -229,19 +380,74 @@ public class TaskService {
         Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
 
-        task.setStatus(request.getStatus());
+        List<TaskFieldChange> changes = new ArrayList<>();
+        addChange(changes, "status", task.getStatus(), request.getStatus());
+
+        changeStatus(task, request.getStatus());
 
         Task updatedTask = taskRepository.save(task);
         log.info("Task status updated successfully for ID: {}", updatedTask.getId());
 
-        return TaskResponse.fromEntity(updatedTask);
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        publishTaskEvent(TaskEventType.STATUS_CHANGED, projectId, taskId, response, currentUser.getId(), changes);
+        return response;
+    }
+
+    @Transactional
+    public TaskResponse moveTask(Long projectId, Long taskId, MoveTaskRequest request) {
+        log.debug("Moving task with ID: {} in project: {}", taskId, projectId);
+
+        if (request.getAfterTaskId() != null && request.getBeforeTaskId() != null) {
+            throw new ValidationException("Specify either afterTaskId or beforeTaskId, not both");
+        }
+
+        Project project = projectService.findProjectById(projectId);
+        User currentUser = userService.getOrCreateCurrentUser();
+
+        if (!project.isOwnedBy(currentUser.getId())) {
+            throw new UnauthorizedException("You don't own this project");
+        }
+
+        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
+
+        TaskStatus status = request.getStatus() != null ? request.getStatus() : task.getStatus();
+        Long anchorId = request.getAfterTaskId() != null ? request.getAfterTaskId() : request.getBeforeTaskId();
+        String rank;
+        if (anchorId == null) {
+            rank = taskRankService.rankAtEnd(projectId, status);
+        } else {
+            if (anchorId.equals(taskId)) {
+                throw new ValidationException("A task cannot be moved next to itself");
+            }
+            Task anchor = taskRepository.findByIdAndProjectId(anchorId, projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + anchorId));
+            if (anchor.getStatus() != status) {
+                throw new ValidationException("Task " + anchorId + " is not in the " + status + " column");
+            }
+            rank = taskRankService.rankNextTo(anchor, request.getAfterTaskId() != null);
+        }
+
+        List<TaskFieldChange> changes = new ArrayList<>();
+        addChange(changes, "status", task.getStatus(), status);
+        addChange(changes, "rank", task.getRank(), rank);
+
+        task.setStatus(status);
+        task.setRank(rank);
+
+        Task movedTask = taskRepository.save(task);
+        log.info("Task moved successfully with ID: {}", movedTask.getId());
+
+        TaskResponse response = TaskResponse.fromEntity(movedTask);
+        publishTaskEvent(TaskEventType.MOVED, projectId, taskId, response, currentUser.getId(), changes);
+        return response;
     }
 
     @Transactional
     public void deleteTask(Long projectId, Long taskId) {
         log.debug("Deleting task with ID: {} from project: {}", taskId, projectId);
 
-        Project project = projectService.findProjectById(projectId);
+        Project project = projectService.findProjectForTaskWrite(projectId);
         User currentUser = userService.getOrCreateCurrentUser();
 
         if (!project.isOwnedBy(currentUser.getId())) {
@@ -252,6 +458,71 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
 
         taskRepository.delete(task);
+        taskTombstoneRepository.save(TaskTombstone.builder()
+                .taskId(taskId)
+                .projectId(projectId)
+                .ownerId(project.getOwner().getId())
+                .deletedAt(LocalDateTime.now())
+                .build());
         log.info("Task deleted successfully with ID: {}", taskId);
+
+        publishTaskEvent(TaskEventType.DELETED, projectId, taskId, null, currentUser.getId(), List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToTaskEvents(Long projectId) {
+        log.debug("Subscribing to task events for project: {}", projectId);
+
+        Project project = projectService.findProjectById(projectId);
+        User currentUser = userService.getOrCreateCurrentUser();
+
+        if (!project.isOwnedBy(currentUser.getId()) && !currentUser.isAdmin()) {
+            throw new UnauthorizedException("You don't have access to this project");
+        }
+
+        return taskEventBroadcaster.subscribe(projectId, currentUser.getId(), currentUser.isAdmin());
+    }
+
+    private void publishTaskEvent(TaskEventType type, Long projectId, Long taskId, TaskResponse task,
+                                  Long actorId, List<TaskFieldChange> changes) {
+        eventPublisher.publishEvent(TaskChangedEvent.builder()
+                .type(type)
+                .projectId(projectId)
+                .taskId(taskId)
+                .task(task)
+                .actorId(actorId)
+                .changes(changes)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    // A task that changes column goes to the end of its new column.
+    private void changeStatus(Task task, TaskStatus status) {
+        if (task.getStatus() != status) {
+            task.setRank(taskRankService.rankAtEnd(task.getProject().getId(), status));
+            task.setStatus(status);
+        }
+    }
+
+    private static PageResponse<TaskResponse> toPageResponse(Page<Task> taskPage) {
+        List<TaskResponse> taskResponses = taskPage.getContent().stream()
+                .map(TaskResponse::summaryOf)
+                .collect(Collectors.toList());
+
+        return PageResponse.<TaskResponse>builder()
+                .content(taskResponses)
+                .pageNumber(taskPage.getNumber())
+                .pageSize(taskPage.getSize())
+                .totalElements(taskPage.getTotalElements())
+                .totalPages(taskPage.getTotalPages())
+                .build();
+    }
+
+    private static void addChange(List<TaskFieldChange> changes, String field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new TaskFieldChange(field,
+                    oldValue != null ? oldValue.toString() : null,
+                    newValue != null ? newValue.toString() : null));
+        }
     }
 }
\ No newline at end of file
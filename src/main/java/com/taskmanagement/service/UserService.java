@@ -101,6 +101,11 @@ public class UserService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public Optional<User> findById(Long userId) {
+        return userRepository.findById(userId);
+    }
+
     @Transactional(readOnly = true)
     public Optional<User> findByCognitoSub(String cognitoSub) {
         return userRepository.findByCognitoSub(cognitoSub);
@@ -0,0 +1,87 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.OutboxConfig;
+import com.taskmanagement.model.entity.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class WebhookDispatcher {
+
+    private final OutboxService outboxService;
+    private final OutboxConfig outboxConfig;
+    private final HttpClient httpClient;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public WebhookDispatcher(OutboxService outboxService, OutboxConfig outboxConfig) {
+        this.outboxService = outboxService;
+        this.outboxConfig = outboxConfig;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(outboxConfig.getRequestTimeout())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "#{@outboxConfig.pollInterval.toMillis()}")
+    public void dispatch() {
+        for (OutboxConfig.Endpoint endpoint : outboxConfig.getEndpoints()) {
+            try {
+                dispatch(endpoint);
+            } catch (Exception e) {
+                log.error("Failed to dispatch outbox events for endpoint {}: {}", endpoint.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(OutboxConfig.Endpoint endpoint) {
+        Semaphore endpointPermits = permits.computeIfAbsent(endpoint.getName(),
+                name -> new Semaphore(endpoint.getMaxConcurrency()));
+
+        int available = Math.min(endpointPermits.availablePermits(), outboxConfig.getBatchSize());
+        if (available == 0) {
+            return;
+        }
+
+        List<OutboxEvent> events = outboxService.claimBatch(endpoint.getName(), available);
+        for (OutboxEvent event : events) {
+            endpointPermits.acquireUninterruptibly();
+            deliver(endpoint, event)
+                    .whenComplete((ignored, error) -> endpointPermits.release());
+        }
+    }
+
+    private CompletableFuture<Void> deliver(OutboxConfig.Endpoint endpoint, OutboxEvent event) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint.getUrl()))
+                .timeout(outboxConfig.getRequestTimeout())
+                .header("Content-Type", "application/json")
+                .header("X-Event-Id", event.getId().toString())
+                .header("X-Event-Type", event.getAggregateType() + "." + event.getEventType())
+                .POST(HttpRequest.BodyPublishers.ofString(event.getPayload()))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        outboxService.markFailed(event.getId(), error.getClass().getSimpleName() + ": " + error.getMessage());
+                    } else if (response.statusCode() / 100 == 2) {
+                        outboxService.markDelivered(event.getId());
+                    } else {
+                        outboxService.markFailed(event.getId(), "HTTP " + response.statusCode());
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,127 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.WorkspaceConfig;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.UserResponse;
+import com.taskmanagement.dto.response.WorkspaceResponse;
+import com.taskmanagement.exception.RequestTimeoutException;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.monitoring.QueryCountingStatementInspector;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class WorkspaceService {
+
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final WorkspaceConfig workspaceConfig;
+    private final QueryCountingStatementInspector statementInspector;
+    private final ThreadPoolExecutor executor;
+
+    public WorkspaceService(UserService userService,
+                            ProjectService projectService,
+                            TaskService taskService,
+                            WorkspaceConfig workspaceConfig,
+                            QueryCountingStatementInspector statementInspector) {
+        this.userService = userService;
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.workspaceConfig = workspaceConfig;
+        this.statementInspector = statementInspector;
+        this.executor = new ThreadPoolExecutor(
+                workspaceConfig.getCorePoolSize(),
+                workspaceConfig.getMaxPoolSize(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workspaceConfig.getQueueCapacity()),
+                new CustomizableThreadFactory("workspace-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public WorkspaceResponse getCurrentUserWorkspace() {
+        log.debug("Assembling workspace for current user");
+
+        long deadline = System.nanoTime() + workspaceConfig.getTimeout().toNanos();
+        User currentUser = userService.getOrCreateCurrentUser();
+        Long ownerId = currentUser.getId();
+
+        List<CompletableFuture<?>> submitted = new ArrayList<>();
+        Map<TaskStatus, List<TaskResponse>> recentTasks = new EnumMap<>(TaskStatus.class);
+        try {
+            CompletableFuture<List<ProjectResponse>> projects = submit(submitted,
+                    () -> projectService.getRecentProjectsForOwner(ownerId, workspaceConfig.getProjectLimit()));
+
+            Map<TaskStatus, CompletableFuture<List<TaskResponse>>> tasksByStatus = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                tasksByStatus.put(status, submit(submitted,
+                        () -> taskService.getRecentTasksForOwner(ownerId, status, workspaceConfig.getRecentTaskLimit())));
+            }
+
+            List<ProjectResponse> projectResponses = await(projects, deadline);
+            for (Map.Entry<TaskStatus, CompletableFuture<List<TaskResponse>>> entry : tasksByStatus.entrySet()) {
+                recentTasks.put(entry.getKey(), await(entry.getValue(), deadline));
+            }
+
+            return WorkspaceResponse.builder()
+                    .profile(UserResponse.fromEntity(currentUser))
+                    .projects(projectResponses)
+                    .recentTasks(recentTasks)
+                    .build();
+        } finally {
+            submitted.forEach(future -> future.cancel(true));
+        }
+    }
+
+    // A saturated pool fails the request instead of running it on the request thread, where it
+    // could not be abandoned at the deadline. Sections count towards the request's query budget.
+    private <T> CompletableFuture<T> submit(List<CompletableFuture<?>> submitted, Supplier<T> section) {
+        try {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(statementInspector.propagate(section), executor);
+            submitted.add(future);
+            return future;
+        } catch (RejectedExecutionException e) {
+            log.warn("Workspace executor saturated, rejecting workspace request");
+            throw new RequestTimeoutException("Workspace could not be loaded, too many requests in progress");
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new RequestTimeoutException("Workspace could not be loaded within " + workspaceConfig.getTimeout().toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestTimeoutException("Workspace loading was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
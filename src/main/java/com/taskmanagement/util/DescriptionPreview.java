@@ -0,0 +1,33 @@
+package com.taskmanagement.util;
+
+/**
+ * Builds the short, single-line description excerpt that list views serialize instead of the
+ * full {@code TEXT} description.
+ */
+public final class DescriptionPreview {
+
+    public static final int MAX_LENGTH = 200;
+
+    private static final String ELLIPSIS = "…";
+    private static final int SCAN_LENGTH = MAX_LENGTH * 8;
+
+    private DescriptionPreview() {
+    }
+
+    public static String of(String description) {
+        if (description == null) {
+            return null;
+        }
+        String stripped = description.strip();
+        boolean clipped = stripped.length() > SCAN_LENGTH;
+        String collapsed = (clipped ? stripped.substring(0, SCAN_LENGTH) : stripped).replaceAll("\\s+", " ");
+        if (!clipped && collapsed.length() <= MAX_LENGTH) {
+            return collapsed;
+        }
+        int end = Math.min(collapsed.length(), MAX_LENGTH - ELLIPSIS.length());
+        if (Character.isHighSurrogate(collapsed.charAt(end - 1))) {
+            end--;
+        }
+        return collapsed.substring(0, end).stripTrailing() + ELLIPSIS;
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanagement.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic keys for the manual order of tasks within a status column. Keys are base-62
+ * fractions ({@code 0-9A-Za-z}, in ASCII order) without trailing zeros, so a key can always be
+ * generated between any two others and moving a task only rewrites that task's key. Keys must be
+ * compared byte-wise ({@code COLLATE "C"} in PostgreSQL).
+ */
+public final class FractionalRank {
+
+    public static final int MAX_LENGTH = 64;
+
+    /** Columns holding a key longer than this are respaced in the background. */
+    public static final int REBALANCE_LENGTH = 24;
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    // Appends and prepends step by one unit in the last of these digits, so adding tasks to the end
+    // of a column keeps keys this short for millions of tasks instead of halving the remaining range.
+    private static final int STEP_WIDTH = 4;
+
+    private FractionalRank() {
+    }
+
+    /**
+     * A key strictly between {@code lower} and {@code upper}; {@code null} stands for the start or
+     * the end of the column.
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank '" + lower + "' is not below '" + upper + "'");
+        }
+        if (upper == null) {
+            return lower == null ? midpoint("", null) : after(lower);
+        }
+        if (lower == null) {
+            return before(upper);
+        }
+        return midpoint(lower, upper);
+    }
+
+    /**
+     * {@code count} keys spread evenly over the whole key space, for respacing a column.
+     */
+    public static List<String> spaced(int count) {
+        int width = STEP_WIDTH;
+        while (Math.pow(BASE, width) / (count + 1) < BASE) {
+            width++;
+        }
+        double step = Math.pow(BASE, width) / (count + 1);
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode((long) (step * i), width));
+        }
+        return keys;
+    }
+
+    private static String after(String lower) {
+        String prefix = pad(lower);
+        for (int i = STEP_WIDTH - 1; i >= 0; i--) {
+            int digit = digit(prefix.charAt(i));
+            if (digit < BASE - 1) {
+                return prefix.substring(0, i) + DIGITS.charAt(digit + 1);
+            }
+        }
+        return midpoint(lower, null);
+    }
+
+    private static String before(String upper) {
+        String prefix = pad(upper);
+        if (upper.length() > STEP_WIDTH && !strip(prefix).isEmpty()) {
+            // The key extends past the step digits, so its leading digits alone are already below it.
+            return strip(prefix);
+        }
+        for (int i = STEP_WIDTH - 1; i >= 0; i--) {
+            int digit = digit(prefix.charAt(i));
+            if (digit > 0) {
+                String decremented = strip(prefix.substring(0, i) + DIGITS.charAt(digit - 1)
+                        + String.valueOf(DIGITS.charAt(BASE - 1)).repeat(STEP_WIDTH - 1 - i));
+                if (!decremented.isEmpty()) {
+                    return decremented;
+                }
+                break;
+            }
+        }
+        return midpoint("", upper);
+    }
+
+    // Digit-wise midpoint of two fractions, where a missing upper bound is 1.0.
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            int common = 0;
+            while (common < upper.length() && digitAt(lower, common) == digit(upper.charAt(common))) {
+                common++;
+            }
+            if (common > 0) {
+                return upper.substring(0, common)
+                        + midpoint(lower.substring(Math.min(common, lower.length())), upper.substring(common));
+            }
+        }
+        int low = digitAt(lower, 0);
+        int high = upper != null ? digit(upper.charAt(0)) : BASE;
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return strip(new String(chars));
+    }
+
+    private static String pad(String key) {
+        return key.length() >= STEP_WIDTH
+                ? key.substring(0, STEP_WIDTH)
+                : key + "0".repeat(STEP_WIDTH - key.length());
+    }
+
+    private static String strip(String key) {
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == '0') {
+            end--;
+        }
+        return key.substring(0, end);
+    }
+
+    private static int digitAt(String key, int index) {
+        return index < key.length() ? digit(key.charAt(index)) : 0;
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character '" + c + "'");
+        }
+        return digit;
+    }
+}
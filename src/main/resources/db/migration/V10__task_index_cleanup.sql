@@ -0,0 +1,11 @@
+-- Same columns as the index behind unique_task_title_per_project.
+DROP INDEX IF EXISTS idx_tasks_title_project;
+
+-- Superseded by idx_tasks_project_status_updated, which also finds a project's tasks; an unfiltered
+-- updatedAt listing sorts that project's rows instead of reading them in index order.
+DROP INDEX IF EXISTS idx_tasks_project_updated;
+
+-- Every task update sets updated_at, and status changes also rewrite status and rank, all of them
+-- index key columns, so no update is heap-only and the free space V7 reserved on each page is wasted.
+-- Only pages written from now on are packed fully; existing ones shrink on the next table rewrite.
+ALTER TABLE tasks RESET (fillfactor);
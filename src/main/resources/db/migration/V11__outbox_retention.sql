@@ -0,0 +1,3 @@
+-- Lets the retention purge find finished rows without scanning the pending ones.
+CREATE INDEX IF NOT EXISTS idx_outbox_finished ON outbox_events (next_attempt_at)
+    WHERE status IN ('DELIVERED', 'DEAD');
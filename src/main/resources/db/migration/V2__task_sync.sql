@@ -0,0 +1,11 @@
+CREATE INDEX IF NOT EXISTS idx_tasks_project_updated ON tasks (project_id, updated_at, id);
+
+CREATE TABLE IF NOT EXISTS task_tombstones (
+                                               id BIGSERIAL PRIMARY KEY,
+                                               task_id BIGINT NOT NULL,
+                                               project_id BIGINT NOT NULL,
+                                               owner_id BIGINT NOT NULL,
+                                               deleted_at TIMESTAMP(6) NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_owner ON task_tombstones (owner_id, id);
@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS outbox_events (
+                                             id BIGSERIAL PRIMARY KEY,
+                                             endpoint VARCHAR(100) NOT NULL,
+                                             aggregate_type VARCHAR(50) NOT NULL,
+                                             aggregate_id BIGINT NOT NULL,
+                                             event_type VARCHAR(50) NOT NULL,
+                                             payload TEXT NOT NULL,
+                                             status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                                             attempts INT NOT NULL DEFAULT 0,
+                                             next_attempt_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+                                             last_error VARCHAR(1000),
+                                             created_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+                                             delivered_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_due ON outbox_events (endpoint, next_attempt_at)
+    WHERE status IN ('PENDING', 'IN_FLIGHT');
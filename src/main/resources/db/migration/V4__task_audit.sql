@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS task_audit (
+                                          id BIGSERIAL PRIMARY KEY,
+                                          task_id BIGINT NOT NULL,
+                                          project_id BIGINT NOT NULL,
+                                          field VARCHAR(50) NOT NULL,
+                                          old_value TEXT,
+                                          new_value TEXT,
+                                          changed_by BIGINT,
+                                          changed_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_audit_task ON task_audit (task_id, id);
+
+CREATE OR REPLACE FUNCTION trigger_reject_audit_change()
+    RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'task_audit is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_task_audit_append_only BEFORE UPDATE OR DELETE ON task_audit
+    FOR EACH ROW EXECUTE FUNCTION trigger_reject_audit_change();
@@ -0,0 +1,16 @@
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created ON tasks (project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_created ON tasks (project_id, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_updated ON tasks (project_id, status, updated_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_projects_owner_created ON projects (owner_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_projects_owner_updated ON projects (owner_id, updated_at, id);
+
+-- Single-column prefixes of the indexes above; the planner would otherwise pick them and sort.
+DROP INDEX IF EXISTS idx_tasks_project;
+DROP INDEX IF EXISTS idx_projects_owner;
+
+-- (owner_id, name) enforces per-owner name uniqueness and serves sorting by name,
+-- replacing the (name, owner_id) constraint and its duplicate plain index.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_projects_owner_name ON projects (owner_id, name);
+ALTER TABLE projects DROP CONSTRAINT IF EXISTS unique_project_name_per_owner;
+DROP INDEX IF EXISTS idx_projects_name_owner;
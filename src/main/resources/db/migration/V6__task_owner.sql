@@ -0,0 +1,12 @@
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS owner_id BIGINT;
+
+-- Backfilling must not bump updated_at, or every task would reappear in every change feed.
+ALTER TABLE tasks DISABLE TRIGGER trg_tasks_updated;
+UPDATE tasks t SET owner_id = p.owner_id FROM projects p WHERE p.id = t.project_id AND t.owner_id IS NULL;
+ALTER TABLE tasks ENABLE TRIGGER trg_tasks_updated;
+
+ALTER TABLE tasks ALTER COLUMN owner_id SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_owner_created ON tasks (owner_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_owner_status_created ON tasks (owner_id, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_owner_updated ON tasks (owner_id, updated_at, id);
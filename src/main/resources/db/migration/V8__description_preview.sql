@@ -0,0 +1,20 @@
+-- List views serialize this excerpt; the full TEXT description is only read by single-item GETs.
+ALTER TABLE tasks ADD COLUMN description_preview VARCHAR(200);
+ALTER TABLE projects ADD COLUMN description_preview VARCHAR(200);
+
+-- Same rules as DescriptionPreview: trimmed, whitespace collapsed, cut to 200 characters with an ellipsis.
+CREATE FUNCTION pg_temp.description_preview(description TEXT) RETURNS TEXT AS $$
+    SELECT CASE
+        WHEN char_length(collapsed) <= 200 THEN collapsed
+        ELSE rtrim(left(collapsed, 199)) || '…'
+    END
+    FROM (SELECT regexp_replace(regexp_replace(description, '^\s+|\s+$', '', 'g'), '\s+', ' ', 'g') AS collapsed) c
+$$ LANGUAGE SQL IMMUTABLE;
+
+UPDATE tasks SET description_preview = pg_temp.description_preview(description)
+WHERE description IS NOT NULL;
+
+ALTER TABLE projects DISABLE TRIGGER trg_projects_updated;
+UPDATE projects SET description_preview = pg_temp.description_preview(description)
+WHERE description IS NOT NULL;
+ALTER TABLE projects ENABLE TRIGGER trg_projects_updated;
@@ -0,0 +1,25 @@
+-- Manual order within a status column (FractionalRank). Keys are compared byte-wise, which is
+-- what the base-62 alphabet is ordered by; a locale collation would interleave upper and lower case.
+ALTER TABLE tasks ADD COLUMN rank VARCHAR(64) COLLATE "C";
+
+-- Same digits as FractionalRank, four of them, trailing zeros removed.
+CREATE FUNCTION pg_temp.rank_key(n BIGINT) RETURNS TEXT AS $$
+    SELECT rtrim(string_agg(substr('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz',
+                                   (n / power(62, p)::BIGINT % 62)::INT + 1, 1), '' ORDER BY p DESC), '0')
+    FROM generate_series(0, 3) p
+$$ LANGUAGE SQL IMMUTABLE;
+
+-- Existing tasks keep their creation order, 62 key units apart. updated_at is left alone so the
+-- backfill does not show up in the changes feed.
+UPDATE tasks t SET rank = pg_temp.rank_key(ordered.position * 62)
+FROM (SELECT id, row_number() OVER (PARTITION BY project_id, status ORDER BY created_at, id) AS position
+      FROM tasks) ordered
+WHERE t.id = ordered.id;
+
+ALTER TABLE tasks ALTER COLUMN rank SET NOT NULL;
+
+CREATE INDEX idx_tasks_project_status_rank ON tasks (project_id, status, rank, id);
+
+-- Lets the rebalancer find columns with long keys without scanning the table.
+-- Same threshold as FractionalRank.REBALANCE_LENGTH.
+CREATE INDEX idx_tasks_long_rank ON tasks (project_id, status) WHERE length(rank) > 24;
@@ -0,0 +1,138 @@
+package com.taskmanagement.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.BatchConfig;
+import com.taskmanagement.dto.request.BatchRequest;
+import com.taskmanagement.dto.response.BatchResponse;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.security.RateLimitFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchExecutor Tests")
+class BatchExecutorTest {
+
+    @Mock
+    private WebApplicationContext applicationContext;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RateLimitFilter rateLimitFilter;
+
+    private BatchConfig batchConfig;
+    private BatchExecutor batchExecutor;
+
+    @BeforeEach
+    void setUp() {
+        batchConfig = new BatchConfig();
+        batchExecutor = new BatchExecutor(applicationContext, transactionManager,
+                new ObjectMapper().findAndRegisterModules(), batchConfig, rateLimitFilter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject a batch with more items than allowed")
+    void shouldRejectBatchOverTheCap() {
+        BatchRequest batch = batch(false, Collections.nCopies(batchConfig.getMaxRequests() + 1, item("GET", "/api/projects/1")));
+
+        assertThatThrownBy(() -> execute(batch))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("at most " + batchConfig.getMaxRequests());
+        verifyNoInteractions(rateLimitFilter, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported methods and paths outside the API or back into the batch endpoint")
+    void shouldRejectMalformedItems() {
+        assertThatThrownBy(() -> execute(batch(false, List.of(item("TRACE", "/api/projects/1")))))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Unsupported method");
+
+        for (String path : List.of("/api/batch", "/api/batch/", "/api/batch;x=1", "/api/projects;x=1/tasks",
+                "/api/projects/1/../../batch", "/api/%62atch", "/actuator/health", "api/projects")) {
+            assertThatThrownBy(() -> execute(batch(false, List.of(item("POST", path)))))
+                    .as(path)
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Unsupported path");
+        }
+        verifyNoInteractions(rateLimitFilter);
+    }
+
+    @Test
+    @DisplayName("Should answer items still pending at the deadline with 504")
+    void shouldTimeOutItemsPastTheDeadline() {
+        batchConfig.setTimeout(Duration.ZERO);
+
+        BatchResponse response = execute(batch(false, List.of(
+                item("POST", "/api/projects"),
+                item("DELETE", "/api/projects/1"))));
+
+        assertThat(response.getCommitted()).isNull();
+        assertThat(response.getResponses()).extracting(BatchResponse.Item::getStatus).containsExactly(504, 504);
+        verifyNoInteractions(rateLimitFilter);
+    }
+
+    @Test
+    @DisplayName("Should charge each item to the rate limit of its own class and answer 429 when over it")
+    void shouldRateLimitEachItem() {
+        when(rateLimitFilter.tryAcquire(any())).thenReturn(TimeUnit.MILLISECONDS.toNanos(1500));
+        SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+
+        BatchResponse response = execute(batch(true, List.of(
+                item("POST", "/api/projects/1/tasks?notify=true"),
+                item("GET", "/api/projects/1"))));
+
+        ArgumentCaptor<HttpServletRequest> charged = ArgumentCaptor.forClass(HttpServletRequest.class);
+        verify(rateLimitFilter).tryAcquire(charged.capture());
+        assertThat(charged.getValue().getMethod()).isEqualTo("POST");
+        assertThat(charged.getValue().getRequestURI()).isEqualTo("/api/projects/1/tasks");
+        assertThat(charged.getValue().getAttribute(BatchExecutor.ITEM_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+
+        assertThat(response.getCommitted()).isFalse();
+        assertThat(response.getResponses()).extracting(BatchResponse.Item::getStatus).containsExactly(429, 424);
+        assertThat(response.getResponses().get(0).getBody().get("message").asText())
+                .isEqualTo("Rate limit exceeded, retry after 2 seconds");
+        assertThat(transaction.isRollbackOnly()).isTrue();
+    }
+
+    private BatchResponse execute(BatchRequest batch) {
+        return batchExecutor.execute(batch, new MockHttpServletRequest("POST", "/api/batch"), new MockHttpServletResponse());
+    }
+
+    private static BatchRequest batch(boolean transactional, List<BatchRequest.Item> items) {
+        return BatchRequest.builder().transactional(transactional).requests(items).build();
+    }
+
+    private static BatchRequest.Item item(String method, String path) {
+        return BatchRequest.Item.builder().method(method).path(path).build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.taskmanagement.cache;
+
+import com.taskmanagement.config.ResponseCacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OffHeapResponseCache Tests")
+class OffHeapResponseCacheTest {
+
+    private static final String JSON = "application/json";
+
+    private final AtomicLong now = new AtomicLong();
+    private ResponseCacheConfig config;
+    private OffHeapResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        config = new ResponseCacheConfig();
+        config.setMaxSize(DataSize.ofBytes(30));
+        config.setMaxEntrySize(DataSize.ofBytes(20));
+        config.setTtl(Duration.ofSeconds(30));
+        config.setStripes(1);
+        responseCache = new OffHeapResponseCache(config, now::get);
+    }
+
+    @Test
+    @DisplayName("Should return stored bytes from a direct buffer")
+    void shouldReturnStoredBytes() {
+        responseCache.put("a", 1, JSON, bytes("{\"id\":1}"));
+
+        OffHeapResponseCache.CachedResponse cached = responseCache.get("a", 1);
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.content().isDirect()).isTrue();
+        assertThat(cached.contentType()).isEqualTo(JSON);
+        assertThat(text(cached.content())).isEqualTo("{\"id\":1}");
+        assertThat(responseCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop entries written under an older generation")
+    void shouldDropStaleGeneration() {
+        responseCache.put("a", 1, JSON, bytes("0123456789"));
+
+        assertThat(responseCache.get("a", 2)).isNull();
+        assertThat(responseCache.getEntryCount()).isZero();
+        assertThat(responseCache.getUsedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop entries older than the TTL")
+    void shouldExpireEntries() {
+        responseCache.put("a", 1, JSON, bytes("0123456789"));
+
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertThat(responseCache.get("a", 1)).isNotNull();
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(responseCache.get("a", 1)).isNull();
+        assertThat(responseCache.getEntryCount()).isZero();
+        assertThat(responseCache.getUsedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should split the byte budget across stripes and evict within a stripe only")
+    void shouldEvictWithinStripe() {
+        config.setMaxSize(DataSize.ofBytes(40));
+        config.setStripes(2);
+        responseCache = new OffHeapResponseCache(config, now::get);
+
+        // "a", "c" and "e" hash to one stripe, "b" to the other.
+        responseCache.put("a", 1, JSON, bytes("0123456789"));
+        responseCache.put("b", 1, JSON, bytes("0123456789"));
+        responseCache.put("c", 1, JSON, bytes("0123456789"));
+        responseCache.put("e", 1, JSON, bytes("0123456789"));
+
+        assertThat(responseCache.get("b", 1)).isNotNull();
+        assertThat(responseCache.get("a", 1)).isNull();
+        assertThat(responseCache.get("c", 1)).isNotNull();
+        assertThat(responseCache.get("e", 1)).isNotNull();
+        assertThat(responseCache.getUsedBytes()).isEqualTo(30);
+        assertThat(responseCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries to stay within the byte budget")
+    void shouldEvictLeastRecentlyUsed() {
+        responseCache.put("a", 1, JSON, bytes("0123456789"));
+        responseCache.put("b", 1, JSON, bytes("0123456789"));
+        responseCache.put("c", 1, JSON, bytes("0123456789"));
+        responseCache.get("a", 1);
+
+        responseCache.put("d", 1, JSON, bytes("0123456789"));
+
+        assertThat(responseCache.get("b", 1)).isNull();
+        assertThat(responseCache.get("a", 1)).isNotNull();
+        assertThat(responseCache.get("c", 1)).isNotNull();
+        assertThat(responseCache.get("d", 1)).isNotNull();
+        assertThat(responseCache.getUsedBytes()).isEqualTo(30);
+        assertThat(responseCache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not store entries above the entry size limit")
+    void shouldRejectOversizedEntries() {
+        assertThat(responseCache.put("a", 1, JSON, new byte[21])).isFalse();
+        assertThat(responseCache.getEntryCount()).isZero();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(ByteBuffer buffer) {
+        byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        return new String(content, StandardCharsets.UTF_8);
+    }
+}
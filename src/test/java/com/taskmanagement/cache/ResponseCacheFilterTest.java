@@ -0,0 +1,150 @@
+package com.taskmanagement.cache;
+
+import com.taskmanagement.config.ResponseCacheConfig;
+import com.taskmanagement.model.enums.UserRole;
+import com.taskmanagement.security.SecurityContextHelper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResponseCacheFilter Tests")
+class ResponseCacheFilterTest {
+
+    @Mock
+    private SecurityContextHelper securityContextHelper;
+
+    private ProjectGenerations projectGenerations;
+    private ResponseCacheFilter filter;
+    private AtomicInteger handlerCalls;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheConfig config = new ResponseCacheConfig();
+        config.setEnabled(true);
+        projectGenerations = new ProjectGenerations(config);
+        filter = new ResponseCacheFilter(new OffHeapResponseCache(config), projectGenerations, securityContextHelper, config);
+
+        handlerCalls = new AtomicInteger();
+        chain = (request, response) -> {
+            int call = handlerCalls.incrementAndGet();
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"call\":" + call + "}").getBytes(StandardCharsets.UTF_8));
+        };
+
+        lenient().when(securityContextHelper.isAuthenticated()).thenReturn(true);
+        lenient().when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("owner-sub");
+        lenient().when(securityContextHelper.getCurrentUserRole()).thenReturn(UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated requests from cache regardless of parameter order")
+    void shouldServeRepeatedRequestFromCache() throws Exception {
+        MockHttpServletResponse first = execute(request("page", "0", "size", "20"));
+        MockHttpServletResponse second = execute(request("size", "20", "page", "0"));
+
+        assertThat(handlerCalls.get()).isEqualTo(1);
+        assertThat(first.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+        assertThat(second.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(second.getContentAsString()).isEqualTo("{\"call\":1}");
+        assertThat(second.getContentLength()).isEqualTo(10);
+        assertThat(second.getContentType()).isEqualTo("application/json");
+    }
+
+    @Test
+    @DisplayName("Should rebuild the response after the project generation is bumped")
+    void shouldMissAfterGenerationBump() throws Exception {
+        execute(request());
+        projectGenerations.bump(13L);
+
+        MockHttpServletResponse response = execute(request());
+
+        assertThat(handlerCalls.get()).isEqualTo(2);
+        assertThat(response.getContentAsString()).isEqualTo("{\"call\":2}");
+    }
+
+    @Test
+    @DisplayName("Should not share cached responses between principals")
+    void shouldScopeCacheByPrincipal() throws Exception {
+        execute(request());
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("admin-sub");
+        when(securityContextHelper.getCurrentUserRole()).thenReturn(UserRole.ADMIN);
+
+        execute(request());
+
+        assertThat(handlerCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep responses negotiated for different Accept headers apart")
+    void shouldScopeCacheByAcceptHeader() throws Exception {
+        chain = (request, response) -> {
+            handlerCalls.incrementAndGet();
+            response.setContentType(((MockHttpServletRequest) request).getHeader("Accept"));
+            response.getOutputStream().write(new byte[]{(byte) 0xbf, (byte) 0xff});
+        };
+        MockHttpServletRequest cbor = request();
+        cbor.addHeader("Accept", "application/cbor");
+
+        execute(cbor);
+        MockHttpServletResponse cached = execute(cbor);
+        MockHttpServletResponse json = execute(request());
+
+        assertThat(handlerCalls.get()).isEqualTo(2);
+        assertThat(cached.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("HIT");
+        assertThat(cached.getContentType()).isEqualTo("application/cbor");
+        assertThat(json.getHeader(ResponseCacheFilter.CACHE_HEADER)).isEqualTo("MISS");
+    }
+
+    @Test
+    @DisplayName("Should not cache error responses")
+    void shouldNotCacheErrors() throws Exception {
+        chain = (request, response) -> {
+            handlerCalls.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(403);
+            response.setContentType("application/json");
+        };
+
+        execute(request());
+        execute(request());
+
+        assertThat(handlerCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should pass through other endpoints")
+    void shouldSkipOtherEndpoints() throws Exception {
+        execute(new MockHttpServletRequest("GET", "/api/projects/13/tasks/14"));
+        execute(new MockHttpServletRequest("GET", "/api/projects/13/tasks/14"));
+
+        assertThat(handlerCalls.get()).isEqualTo(2);
+    }
+
+    private MockHttpServletRequest request(String... parameters) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/13/tasks");
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.addParameter(parameters[i], parameters[i + 1]);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanagement.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskmanagement.security.SecurityContextHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@WithMockUser
+@DisplayName("Content negotiation Tests")
+class ContentNegotiationIntegrationTest {
+
+    private static final int TASK_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    private long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("encoding-" + suffix);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(suffix + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Encoding User");
+
+        projectId = objectMapper.readTree(perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Encoding " + suffix + "\",\"description\":\"Encodings\"}"))
+                .getResponse().getContentAsString()).get("id").asLong();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            perform(post("/api/projects/{projectId}/tasks", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"Task " + i + "\",\"description\":\"Encodings\",\"status\":\"TODO\"}"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should negotiate CBOR and Smile encodings of the same page")
+    void shouldNegotiateBinaryEncodings() throws Exception {
+        MvcResult json = perform(get("/api/projects/{projectId}/tasks", projectId));
+        JsonNode expected = objectMapper.readTree(json.getResponse().getContentAsString()).get("content");
+        assertThat(expected.get(0).get("createdAt").isTextual()).isTrue();
+
+        for (JsonFactory factory : new JsonFactory[]{new CBORFactory(), new SmileFactory()}) {
+            String mediaType = factory instanceof CBORFactory ? "application/cbor" : "application/x-jackson-smile";
+            MvcResult result = perform(get("/api/projects/{projectId}/tasks", projectId).accept(mediaType));
+            byte[] body = result.getResponse().getContentAsByteArray();
+            JsonNode content = new ObjectMapper(factory).readTree(body).get("content");
+
+            assertThat(result.getResponse().getContentType()).isEqualTo(mediaType);
+            assertThat(body.length).isLessThan(json.getResponse().getContentAsByteArray().length);
+            assertThat(content).hasSize(TASK_COUNT);
+            assertThat(content.get(0).get("title")).isEqualTo(expected.get(0).get("title"));
+            assertThat(content.get(0).get("createdAt").isArray()).isTrue();
+        }
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).as(result.getRequest().getRequestURI()).isLessThan(300);
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.batch.BatchExecutor;
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.datasource.ConsistencyToken;
+import com.taskmanagement.dto.request.BatchRequest;
+import com.taskmanagement.exception.ValidationException;
+import com.taskmanagement.security.SecurityContextHelper;
+import com.taskmanagement.service.ProjectService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "app.batch.max-concurrent-reads=" + BatchControllerIntegrationTest.MAX_CONCURRENT_READS,
+        "app.rate-limit.write.requests-per-second=0.01",
+        "app.rate-limit.write.burst=3"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@WithMockUser
+@DisplayName("Batch API Tests")
+class BatchControllerIntegrationTest {
+
+    static final int MAX_CONCURRENT_READS = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    @Autowired
+    private BatchController batchController;
+
+    @SpyBean
+    private ProjectService projectService;
+
+    private final Queue<String> readThreads = new ConcurrentLinkedQueue<>();
+    private final Queue<String> readTokens = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger readsInFlight = new AtomicInteger();
+    private final AtomicInteger maxReadsInFlight = new AtomicInteger();
+
+    private String sub;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sub = "batch-" + UUID.randomUUID();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn(sub);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(sub + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Batch User");
+
+        projectId = objectMapper.readTree(perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Batch " + sub + "\",\"description\":\"Batch\"}"))
+                .getResponse().getContentAsString()).get("id").asLong();
+
+        doAnswer(invocation -> {
+            readThreads.add(Thread.currentThread().getName());
+            readTokens.add(String.valueOf(currentRequest().getHeader(ConsistencyToken.HEADER)));
+            maxReadsInFlight.accumulateAndGet(readsInFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+                return invocation.callRealMethod();
+            } finally {
+                readsInFlight.decrementAndGet();
+            }
+        }).when(projectService).getProjectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should run consecutive GETs on the batch pool, no more at a time than the cap")
+    void shouldRunConsecutiveReadsConcurrently() throws Exception {
+        JsonNode responses = batch(false, IntStream.range(0, 2 * MAX_CONCURRENT_READS)
+                .mapToObj(i -> "{\"method\":\"GET\",\"path\":\"/api/projects/" + projectId + "\"}")
+                .collect(Collectors.joining(",")));
+
+        assertThat(responses).extracting(response -> response.get("status").asInt()).containsOnly(200).hasSize(2 * MAX_CONCURRENT_READS);
+        assertThat(readThreads).hasSize(2 * MAX_CONCURRENT_READS).allSatisfy(thread -> assertThat(thread).startsWith("batch-"));
+        assertThat(maxReadsInFlight.get()).isEqualTo(MAX_CONCURRENT_READS);
+    }
+
+    @Test
+    @DisplayName("Should pass the caller's consistency token to items and pin later items to tokens issued by earlier ones")
+    void shouldPropagateConsistencyTokens() throws Exception {
+        doAnswer(invocation -> {
+            Object created = invocation.callRealMethod();
+            ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse()
+                    .setHeader(ConsistencyToken.HEADER, "0/2000");
+            return created;
+        }).when(projectService).createProject(any());
+
+        MvcResult result = perform(post("/api/batch")
+                .header(ConsistencyToken.HEADER, "0/1000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"requests":[
+                          {"method":"GET","path":"/api/projects/%1$d"},
+                          {"method":"POST","path":"/api/projects","body":{"name":"Token %2$s","description":"Batch"}},
+                          {"method":"GET","path":"/api/projects/%1$d"},
+                          {"method":"GET","path":"/api/projects/%1$d"}
+                        ]}""".formatted(projectId, sub)));
+
+        assertThat(readTokens).containsExactly("0/1000", "0/2000", "0/2000");
+        assertThat(result.getResponse().getHeader(ConsistencyToken.HEADER)).isEqualTo("0/2000");
+    }
+
+    @Test
+    @DisplayName("Should roll back a transactional batch and answer the items after a failure with 424")
+    void shouldAnswerLaterItemsWithFailedDependency() throws Exception {
+        String body = perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"transactional":true,"requests":[
+                          {"method":"POST","path":"/api/projects","body":{"name":"Rolled back %1$s","description":"Batch"}},
+                          {"method":"POST","path":"/api/projects/0/tasks","body":{"title":"Missing project","status":"TODO"}},
+                          {"method":"PUT","path":"/api/projects/%2$d","body":{"name":"Renamed","description":"Batch"}}
+                        ]}""".formatted(sub, projectId))).getResponse().getContentAsString();
+        JsonNode batch = objectMapper.readTree(body);
+
+        assertThat(batch.get("committed").asBoolean()).isFalse();
+        assertThat(batch.get("responses")).extracting(response -> response.get("status").asInt()).containsExactly(201, 404, 424);
+        long rolledBack = batch.get("responses").get(0).get("body").get("id").asLong();
+        mockMvc.perform(get("/api/projects/{projectId}", rolledBack)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should charge every item to the caller's rate limit and answer 429 for items over it")
+    void shouldRateLimitEachItem() throws Exception {
+        var principal = new UsernamePasswordAuthenticationToken(Map.of("cognitoSub", sub), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // The batch itself spends one of the three write tokens, leaving two for its items.
+        JsonNode responses = objectMapper.readTree(perform(post("/api/batch")
+                .with(authentication(principal))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"requests":[
+                          {"method":"POST","path":"/api/projects/%1$d/tasks","body":{"title":"First","status":"TODO"}},
+                          {"method":"POST","path":"/api/projects/%1$d/tasks","body":{"title":"Second","status":"TODO"}},
+                          {"method":"POST","path":"/api/projects/%1$d/tasks","body":{"title":"Third","status":"TODO"}},
+                          {"method":"GET","path":"/api/projects/%1$d"}
+                        ]}""".formatted(projectId))).getResponse().getContentAsString()).get("responses");
+
+        assertThat(responses).extracting(response -> response.get("status").asInt()).containsExactly(201, 201, 429, 200);
+        assertThat(responses.get(2).get("body").get("message").asText()).startsWith("Rate limit exceeded");
+    }
+
+    @Test
+    @DisplayName("Should reject batches over the size cap and items that address the batch endpoint")
+    void shouldRejectOversizedAndNestedBatches() throws Exception {
+        String item = "{\"method\":\"GET\",\"path\":\"/api/projects/" + projectId + "\"}";
+        mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"requests\":[" + String.join(",", Collections.nCopies(31, item)) + "]}"))
+                .andExpect(status().isBadRequest());
+
+        for (String path : List.of("/api/batch", "/api/batch;x=1", "/api/batch/", "/api/projects/../batch")) {
+            mockMvc.perform(post("/api/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"requests\":[{\"method\":\"POST\",\"path\":\"" + path + "\",\"body\":{\"requests\":[]}}]}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        MockHttpServletRequest dispatched = new MockHttpServletRequest("POST", "/api/batch");
+        dispatched.setAttribute(BatchExecutor.ITEM_ATTRIBUTE, Boolean.TRUE);
+        BatchRequest nested = BatchRequest.builder()
+                .requests(List.of(BatchRequest.Item.builder().method("GET").path("/api/projects/" + projectId).build()))
+                .build();
+        assertThatThrownBy(() -> batchController.execute(nested, dispatched, new MockHttpServletResponse()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Batches cannot be nested");
+    }
+
+    private JsonNode batch(boolean transactional, String items) throws Exception {
+        return objectMapper.readTree(perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"transactional\":" + transactional + ",\"requests\":[" + items + "]}"))
+                .getResponse().getContentAsString()).get("responses");
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).as(result.getRequest().getRequestURI()).isLessThan(300);
+        return result;
+    }
+}
@@ -0,0 +1,165 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.model.enums.UserRole;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.security.SecurityContextHelper;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@WithMockUser(roles = "ADMIN")
+@DisplayName("Project transfer Tests")
+class ProjectTransferIntegrationTest {
+
+    private static final int TASK_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String sub;
+    private long projectId;
+    private long newOwnerId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sub = "transfer-" + UUID.randomUUID();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Transfer User");
+        when(securityContextHelper.getCurrentUserRole()).thenReturn(UserRole.ADMIN);
+        when(securityContextHelper.isCurrentUserAdmin()).thenReturn(true);
+
+        actAs(sub + "-new");
+        newOwnerId = idOf(perform(get("/api/users/me")));
+        actAs(sub);
+
+        projectId = idOf(perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Transfer " + sub + "\",\"description\":\"Transfer\"}")));
+        for (int i = 0; i < TASK_COUNT; i++) {
+            perform(post("/api/projects/{projectId}/tasks", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"Task " + i + "\",\"description\":\"Transfer\",\"status\":\"TODO\"}"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should move tasks to the new owner when a project is transferred")
+    void shouldMoveTasksOnTransfer() throws Exception {
+        perform(put("/api/projects/{projectId}/owner", projectId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ownerId\":" + newOwnerId + "}"));
+
+        JsonNode previousOwnerTasks = objectMapper.readTree(perform(get("/api/users/me/tasks").param("status", "TODO"))
+                .getResponse().getContentAsString());
+        JsonNode newOwnerTasks = objectMapper.readTree(perform(get("/api/users/{userId}/tasks", newOwnerId).param("status", "TODO"))
+                .getResponse().getContentAsString());
+        assertThat(previousOwnerTasks.get("totalElements").asLong()).isZero();
+        assertThat(newOwnerTasks.get("totalElements").asLong()).isEqualTo(TASK_COUNT);
+
+        JsonNode changes = objectMapper.readTree(perform(get("/api/users/me/tasks/changes"))
+                .getResponse().getContentAsString());
+        assertThat(changes.get("changed")).isEmpty();
+        assertThat(changes.get("deleted")).hasSize(TASK_COUNT);
+    }
+
+    @Test
+    @DisplayName("Should not create a task for the previous owner while a transfer is in flight")
+    void shouldNotCreateTaskForPreviousOwnerDuringTransfer() throws Exception {
+        // Warm the second-level cache, which still holds the previous owner until the transfer commits.
+        projectService.findProjectById(projectId);
+
+        CountDownLatch transferred = new CountDownLatch(1);
+        CompletableFuture<Void> transfer = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            projectService.transferProject(projectId, newOwnerId);
+            transferred.countDown();
+            sleep(300);
+        }));
+        assertThat(transferred.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Long> create = CompletableFuture.supplyAsync(() -> taskService.createTask(projectId,
+                TaskRequest.builder().title("Created during transfer").status(TaskStatus.TODO).build()).getId());
+        transfer.get(10, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> create.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UnauthorizedException.class);
+        transactionTemplate.executeWithoutResult(status -> assertThat(taskRepository.findByProjectId(projectId, Pageable.unpaged()))
+                .hasSize(TASK_COUNT)
+                .allSatisfy(task -> assertThat(task.getOwnerId()).isEqualTo(newOwnerId)));
+    }
+
+    private void actAs(String cognitoSub) {
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn(cognitoSub);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(cognitoSub + "@example.com");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).as(result.getRequest().getRequestURI()).isLessThan(300);
+        return result;
+    }
+
+    private long idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
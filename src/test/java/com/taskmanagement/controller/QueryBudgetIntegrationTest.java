@@ -0,0 +1,201 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.model.enums.UserRole;
+import com.taskmanagement.monitoring.MaxQueries;
+import com.taskmanagement.monitoring.QueryBudgetInterceptor;
+import com.taskmanagement.security.SecurityContextHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@WithMockUser(roles = "ADMIN")
+@DisplayName("Query budget Tests")
+class QueryBudgetIntegrationTest {
+
+    private static final int TASK_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    private long projectId;
+    private long taskId;
+    private long userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("budget-" + suffix);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(suffix + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Budget User");
+        when(securityContextHelper.getCurrentUserRole()).thenReturn(UserRole.ADMIN);
+        when(securityContextHelper.isCurrentUserAdmin()).thenReturn(true);
+
+        projectId = idOf(perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Budget " + suffix + "\",\"description\":\"Queries\"}")));
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskId = idOf(perform(post("/api/projects/{projectId}/tasks", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"Task " + i + "\",\"description\":\"Queries\",\"status\":\"TODO\"}")));
+        }
+        userId = idOf(perform(get("/api/users/me")));
+    }
+
+    @Test
+    @DisplayName("Should declare a query budget on every endpoint")
+    void shouldDeclareBudgetOnEveryEndpoint() {
+        for (Class<?> controller : new Class<?>[]{TaskController.class, TaskLookupController.class, ProjectController.class, UserController.class, BatchController.class}) {
+            Arrays.stream(controller.getDeclaredMethods())
+                    .filter(method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class))
+                    .forEach(method -> assertThat(method.getAnnotation(MaxQueries.class))
+                            .as("@MaxQueries on %s.%s", controller.getSimpleName(), method.getName())
+                            .isNotNull());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep task endpoints within their query budgets")
+    void shouldKeepTaskEndpointsWithinBudget() throws Exception {
+        perform(get("/api/projects/{projectId}/tasks", projectId).param("size", "50"));
+        perform(get("/api/projects/{projectId}/tasks", projectId).param("status", "TODO"));
+        perform(get("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId));
+        perform(get("/api/projects/{projectId}/tasks/{taskId}/history", projectId, taskId));
+
+        JsonNode lookup = objectMapper.readTree(perform(get("/api/tasks").param("ids", taskId + ",0," + (taskId - 1)))
+                .getResponse().getContentAsString());
+        assertThat(lookup.get("items").findValuesAsText("id")).containsExactly(String.valueOf(taskId), String.valueOf(taskId - 1));
+        assertThat(lookup.get("missingIds").get(0).asLong()).isZero();
+
+        perform(post("/api/projects/{projectId}/tasks/{taskId}/move", projectId, taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"beforeTaskId\":" + (taskId - 1) + "}"));
+        perform(put("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Renamed\",\"description\":\"Queries\",\"status\":\"IN_PROGRESS\"}"));
+        perform(patch("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"description\":null}"));
+        perform(patch("/api/projects/{projectId}/tasks/{taskId}/status", projectId, taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DONE\"}"));
+        perform(delete("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId));
+    }
+
+    @Test
+    @DisplayName("Should keep project endpoints within their query budgets")
+    void shouldKeepProjectEndpointsWithinBudget() throws Exception {
+        perform(get("/api/projects"));
+        perform(get("/api/projects/{projectId}", projectId));
+        perform(get("/api/projects/search").param("searchTerm", "Budget"));
+        perform(put("/api/projects/{projectId}", projectId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Renamed " + UUID.randomUUID() + "\",\"description\":\"Queries\"}"));
+        perform(delete("/api/projects/{projectId}", projectId));
+    }
+
+    @Test
+    @DisplayName("Should keep user endpoints within their query budgets")
+    void shouldKeepUserEndpointsWithinBudget() throws Exception {
+        perform(get("/api/users/me/workspace"));
+        perform(get("/api/users/me/projects"));
+        perform(get("/api/users/me/tasks"));
+        perform(get("/api/users/me/tasks").param("status", "TODO"));
+        perform(get("/api/users/me/tasks/changes"));
+        perform(get("/api/users"));
+        perform(get("/api/users/{userId}", userId));
+        perform(get("/api/users/{userId}/projects", userId));
+        perform(get("/api/users/{userId}/tasks", userId));
+        perform(get("/api/users/{userId}/tasks", userId).param("status", "TODO"));
+    }
+
+    @Test
+    @DisplayName("Should run batch items in order and roll back a failed transactional batch")
+    void shouldExecuteBatches() throws Exception {
+        String batch = """
+                {"requests":[
+                  {"id":"project","method":"GET","path":"/api/projects/%1$d"},
+                  {"id":"create","method":"POST","path":"/api/projects/%1$d/tasks","body":{"title":"Batched","status":"TODO"}},
+                  {"id":"todo","method":"GET","path":"/api/projects/%1$d/tasks?status=TODO&size=50"},
+                  {"id":"lookup","method":"GET","path":"/api/tasks?ids=%2$d"},
+                  {"id":"missing","method":"GET","path":"/api/projects/0"}
+                ]}""".formatted(projectId, taskId);
+        JsonNode responses = objectMapper.readTree(perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batch)).getResponse().getContentAsString()).get("responses");
+
+        assertThat(responses).extracting(response -> response.get("id").asText()).containsExactly("project", "create", "todo", "lookup", "missing");
+        assertThat(responses).extracting(response -> response.get("status").asInt()).containsExactly(200, 201, 200, 200, 404);
+        assertThat(responses.get(2).get("body").get("totalElements").asInt()).isEqualTo(TASK_COUNT + 1);
+        assertThat(responses.get(3).get("body").get("items").get(0).get("id").asLong()).isEqualTo(taskId);
+        assertThat(responses.get(4).get("body").get("status").asInt()).isEqualTo(404);
+
+        String transactional = """
+                {"transactional":true,"requests":[
+                  {"method":"POST","path":"/api/projects/%1$d/tasks","body":{"title":"Rolled back","status":"TODO"}},
+                  {"method":"PATCH","path":"/api/projects/%1$d/tasks/%2$d/status","body":{}},
+                  {"method":"DELETE","path":"/api/projects/%1$d/tasks/%2$d"}
+                ]}""".formatted(projectId, taskId);
+        JsonNode rolledBack = objectMapper.readTree(perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(transactional)).getResponse().getContentAsString());
+
+        assertThat(rolledBack.get("committed").asBoolean()).isFalse();
+        assertThat(rolledBack.get("responses")).extracting(response -> response.get("status").asInt()).containsExactly(201, 400, 424);
+        JsonNode tasks = objectMapper.readTree(perform(get("/api/projects/{projectId}/tasks", projectId))
+                .getResponse().getContentAsString());
+        assertThat(tasks.get("totalElements").asInt()).isEqualTo(TASK_COUNT + 1);
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).as(result.getRequest().getRequestURI()).isLessThan(300);
+
+        Method handler = ((HandlerMethod) result.getHandler()).getMethod();
+        Integer count = (Integer) result.getRequest().getAttribute(QueryBudgetInterceptor.QUERY_COUNT_ATTRIBUTE);
+        assertThat(count)
+                .as("SQL statements issued by %s", handler.getName())
+                .isNotNull()
+                .isLessThanOrEqualTo(handler.getAnnotation(MaxQueries.class).value());
+        return result;
+    }
+
+    private long idOf(MvcResult result) throws Exception {
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.get("id").asLong();
+    }
+}
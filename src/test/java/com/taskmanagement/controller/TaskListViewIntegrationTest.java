@@ -0,0 +1,113 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.security.SecurityContextHelper;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@WithMockUser
+@DisplayName("Task list view Tests")
+class TaskListViewIntegrationTest {
+
+    private static final int TASK_COUNT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long projectId;
+    private long taskId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("list-" + suffix);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(suffix + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("List User");
+
+        projectId = idOf(perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"List " + suffix + "\",\"description\":\"Views\"}")));
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskId = idOf(perform(post("/api/projects/{projectId}/tasks", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"Task " + i + "\",\"description\":\"Views\",\"status\":\"TODO\"}")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave descriptions out of list views and serve them from single-item reads")
+    void shouldServeDescriptionsOnlyFromSingleItemReads() throws Exception {
+        JsonNode tasks = objectMapper.readTree(perform(get("/api/projects/{projectId}/tasks", projectId))
+                .getResponse().getContentAsString()).get("content");
+        assertThat(tasks).hasSize(TASK_COUNT).allSatisfy(task -> {
+            assertThat(task.has("description")).isFalse();
+            assertThat(task.get("descriptionPreview").asText()).isEqualTo("Views");
+        });
+
+        JsonNode sparse = objectMapper.readTree(perform(get("/api/users/me/projects").param("fields", "id,name"))
+                .getResponse().getContentAsString()).get("content").get(0);
+        assertThat(sparse.fieldNames()).toIterable().containsExactlyInAnyOrder("id", "name");
+
+        mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId).param("fields", "title,description"))
+                .andExpect(status().isBadRequest());
+
+        JsonNode task = objectMapper.readTree(perform(get("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId))
+                .getResponse().getContentAsString());
+        assertThat(task.get("description").asText()).isEqualTo("Views");
+
+        transactionTemplate.executeWithoutResult(tx -> assertThat(taskRepository.findByProjectId(projectId, PageRequest.of(0, 10)))
+                .hasSize(TASK_COUNT)
+                .noneMatch(entity -> Hibernate.isPropertyInitialized(entity, "description")));
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).as(result.getRequest().getRequestURI()).isLessThan(300);
+        return result;
+    }
+
+    private long idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
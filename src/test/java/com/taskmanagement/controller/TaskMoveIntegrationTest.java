@@ -0,0 +1,141 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.security.SecurityContextHelper;
+import com.taskmanagement.service.TaskRankService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.response-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@WithMockUser
+@DisplayName("Task move Tests")
+class TaskMoveIntegrationTest {
+
+    private static final int TASK_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskRankService taskRankService;
+
+    private long projectId;
+    private long taskId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("move-" + suffix);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(suffix + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Move User");
+        when(securityContextHelper.isAuthenticated()).thenReturn(true);
+
+        projectId = idOf(perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Move " + suffix + "\",\"description\":\"Board\"}")));
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskId = idOf(perform(post("/api/projects/{projectId}/tasks", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"Task " + i + "\",\"description\":\"Board\",\"status\":\"TODO\"}")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reorder a status column by moving single tasks")
+    void shouldMoveTasksWithinAndAcrossColumns() throws Exception {
+        long first = taskId - (TASK_COUNT - 1);
+        perform(post("/api/projects/{projectId}/tasks/{taskId}/move", projectId, taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"beforeTaskId\":" + first + "}"));
+        perform(post("/api/projects/{projectId}/tasks/{taskId}/move", projectId, first + 1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterTaskId\":" + (first + 2) + "}"));
+        perform(post("/api/projects/{projectId}/tasks/{taskId}/move", projectId, first + 2)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DONE\"}"));
+
+        assertThat(rankedTodo().findValuesAsText("id")).containsExactly(
+                String.valueOf(taskId), String.valueOf(first), String.valueOf(first + 1), String.valueOf(first + 3));
+
+        JsonNode board = objectMapper.readTree(perform(get("/api/projects/{projectId}/tasks", projectId)
+                .param("sortBy", "rank").param("direction", "ASC"))
+                .getResponse().getContentAsString()).get("content");
+        assertThat(board.findValuesAsText("status")).containsExactly("TODO", "TODO", "TODO", "TODO", "DONE");
+        assertThat(taskRepository.findColumnsWithLongRanks(PageRequest.of(0, 10))).isEmpty();
+
+        mockMvc.perform(post("/api/projects/{projectId}/tasks/{taskId}/move", projectId, taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"afterTaskId\":" + (first + 2) + "}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should serve the new keys after a column is respaced")
+    void shouldInvalidateCachedListsOnRespace() throws Exception {
+        JsonNode before = rankedTodo();
+        assertThat(rankedTodoRequest().getResponse().getHeader("X-Cache")).isEqualTo("HIT");
+
+        taskRankService.rebalance(projectId, TaskStatus.TODO);
+
+        MvcResult respaced = rankedTodoRequest();
+        assertThat(respaced.getResponse().getHeader("X-Cache")).isEqualTo("MISS");
+        JsonNode after = objectMapper.readTree(respaced.getResponse().getContentAsString()).get("content");
+        assertThat(after.findValuesAsText("id")).isEqualTo(before.findValuesAsText("id"));
+        assertThat(after.findValuesAsText("rank")).isNotEqualTo(before.findValuesAsText("rank"));
+    }
+
+    private JsonNode rankedTodo() throws Exception {
+        return objectMapper.readTree(rankedTodoRequest().getResponse().getContentAsString()).get("content");
+    }
+
+    private MvcResult rankedTodoRequest() throws Exception {
+        return perform(get("/api/projects/{projectId}/tasks", projectId)
+                .param("status", "TODO").param("sortBy", "rank").param("direction", "ASC"));
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).as(result.getRequest().getRequestURI()).isLessThan(300);
+        return result;
+    }
+
+    private long idOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+}
@@ -0,0 +1,156 @@
+package com.taskmanagement.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaA;
+    private DataSource replicaB;
+    private ReplicaRoutingDataSource routingDataSource;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = dataSource();
+        replicaA = dataSource();
+        replicaB = dataSource();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("a", replicaA);
+        replicas.put("b", replicaB);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+
+        request = new MockHttpServletRequest("GET", "/api/projects/13/tasks");
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should send read-write transactions to the primary")
+    void shouldRouteWritesToPrimary() throws Exception {
+        markCaughtUp("a", 100);
+        markCaughtUp("b", 100);
+
+        routingDataSource.getConnection();
+
+        verify(primary).getConnection();
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    @DisplayName("Should balance read-only transactions across available replicas")
+    void shouldBalanceReadsAcrossReplicas() throws Exception {
+        markCaughtUp("a", 100);
+        markCaughtUp("b", 100);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routingDataSource.getConnection();
+        routingDataSource.getConnection();
+
+        verify(replicaA).getConnection();
+        verify(replicaB).getConnection();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is available")
+    void shouldFallBackWhenReplicasUnavailable() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routingDataSource.getConnection();
+
+        verify(primary).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should only use replicas that replayed the client's consistency token")
+    void shouldHonourConsistencyToken() throws Exception {
+        markCaughtUp("a", 0x100);
+        markCaughtUp("b", 0x300);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        request.addHeader(ConsistencyToken.HEADER, "0/200");
+
+        routingDataSource.getConnection();
+        routingDataSource.getConnection();
+
+        verify(replicaB, times(2)).getConnection();
+        verifyNoInteractions(primary, replicaA);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when no replica has caught up with the token")
+    void shouldUsePrimaryWhenTokenAhead() throws Exception {
+        markCaughtUp("a", 0x100);
+        markCaughtUp("b", 0x100);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        request.addHeader(ConsistencyToken.HEADER, "1/0");
+
+        routingDataSource.getConnection();
+
+        verify(primary).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should treat a malformed token as requiring the primary")
+    void shouldUsePrimaryForMalformedToken() throws Exception {
+        markCaughtUp("a", Long.MAX_VALUE - 1);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        request.addHeader(ConsistencyToken.HEADER, "not-an-lsn");
+
+        routingDataSource.getConnection();
+
+        verify(primary).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should round-trip LSN tokens and issue them on write requests only")
+    void shouldIssueTokens() {
+        assertThat(ConsistencyToken.parse("16/B374D848")).isEqualTo(0x16B374D848L);
+        assertThat(ConsistencyToken.format(0x16B374D848L)).isEqualTo("16/B374D848");
+
+        assertThat(ConsistencyToken.isWriteRequest()).isFalse();
+        request.setMethod("POST");
+        assertThat(ConsistencyToken.isWriteRequest()).isTrue();
+
+        ConsistencyToken.issue(0x300);
+        ConsistencyToken.issue(0x200);
+        assertThat(response.getHeader(ConsistencyToken.HEADER)).isEqualTo("0/300");
+    }
+
+    private void markCaughtUp(String name, long replayLsn) {
+        routingDataSource.getReplicas().stream()
+                .filter(replica -> replica.getName().equals(name))
+                .forEach(replica -> replica.update(true, replayLsn, 0, 0));
+    }
+
+    private static DataSource dataSource() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        return dataSource;
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanagement.datasource;
+
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.model.enums.UserRole;
+import com.taskmanagement.security.SecurityContextHelper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * The "replica" is the primary's own in-memory database, reached as a user that may only SELECT,
+ * so a write that is routed to it fails instead of silently succeeding.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "app.replicas.enabled=true",
+        "app.replicas.lag-check-interval=1h",
+        "app.replicas.nodes[0].name=replica",
+        "app.replicas.nodes[0].url=jdbc:h2:mem:replica-routing;MODE=PostgreSQL",
+        "app.replicas.nodes[0].username=" + ReplicaRoutingIntegrationTest.REPLICA_USER,
+        "app.replicas.nodes[0].password=" + ReplicaRoutingIntegrationTest.REPLICA_USER,
+        "app.replicas.nodes[0].maximum-pool-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@WithMockUser(roles = "ADMIN")
+@DisplayName("Replica routing Tests")
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_USER = "replica";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    private JdbcTemplate primary;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = new JdbcTemplate(primaryDataSource);
+        primary.execute("CREATE USER IF NOT EXISTS " + REPLICA_USER + " PASSWORD '" + REPLICA_USER + "'");
+        primary.execute("GRANT SELECT ON SCHEMA PUBLIC TO " + REPLICA_USER);
+        routingDataSource.getReplicas().forEach(replica -> replica.update(true, Long.MAX_VALUE, 0, 0));
+
+        actAs("owner-" + UUID.randomUUID(), UserRole.USER);
+        MvcResult created = mockMvc.perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Routing " + UUID.randomUUID() + "\",\"description\":\"Routing\"}")).andReturn();
+        assertThat(created.getResponse().getStatus()).isEqualTo(201);
+        projectId = primary.queryForObject("SELECT max(id) FROM projects", Long.class);
+    }
+
+    @Test
+    @DisplayName("Should send a write to the primary after a read-only lookup in the same request")
+    void shouldWriteToPrimaryAfterReplicaRead() throws Exception {
+        // Cached projects would be served without a connection; the lookup must reach a replica.
+        entityManagerFactory.getCache().evictAll();
+        String sub = "admin-" + UUID.randomUUID();
+        actAs(sub, UserRole.ADMIN);
+
+        // Looks the project up read-only, then inserts the caller's user row on first sight.
+        MvcResult result = mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)).andReturn();
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(((HikariDataSource) routingDataSource.getReplicas().get(0).getDataSource())
+                .getHikariPoolMXBean().getTotalConnections()).isPositive();
+        assertThat(primary.queryForObject("SELECT count(*) FROM users WHERE cognito_sub = ?", Long.class, sub))
+                .isEqualTo(1);
+    }
+
+    private void actAs(String sub, UserRole role) {
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn(sub);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(sub + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Routing User");
+        when(securityContextHelper.getCurrentUserRole()).thenReturn(role);
+        when(securityContextHelper.isCurrentUserAdmin()).thenReturn(role == UserRole.ADMIN);
+    }
+}
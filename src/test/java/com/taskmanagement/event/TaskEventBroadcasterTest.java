@@ -0,0 +1,148 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.config.EventStreamConfig;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.model.enums.ProjectEventType;
+import com.taskmanagement.model.enums.TaskEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TaskEventBroadcaster Tests")
+class TaskEventBroadcasterTest {
+
+    private static final Long OWNER_ID = 5L;
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private ExecutorService dispatcher;
+    private ScheduledExecutorService heartbeats;
+    private TaskEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        EventStreamConfig config = new EventStreamConfig();
+        config.setBufferSize(2);
+
+        dispatcher = mock(ExecutorService.class);
+        doAnswer(invocation -> pendingDrains.add(invocation.getArgument(0)))
+                .when(dispatcher).execute(any(Runnable.class));
+        heartbeats = mock(ScheduledExecutorService.class);
+
+        broadcaster = new TaskEventBroadcaster(config, dispatcher, heartbeats);
+    }
+
+    @Test
+    @DisplayName("Should deliver events only to subscribers of the same project")
+    void shouldDeliverEventsToProjectSubscribers() {
+        broadcaster.subscribe(1L, OWNER_ID, false);
+        broadcaster.subscribe(2L, OWNER_ID, false);
+
+        broadcaster.onTaskChanged(event(1L));
+
+        assertThat(pendingDrains).hasSize(1);
+        pendingDrains.forEach(Runnable::run);
+        assertThat(broadcaster.getSubscriberCount(1L)).isEqualTo(1);
+        assertThat(broadcaster.getSubscriberCount(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should disconnect subscriber whose buffer overflows")
+    void shouldDisconnectSlowSubscriber() {
+        broadcaster.subscribe(1L, OWNER_ID, false);
+
+        broadcaster.onTaskChanged(event(1L));
+        broadcaster.onTaskChanged(event(1L));
+        assertThat(broadcaster.getSubscriberCount(1L)).isEqualTo(1);
+
+        broadcaster.onTaskChanged(event(1L));
+        assertThat(broadcaster.getSubscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep subscriber connected once its buffer is drained")
+    void shouldKeepSubscriberAfterDrain() {
+        broadcaster.subscribe(1L, OWNER_ID, false);
+
+        for (int i = 0; i < 5; i++) {
+            broadcaster.onTaskChanged(event(1L));
+            pendingDrains.forEach(Runnable::run);
+            pendingDrains.clear();
+        }
+
+        assertThat(broadcaster.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should schedule heartbeats apart from the dispatcher threads")
+    void shouldScheduleHeartbeatsApartFromDispatcher() {
+        verify(heartbeats).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verifyNoInteractions(dispatcher);
+
+        broadcaster.subscribe(1L, OWNER_ID, false);
+        broadcaster.sendHeartbeats();
+
+        assertThat(pendingDrains).hasSize(1);
+        pendingDrains.forEach(Runnable::run);
+        assertThat(broadcaster.getSubscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should close the streams of a deleted project")
+    void shouldDisconnectSubscribersOfDeletedProject() {
+        broadcaster.subscribe(1L, OWNER_ID, false);
+        broadcaster.subscribe(1L, 9L, true);
+        broadcaster.subscribe(2L, OWNER_ID, false);
+
+        broadcaster.onProjectChanged(projectEvent(ProjectEventType.DELETED, 1L, null));
+
+        assertThat(broadcaster.getSubscriberCount(1L)).isZero();
+        assertThat(broadcaster.getSubscriberCount(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should close the previous owner's streams of a transferred project but keep admins'")
+    void shouldDisconnectPreviousOwnerOnTransfer() {
+        broadcaster.subscribe(1L, OWNER_ID, false);
+        broadcaster.subscribe(1L, 9L, true);
+
+        broadcaster.onProjectChanged(projectEvent(ProjectEventType.UPDATED, 1L, OWNER_ID));
+        assertThat(broadcaster.getSubscriberCount(1L)).isEqualTo(2);
+
+        broadcaster.onProjectChanged(projectEvent(ProjectEventType.UPDATED, 1L, 7L));
+        assertThat(broadcaster.getSubscriberCount(1L)).isEqualTo(1);
+
+        broadcaster.onTaskChanged(event(1L));
+        assertThat(pendingDrains).hasSize(1);
+    }
+
+    private ProjectChangedEvent projectEvent(ProjectEventType type, Long projectId, Long ownerId) {
+        return ProjectChangedEvent.builder()
+                .type(type)
+                .projectId(projectId)
+                .project(ownerId != null ? ProjectResponse.builder().id(projectId).ownerId(ownerId).build() : null)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private TaskChangedEvent event(Long projectId) {
+        return TaskChangedEvent.builder()
+                .type(TaskEventType.STATUS_CHANGED)
+                .projectId(projectId)
+                .taskId(10L)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskmanagement.model.converter;
+
+import com.taskmanagement.model.enums.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TaskStatusConverter Tests")
+class TaskStatusConverterTest {
+
+    private final TaskStatusConverter converter = new TaskStatusConverter();
+
+    @Test
+    @DisplayName("Should keep the stored codes stable")
+    void shouldKeepStoredCodesStable() {
+        assertThat(converter.convertToDatabaseColumn(TaskStatus.TODO)).isEqualTo((short) 0);
+        assertThat(converter.convertToDatabaseColumn(TaskStatus.IN_PROGRESS)).isEqualTo((short) 1);
+        assertThat(converter.convertToDatabaseColumn(TaskStatus.DONE)).isEqualTo((short) 2);
+    }
+
+    @Test
+    @DisplayName("Should round-trip every status and reject unknown codes")
+    void shouldRoundTripEveryStatus() {
+        for (TaskStatus status : TaskStatus.values()) {
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status))).isEqualTo(status);
+        }
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThatThrownBy(() -> converter.convertToEntityAttribute((short) 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskmanagement.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.taskmanagement.config.AccessLogConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AccessLogFilter Tests")
+class AccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) AccessLogFilter.ACCESS_LOG;
+    private ListAppender<ILoggingEvent> appender;
+    private Level previousLevel;
+    private AccessLogConfig config;
+    private AccessLogFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender = new ListAppender<>();
+        appender.start();
+        accessLogger.addAppender(appender);
+        previousLevel = accessLogger.getLevel();
+        accessLogger.setLevel(Level.INFO);
+
+        config = new AccessLogConfig();
+        config.setSuccessSampleRate(0);
+        filter = new AccessLogFilter(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("Should skip unsampled successful requests")
+    void shouldSkipUnsampledSuccess() throws Exception {
+        perform(200);
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should log sampled requests with endpoint pattern and status")
+    void shouldLogSampledRequests() throws Exception {
+        config.setSuccessSampleRate(1);
+
+        perform(200);
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(event.getFormattedMessage())
+                    .contains("method=GET", "endpoint=/api/projects/{projectId}/tasks", "status=200", "db_ms=", "user=-");
+        });
+    }
+
+    @Test
+    @DisplayName("Should always log failed requests and server errors at WARN")
+    void shouldAlwaysLogFailures() throws Exception {
+        perform(404);
+        perform(503);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.INFO, Level.WARN);
+    }
+
+    @Test
+    @DisplayName("Should log requests that propagate an exception as 500")
+    void shouldLogExceptionsAsServerErrors() {
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage()).contains("status=500"));
+    }
+
+    private void perform(int status) throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response).setStatus(status));
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/1/tasks");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{projectId}/tasks");
+        return request;
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanagement.monitoring;
+
+import com.auth0.jwk.NetworkException;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.service.ProjectService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MethodMetricsAspect Tests")
+class MethodMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectService projectService;
+    private ProjectService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectService = mock(ProjectService.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(projectService);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MethodMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time successful service calls without id tags")
+    void shouldTimeSuccessfulCalls() {
+        when(projectService.getProjectById(1L)).thenReturn(ProjectResponse.builder().id(1L).build());
+
+        proxy.getProjectById(1L);
+        proxy.getProjectById(1L);
+
+        Timer timer = meterRegistry.get(MethodMetricsAspect.METRIC_NAME)
+                .tag("layer", "service")
+                .tag("class", "ProjectService")
+                .tag("method", "getProjectById")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.getId().getTags()).extracting("key")
+                .containsExactlyInAnyOrder("layer", "class", "method", "outcome", "exception");
+    }
+
+    @Test
+    @DisplayName("Should tag failures with outcome and exception type and rethrow")
+    void shouldTagFailures() {
+        when(projectService.getProjectById(2L)).thenThrow(new ResourceNotFoundException("Project not found"));
+
+        assertThatThrownBy(() -> proxy.getProjectById(2L)).isInstanceOf(ResourceNotFoundException.class);
+
+        Timer timer = meterRegistry.get(MethodMetricsAspect.METRIC_NAME)
+                .tag("outcome", "not_found")
+                .tag("exception", "ResourceNotFoundException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should classify JWT failures into a fixed set of reasons")
+    void shouldClassifyAuthFailures() {
+        assertThat(AuthMetrics.reason(new TokenExpiredException("expired", Instant.now()))).isEqualTo("expired");
+        assertThat(AuthMetrics.reason(new JWTDecodeException("bad"))).isEqualTo("malformed");
+        assertThat(AuthMetrics.reason(new NetworkException("down", null))).isEqualTo("jwks_unavailable");
+        assertThat(AuthMetrics.reason(new SigningKeyNotFoundException("kid", null))).isEqualTo("unknown_key");
+        assertThat(AuthMetrics.reason(new IllegalArgumentException("no kid"))).isEqualTo("missing_key_id");
+        assertThat(AuthMetrics.reason(new IllegalStateException())).isEqualTo("other");
+    }
+}
@@ -0,0 +1,148 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.exception.ValidationException;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@DisplayName("Sort key index Tests")
+class SortKeyIndexTest {
+
+    private static final Pattern INDEX_STATEMENT = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\w+)\\s+ON\\s+(\\w+)\\s*\\(([^)]*)\\)"
+                    + "|DROP\\s+INDEX\\s+(?:IF\\s+EXISTS\\s+)?(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should back every task sort key with a filter-prefixed composite index")
+    void shouldBackTaskSortKeysWithIndexes() {
+        for (TaskSortKey key : TaskSortKey.values()) {
+            for (boolean statusFiltered : new boolean[]{false, true}) {
+                assertThat(indexColumns("TASKS", key.getIndex(statusFiltered)))
+                        .isEqualTo(upperCase(expectedColumns(key, statusFiltered)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should create every sort key's index with the same columns in the Flyway migrations")
+    void shouldBackSortKeysWithMigratedIndexes() throws IOException {
+        Map<String, String> migrated = migratedIndexes();
+
+        for (TaskSortKey key : TaskSortKey.values()) {
+            for (boolean statusFiltered : new boolean[]{false, true}) {
+                assertThat(migrated.get(key.getIndex(statusFiltered)))
+                        .as(key.getIndex(statusFiltered))
+                        .isEqualTo("tasks " + expectedColumns(key, statusFiltered));
+            }
+        }
+        for (ProjectSortKey key : ProjectSortKey.values()) {
+            assertThat(migrated.get(key.getIndex()))
+                    .as(key.getIndex())
+                    .isEqualTo("projects " + expectedColumns(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Should back every project sort key with an owner-prefixed composite index")
+    void shouldBackProjectSortKeysWithIndexes() {
+        for (ProjectSortKey key : ProjectSortKey.values()) {
+            assertThat(indexColumns("PROJECTS", key.getIndex())).isEqualTo(upperCase(expectedColumns(key)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject sort keys without a backing index")
+    void shouldRejectUnsupportedSortKeys() {
+        assertThatThrownBy(() -> TaskSortKey.of("description"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("createdAt, updatedAt, rank");
+        assertThatThrownBy(() -> ProjectSortKey.of("description"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("createdAt, updatedAt, name");
+
+        assertThat(TaskSortKey.of("updatedAt").toSort(Sort.Direction.DESC))
+                .isEqualTo(Sort.by(Sort.Direction.DESC, "updatedAt", "id"));
+        assertThat(TaskSortKey.of("rank").toSort(Sort.Direction.ASC))
+                .isEqualTo(Sort.by(Sort.Direction.ASC, "status", "rank", "id"));
+        assertThat(ProjectSortKey.of("name").toSort(Sort.Direction.ASC))
+                .isEqualTo(Sort.by(Sort.Direction.ASC, "name"));
+    }
+
+    // An unfiltered listing sorted on a status-grouped key, or one its project index cannot order,
+    // shares the status-prefixed index with the filtered listing.
+    private static List<String> expectedColumns(TaskSortKey key, boolean statusFiltered) {
+        return statusFiltered || key.isGroupedByStatus() || !key.isIndexOrdered(false)
+                ? List.of("project_id", "status", key.getColumn(), "id")
+                : List.of("project_id", key.getColumn(), "id");
+    }
+
+    private static List<String> expectedColumns(ProjectSortKey key) {
+        return key.isTieBreakById()
+                ? List.of("owner_id", key.getColumn(), "id")
+                : List.of("owner_id", key.getColumn());
+    }
+
+    private static List<String> upperCase(List<String> columns) {
+        return columns.stream().map(String::toUpperCase).toList();
+    }
+
+    /**
+     * Replays the CREATE and DROP INDEX statements of the migrations in version order, giving each
+     * index that is left its table and column list, e.g. {@code tasks [project_id, status, rank, id]}.
+     */
+    private static Map<String, String> migratedIndexes() throws IOException {
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql");
+        Arrays.sort(migrations, Comparator.comparing(migration ->
+                MigrationVersion.fromVersion(migration.getFilename().substring(1, migration.getFilename().indexOf("__")))));
+
+        Map<String, String> indexes = new HashMap<>();
+        for (Resource migration : migrations) {
+            Matcher matcher = INDEX_STATEMENT.matcher(migration.getContentAsString(StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                if (matcher.group(4) != null) {
+                    indexes.remove(matcher.group(4).toLowerCase());
+                    continue;
+                }
+                List<String> columns = Arrays.stream(matcher.group(3).split(","))
+                        .map(column -> column.trim().toLowerCase())
+                        .toList();
+                indexes.put(matcher.group(1).toLowerCase(), matcher.group(2).toLowerCase() + " " + columns);
+            }
+        }
+        return indexes;
+    }
+
+    private List<String> indexColumns(String table, String index) {
+        return jdbcTemplate.queryForList("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE TABLE_NAME = ? AND INDEX_NAME LIKE ? ORDER BY ORDINAL_POSITION", String.class,
+                table, index.toUpperCase() + "%");
+    }
+}
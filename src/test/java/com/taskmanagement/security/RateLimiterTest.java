@@ -0,0 +1,115 @@
+package com.taskmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanagement.config.RateLimitConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+    private RateLimitConfig config;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        config.setRead(new RateLimitConfig.Limit(10, 5));
+        config.setWrite(new RateLimitConfig.Limit(1, 2));
+        config.setIdleTimeout(Duration.ofMinutes(1));
+        rateLimiter = new RateLimiter(config, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should allow a burst and then one request per emission interval")
+    void shouldAllowBurstThenSteadyRate() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.READ)).isZero();
+        }
+        long wait = rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.READ);
+        assertThat(wait).isEqualTo(SECOND / 10);
+
+        now.addAndGet(wait);
+        assertThat(rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.READ)).isZero();
+        assertThat(rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.READ)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per principal and request class")
+    void shouldSeparateBuckets() {
+        rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.WRITE);
+        rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.WRITE);
+
+        assertThat(rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.WRITE)).isPositive();
+        assertThat(rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.READ)).isZero();
+        assertThat(rateLimiter.tryAcquire("bob", RateLimiter.RequestClass.WRITE)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict buckets idle for longer than the idle timeout")
+    void shouldEvictIdleBuckets() {
+        rateLimiter.tryAcquire("alice", RateLimiter.RequestClass.READ);
+        now.addAndGet(30 * SECOND);
+        rateLimiter.tryAcquire("bob", RateLimiter.RequestClass.READ);
+
+        now.addAndGet(45 * SECOND);
+        rateLimiter.evictIdleBuckets();
+
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reply 429 with Retry-After once the write bucket is empty")
+    void shouldRejectWithRetryAfter() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, config, objectMapper, new SimpleMeterRegistry());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                Map.of("cognitoSub", "alice"), null, List.of()));
+
+        MockHttpServletResponse response = null;
+        for (int i = 0; i < 3; i++) {
+            response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/projects"), response, new MockFilterChain());
+        }
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("Rate limit exceeded");
+    }
+
+    @Test
+    @DisplayName("Should classify admin paths before the HTTP method")
+    void shouldClassifyRequests() {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, config, new ObjectMapper(), new SimpleMeterRegistry());
+
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/users"))).isEqualTo(RateLimiter.RequestClass.ADMIN);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/users/42/tasks"))).isEqualTo(RateLimiter.RequestClass.ADMIN);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/users/me/tasks"))).isEqualTo(RateLimiter.RequestClass.READ);
+        assertThat(filter.classify(new MockHttpServletRequest("PATCH", "/api/projects/1/tasks/2/status"))).isEqualTo(RateLimiter.RequestClass.WRITE);
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.model.entity.OutboxEvent;
+import com.taskmanagement.model.enums.OutboxStatus;
+import com.taskmanagement.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.outbox.retention=1d",
+        "app.outbox.purge-batch-size=2"
+})
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@DisplayName("Outbox retention Tests")
+class OutboxRetentionIntegrationTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should delete delivered and dead events past the retention and keep the rest")
+    void shouldPurgeFinishedEventsPastRetention() {
+        LocalDateTime old = LocalDateTime.now().minusDays(2);
+        LocalDateTime recent = LocalDateTime.now().minusHours(1);
+        IntStream.range(0, 3).forEach(i -> save(OutboxStatus.DELIVERED, old));
+        save(OutboxStatus.DEAD, old);
+        OutboxEvent recentDelivered = save(OutboxStatus.DELIVERED, recent);
+        OutboxEvent recentDead = save(OutboxStatus.DEAD, recent);
+        OutboxEvent pending = save(OutboxStatus.PENDING, old);
+        OutboxEvent inFlight = save(OutboxStatus.IN_FLIGHT, old);
+
+        assertThat(outboxService.purgeFinished()).isEqualTo(4);
+
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrderElementsOf(List.of(
+                        recentDelivered.getId(), recentDead.getId(), pending.getId(), inFlight.getId()));
+    }
+
+    private OutboxEvent save(OutboxStatus status, LocalDateTime nextAttemptAt) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .endpoint("billing")
+                .aggregateType("TASK")
+                .aggregateId(1L)
+                .eventType("CREATED")
+                .payload("{}")
+                .status(status)
+                .nextAttemptAt(nextAttemptAt)
+                .deliveredAt(status == OutboxStatus.DELIVERED ? nextAttemptAt : null)
+                .build());
+    }
+}
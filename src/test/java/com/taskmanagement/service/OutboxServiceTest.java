@@ -0,0 +1,151 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanagement.config.OutboxConfig;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.model.entity.OutboxEvent;
+import com.taskmanagement.model.enums.OutboxStatus;
+import com.taskmanagement.model.enums.TaskEventType;
+import com.taskmanagement.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxService Tests")
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxConfig outboxConfig;
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxConfig = new OutboxConfig();
+        outboxConfig.setMaxAttempts(3);
+        outboxConfig.setInitialBackoff(Duration.ofSeconds(1));
+        outboxConfig.setMaxBackoff(Duration.ofSeconds(10));
+        outboxService = new OutboxService(outboxEventRepository, outboxConfig,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("Should record one outbox row per configured endpoint")
+    @SuppressWarnings("unchecked")
+    void shouldRecordRowPerEndpoint() {
+        outboxConfig.setEndpoints(List.of(endpoint("billing"), endpoint("search")));
+
+        outboxService.onTaskChanged(TaskChangedEvent.builder()
+                .type(TaskEventType.CREATED)
+                .projectId(13L)
+                .taskId(14L)
+                .occurredAt(LocalDateTime.now())
+                .build());
+
+        ArgumentCaptor<List<OutboxEvent>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue())
+                .extracting(OutboxEvent::getEndpoint)
+                .containsExactly("billing", "search");
+        assertThat(rowsCaptor.getValue())
+                .allSatisfy(row -> {
+                    assertThat(row.getAggregateType()).isEqualTo("TASK");
+                    assertThat(row.getAggregateId()).isEqualTo(14L);
+                    assertThat(row.getEventType()).isEqualTo("CREATED");
+                    assertThat(row.getPayload()).contains("\"taskId\":14");
+                    assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+                });
+    }
+
+    @Test
+    @DisplayName("Should not write outbox rows when no endpoint is configured")
+    void shouldSkipRecordingWithoutEndpoints() {
+        outboxService.onTaskChanged(TaskChangedEvent.builder()
+                .type(TaskEventType.DELETED)
+                .projectId(13L)
+                .taskId(14L)
+                .build());
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    @DisplayName("Should lease claimed events and count the attempt")
+    void shouldLeaseClaimedEvents() {
+        OutboxEvent event = OutboxEvent.builder().id(1L).endpoint("billing").build();
+        when(outboxEventRepository.lockDueEvents(eq("billing"), any(LocalDateTime.class), eq(10)))
+                .thenReturn(List.of(event));
+
+        List<OutboxEvent> claimed = outboxService.claimBatch("billing", 10);
+
+        assertThat(claimed).containsExactly(event);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.IN_FLIGHT);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should reschedule failed event with exponential backoff")
+    void shouldRescheduleFailedEvent() {
+        OutboxEvent event = OutboxEvent.builder().id(1L).endpoint("billing").status(OutboxStatus.IN_FLIGHT).attempts(2).build();
+        when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        outboxService.markFailed(1L, "HTTP 503");
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getLastError()).isEqualTo("HTTP 503");
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(1));
+        assertThat(outboxService.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(outboxService.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(outboxService.backoff(20)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter event after max attempts")
+    void shouldDeadLetterAfterMaxAttempts() {
+        OutboxEvent event = OutboxEvent.builder().id(1L).endpoint("billing").status(OutboxStatus.IN_FLIGHT).attempts(3).build();
+        when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        outboxService.markFailed(1L, "HTTP 500");
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.DEAD);
+    }
+
+    @Test
+    @DisplayName("Should purge finished events in batches until a batch comes back short")
+    void shouldPurgeFinishedEventsInBatches() {
+        outboxConfig.setRetention(Duration.ofDays(7));
+        outboxConfig.setPurgeBatchSize(100);
+        when(outboxEventRepository.deleteFinishedBefore(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 42);
+
+        int purged = outboxService.purgeFinished();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository, times(3)).deleteFinishedBefore(cutoff.capture(), eq(100));
+        assertThat(purged).isEqualTo(242);
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(7).plusMinutes(1));
+    }
+
+    private OutboxConfig.Endpoint endpoint(String name) {
+        OutboxConfig.Endpoint endpoint = new OutboxConfig.Endpoint();
+        endpoint.setName(name);
+        endpoint.setUrl("http://localhost/" + name);
+        return endpoint;
+    }
+}
@@ -9,6 +9,9 @@ import com.taskmanagement.model.entity.Project;
 import com.taskmanagement.model.entity.User;
 import com.taskmanagement.model.enums.UserRole;
 import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.ProjectTaskCount;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,9 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,9 +36,21 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReadCoalescer readCoalescer;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -43,6 +60,9 @@ class ProjectServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(readCoalescer.execute(anyString(), anyList(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
         testUser = User.builder()
                 .id(1L)
                 .cognitoSub("test-cognito-sub")
@@ -237,6 +257,7 @@ class ProjectServiceTest {
 
         verify(projectRepository).findById(testProject.getId());
         verify(userService).getOrCreateCurrentUser();
+        verify(taskTombstoneRepository).recordProjectTasksDeleted(eq(testProject.getId()), eq(testUser.getId()), any());
         verify(projectRepository).delete(testProject);
     }
 
@@ -261,4 +282,55 @@ class ProjectServiceTest {
         verify(projectRepository).findById(testProject.getId());
         verify(userService).getOrCreateCurrentUser();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should get recent projects for owner with task counts")
+    void shouldGetRecentProjectsForOwnerWithTaskCounts() {
+        ProjectTaskCount taskCount = mock(ProjectTaskCount.class);
+        when(taskCount.getProjectId()).thenReturn(testProject.getId());
+        when(taskCount.getTaskCount()).thenReturn(7L);
+
+        when(projectRepository.findByOwnerIdOrderByUpdatedAtDesc(eq(testUser.getId()), any(Pageable.class)))
+                .thenReturn(List.of(testProject));
+        when(projectRepository.countTasksByProjectIds(List.of(testProject.getId()))).thenReturn(List.of(taskCount));
+
+        List<ProjectResponse> response = projectService.getRecentProjectsForOwner(testUser.getId(), 5);
+
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getTaskCount()).isEqualTo(7);
+
+        verify(projectRepository).countTasksByProjectIds(List.of(testProject.getId()));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("Should move task ownership and tombstones when an admin transfers a project")
+    void shouldTransferProjectAndItsTasks() {
+        User adminUser = User.builder().id(99L).cognitoSub("admin-sub").role(UserRole.ADMIN).build();
+        User newOwner = User.builder().id(2L).cognitoSub("new-owner-sub").role(UserRole.USER).build();
+
+        when(userService.getOrCreateCurrentUser()).thenReturn(adminUser);
+        when(projectRepository.lockById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(userService.findById(newOwner.getId())).thenReturn(Optional.of(newOwner));
+        when(projectRepository.existsByNameAndOwnerId(testProject.getName(), newOwner.getId())).thenReturn(false);
+        when(projectRepository.save(testProject)).thenReturn(testProject);
+
+        ProjectResponse response = projectService.transferProject(testProject.getId(), newOwner.getId());
+
+        assertThat(response.getOwnerId()).isEqualTo(newOwner.getId());
+        verify(taskTombstoneRepository).recordProjectTasksDeleted(eq(testProject.getId()), eq(testUser.getId()), any());
+        verify(taskRepository).reassignOwner(eq(testProject.getId()), eq(newOwner.getId()), any());
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should reject project transfer by non-admin")
+    void shouldRejectTransferByNonAdmin() {
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+
+        assertThatThrownBy(() -> projectService.transferProject(testProject.getId(), 2L))
+                .isInstanceOf(UnauthorizedException.class);
+
+        verifyNoInteractions(projectRepository, taskRepository, taskTombstoneRepository);
+    }
+}
@@ -0,0 +1,173 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.ReadCoalescingConfig;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReadCoalescer Tests")
+class ReadCoalescerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReadCoalescingConfig config;
+    private ReadCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        config = new ReadCoalescingConfig();
+        config.setMaxWait(Duration.ofSeconds(5));
+        coalescer = new ReadCoalescer(mock(PlatformTransactionManager.class), config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight load between identical concurrent calls")
+    void shouldShareInFlightLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = startLeader(List.of(1L), () -> {
+            await(release);
+            return "tasks";
+        });
+
+        AtomicInteger followerLoads = new AtomicInteger();
+        AtomicReference<Thread> followerThread = new AtomicReference<>();
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> {
+            followerThread.set(Thread.currentThread());
+            return coalescer.execute("tasksByProject", List.of(1L), () -> "loaded-" + followerLoads.incrementAndGet());
+        }, executor);
+
+        awaitWaiting(followerThread);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("tasks");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("tasks");
+        assertThat(followerLoads).hasValue(0);
+        assertThat(count("follower")).isEqualTo(1);
+        assertThat(coalescer.collapseRatio()).isEqualTo(0.5);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load directly once the wait for the leader exceeds the bound")
+    void shouldFallBackAfterMaxWait() throws Exception {
+        config.setMaxWait(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = startLeader(List.of(1L), () -> {
+            await(release);
+            return "slow";
+        });
+
+        String result = coalescer.execute("tasksByProject", List.of(1L), () -> "direct");
+        release.countDown();
+
+        assertThat(result).isEqualTo("direct");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(count("fallback")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's failure to waiting followers")
+    void shouldPropagateLeaderFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = startLeader(List.of(7L), () -> {
+            await(release);
+            throw new ResourceNotFoundException("Project not found with ID: 7");
+        });
+
+        AtomicReference<Thread> followerThread = new AtomicReference<>();
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> {
+            followerThread.set(Thread.currentThread());
+            return coalescer.execute("tasksByProject", List.of(7L), () -> "unexpected");
+        }, executor);
+
+        awaitWaiting(followerThread);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce calls with different parameters")
+    void shouldKeepDistinctKeysApart() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = startLeader(List.of(1L), () -> {
+            await(release);
+            return "project-1";
+        });
+
+        String other = coalescer.execute("tasksByProject", List.of(2L), () -> "project-2");
+        release.countDown();
+
+        assertThat(other).isEqualTo("project-2");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("project-1");
+        assertThat(count("leader")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should always load directly when disabled")
+    void shouldLoadDirectlyWhenDisabled() {
+        config.setEnabled(false);
+
+        assertThat(coalescer.execute("projectById", List.of(1L), () -> "project")).isEqualTo("project");
+        assertThat(count("leader")).isZero();
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    private CompletableFuture<String> startLeader(List<?> params, Supplier<String> loader) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                () -> coalescer.execute("tasksByProject", params, () -> {
+                    started.countDown();
+                    return loader.get();
+                }), executor);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return leader;
+    }
+
+    private double count(String role) {
+        return meterRegistry.counter(ReadCoalescer.CALLS_METRIC, "role", role).count();
+    }
+
+    private static void awaitWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.get() == null || thread.get().getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail("Follower never started waiting");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
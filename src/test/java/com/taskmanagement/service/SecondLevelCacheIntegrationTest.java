@@ -0,0 +1,107 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.dto.request.ProjectRequest;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.security.SecurityContextHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@DisplayName("Second-level cache Tests")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("cache-" + suffix);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(suffix + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Cache User");
+
+        projectId = projectService.createProject(ProjectRequest.builder()
+                .name("Cached Project " + suffix)
+                .description("Cached Description")
+                .build()).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should serve project and current user from cache without SQL")
+    void shouldServeCachedReadsWithoutSql() {
+        projectService.findProjectById(projectId);
+        userService.getOrCreateCurrentUser();
+        statistics.clear();
+
+        User user = userService.getOrCreateCurrentUser();
+        boolean owned = projectService.findProjectById(projectId).isOwnedBy(user.getId());
+
+        assertThat(owned).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refresh cached project when it is updated")
+    void shouldRefreshCachedProjectOnUpdate() {
+        projectService.findProjectById(projectId);
+
+        projectService.updateProject(projectId, ProjectRequest.builder()
+                .name("Renamed Project " + projectId)
+                .description("Renamed Description")
+                .build());
+        statistics.clear();
+
+        assertThat(projectService.findProjectById(projectId).getName()).isEqualTo("Renamed Project " + projectId);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict only the deleted project from cache")
+    void shouldEvictDeletedProject() {
+        userService.getOrCreateCurrentUser();
+        projectService.findProjectById(projectId);
+
+        projectService.deleteProject(projectId);
+        statistics.clear();
+
+        userService.getOrCreateCurrentUser();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        assertThatThrownBy(() -> projectService.findProjectById(projectId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,206 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.AuditConfig;
+import com.taskmanagement.dto.response.TaskHistoryResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TaskFieldChange;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.TaskAudit;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.TaskEventType;
+import com.taskmanagement.model.enums.UserRole;
+import com.taskmanagement.repository.TaskAuditRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskAuditService Tests")
+class TaskAuditServiceTest {
+
+    @Mock
+    private TaskAuditRepository taskAuditRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ScheduledExecutorService flusher;
+
+    private AuditConfig auditConfig;
+    private User testUser;
+    private Project testProject;
+
+    @BeforeEach
+    void setUp() {
+        auditConfig = new AuditConfig();
+
+        testUser = User.builder()
+                .id(1L)
+                .cognitoSub("test-cognito-sub")
+                .email("test@example.com")
+                .name("Test User")
+                .role(UserRole.USER)
+                .build();
+
+        testProject = Project.builder()
+                .id(13L)
+                .name("Test Project")
+                .owner(testUser)
+                .tasks(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should buffer field changes and write them in one batch on flush")
+    void shouldFlushBufferedChangesInBatch() {
+        TaskAuditService auditService = newService();
+
+        auditService.onTaskChanged(statusAndTitleChange());
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(auditService.getBufferedCount()).isEqualTo(2);
+
+        assertThat(auditService.flush()).isTrue();
+
+        List<List<String>> batches = capturedBatchFields(1);
+        assertThat(batches.get(0)).containsExactly("status", "title");
+        assertThat(auditService.getBufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write synchronously when the buffer is full")
+    void shouldWriteSynchronouslyWhenBufferFull() {
+        auditConfig.setBufferSize(2);
+        TaskAuditService auditService = newService();
+
+        auditService.onTaskChanged(statusAndTitleChange());
+        auditService.onTaskChanged(statusAndTitleChange());
+
+        List<List<String>> batches = capturedBatchFields(1);
+        assertThat(batches.get(0)).containsExactly("status", "title");
+        assertThat(auditService.getBufferedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a failed batch and write it on the next flush")
+    void shouldRetryFailedBatch() {
+        TaskAuditService auditService = newService();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(new int[][]{{1, 1}});
+
+        auditService.onTaskChanged(statusAndTitleChange());
+
+        assertThat(auditService.flush()).isFalse();
+        assertThat(auditService.getBufferedCount()).isEqualTo(2);
+        assertThat(auditService.flush()).isTrue();
+        assertThat(auditService.getBufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drain buffered changes on shutdown")
+    void shouldDrainOnShutdown() {
+        TaskAuditService auditService = newService();
+
+        auditService.onTaskChanged(statusAndTitleChange());
+        auditService.shutdown();
+
+        verify(flusher).shutdown();
+        capturedBatchFields(1);
+        assertThat(auditService.getBufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should page task history by audit entry ID")
+    void shouldPageTaskHistory() {
+        TaskAuditService auditService = newService();
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskAuditRepository.findByTaskIdAndProjectIdAndIdLessThanOrderByIdDesc(
+                14L, testProject.getId(), 100L, PageRequest.of(0, 3)))
+                .thenReturn(LongStream.of(99, 98, 97).mapToObj(this::auditEntry).collect(Collectors.toList()));
+
+        TaskHistoryResponse response = auditService.getTaskHistory(testProject.getId(), 14L, 100L, 2);
+
+        assertThat(response.getEntries()).extracting("id").containsExactly(99L, 98L);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getNextBefore()).isEqualTo(98L);
+    }
+
+    @Test
+    @DisplayName("Should not return history of another user's project")
+    void shouldNotReturnHistoryOfOtherProject() {
+        TaskAuditService auditService = newService();
+        User otherUser = User.builder().id(2L).role(UserRole.USER).build();
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(otherUser);
+
+        assertThatThrownBy(() -> auditService.getTaskHistory(testProject.getId(), 14L, null, 50))
+                .isInstanceOf(UnauthorizedException.class);
+
+        verifyNoInteractions(taskAuditRepository);
+    }
+
+    private TaskAuditService newService() {
+        return new TaskAuditService(taskAuditRepository, projectService, userService, jdbcTemplate, auditConfig, flusher);
+    }
+
+    private TaskChangedEvent statusAndTitleChange() {
+        return TaskChangedEvent.builder()
+                .type(TaskEventType.UPDATED)
+                .projectId(testProject.getId())
+                .taskId(14L)
+                .actorId(testUser.getId())
+                .changes(List.of(
+                        new TaskFieldChange("status", "TODO", "DONE"),
+                        new TaskFieldChange("title", "Old", "New")))
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private TaskAudit auditEntry(long id) {
+        return TaskAudit.builder()
+                .id(id)
+                .taskId(14L)
+                .projectId(testProject.getId())
+                .field("status")
+                .changedBy(testUser.getId())
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> capturedBatchFields(int expectedBatches) {
+        List<List<String>> batches = new ArrayList<>();
+        verify(jdbcTemplate, times(expectedBatches)).batchUpdate(eq(TaskAuditService.INSERT_SQL),
+                argThat((Collection<TaskAudit> entries) -> batches.add(
+                        entries.stream().map(TaskAudit::getField).collect(Collectors.toList()))),
+                anyInt(), any());
+        return batches;
+    }
+}
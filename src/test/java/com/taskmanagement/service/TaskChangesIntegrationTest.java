@@ -0,0 +1,139 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.TestSecurityConfig;
+import com.taskmanagement.dto.request.ProjectRequest;
+import com.taskmanagement.dto.request.TaskRequest;
+import com.taskmanagement.dto.response.TaskChangesResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.TaskTombstoneResponse;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.security.SecurityContextHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "app.sync.safety-lag=" + TaskChangesIntegrationTest.SAFETY_LAG_MILLIS + "ms")
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@DisplayName("Task changes feed Tests")
+class TaskChangesIntegrationTest {
+
+    static final long SAFETY_LAG_MILLIS = 1500;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SecurityContextHelper securityContextHelper;
+
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        reset(securityContextHelper);
+        when(securityContextHelper.getCurrentUserCognitoSub()).thenReturn("sync-" + suffix);
+        when(securityContextHelper.getCurrentUserEmail()).thenReturn(suffix + "@example.com");
+        when(securityContextHelper.getCurrentUserName()).thenReturn("Sync User");
+
+        // Each transaction below writes to its own project, since writes lock their project row.
+        for (int i = 0; i < 2; i++) {
+            projectIds.add(projectService.createProject(ProjectRequest.builder()
+                    .name("Sync Project " + i + " " + suffix)
+                    .description("Sync Description")
+                    .build()).getId());
+        }
+        for (int i = 0; i < 4; i++) {
+            taskIds.add(taskService.createTask(projectOf(i), task("Sync Task " + i)).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not move the watermark past a transaction that commits after a later one")
+    void shouldNotSkipChangesOfInterleavedTransactions() throws Exception {
+        TaskChangesResponse initial = syncAfterSafetyLag(null);
+        assertThat(initial.getChanged()).extracting(TaskResponse::getId).containsExactlyElementsOf(taskIds);
+
+        // Transaction A writes first and commits last; transaction B writes and commits in between.
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch secondCommitted = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            taskService.updateTask(projectOf(0), taskIds.get(0), task("Updated by first"));
+            taskService.deleteTask(projectOf(2), taskIds.get(2));
+            taskRepository.flush();
+            firstWritten.countDown();
+            await(secondCommitted);
+        }));
+        await(firstWritten);
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.updateTask(projectOf(1), taskIds.get(1), task("Updated by second"));
+            taskService.deleteTask(projectOf(3), taskIds.get(3));
+        });
+
+        TaskChangesResponse whileFirstOpen = taskService.getCurrentUserTaskChanges(initial.getWatermark(), 100);
+        secondCommitted.countDown();
+        first.get(10, TimeUnit.SECONDS);
+
+        assertThat(whileFirstOpen.getChanged()).isEmpty();
+        assertThat(whileFirstOpen.getDeleted()).isEmpty();
+        assertThat(whileFirstOpen.getWatermark()).isEqualTo(initial.getWatermark());
+
+        TaskChangesResponse afterCommit = syncAfterSafetyLag(whileFirstOpen.getWatermark());
+        assertThat(afterCommit.getChanged()).extracting(TaskResponse::getId)
+                .containsExactly(taskIds.get(0), taskIds.get(1));
+        assertThat(afterCommit.getDeleted()).extracting(TaskTombstoneResponse::getTaskId)
+                .containsExactly(taskIds.get(2), taskIds.get(3));
+    }
+
+    private Long projectOf(int task) {
+        return projectIds.get(task % 2);
+    }
+
+    private TaskChangesResponse syncAfterSafetyLag(String since) throws InterruptedException {
+        Thread.sleep(SAFETY_LAG_MILLIS + 100);
+        return taskService.getCurrentUserTaskChanges(since, 100);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TaskRequest task(String title) {
+        return TaskRequest.builder()
+                .title(title)
+                .description("Sync task")
+                .status(TaskStatus.TODO)
+                .build();
+    }
+}
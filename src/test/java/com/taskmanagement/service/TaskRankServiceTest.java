@@ -0,0 +1,87 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.TaskRanksRespacedEvent;
+import com.taskmanagement.model.entity.Project;
+import com.taskmanagement.model.entity.Task;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskRankService Tests")
+class TaskRankServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TaskRankService taskRankService;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = Project.builder().id(7L).name("Board").build();
+    }
+
+    @Test
+    @DisplayName("Should place a task between its anchor and the next task without touching the column")
+    void shouldRankBetweenAnchorAndNeighbour() {
+        Task anchor = task(1L, "V");
+        when(taskRepository.findRanksAfter(eq(7L), eq(TaskStatus.TODO), eq("V"), eq(1L), any())).thenReturn(List.of("V001"));
+
+        assertThat(taskRankService.rankNextTo(anchor, true)).isEqualTo("V000V");
+        verify(taskRepository, never()).lockColumn(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should append after the last task of the column")
+    void shouldRankAtEnd() {
+        when(taskRepository.findLastRanks(eq(7L), eq(TaskStatus.TODO), any())).thenReturn(List.of("k"));
+
+        assertThat(taskRankService.rankAtEnd(7L, TaskStatus.TODO)).isEqualTo("k001");
+        assertThat(taskRankService.rankAtEnd(7L, TaskStatus.DONE)).isEqualTo("V");
+    }
+
+    @Test
+    @DisplayName("Should respace the column when the anchor shares its key with the next task")
+    void shouldRespaceColumnOnTie() {
+        Task anchor = task(1L, "V");
+        Task tied = task(2L, "V");
+        when(taskRepository.findRanksAfter(eq(7L), eq(TaskStatus.TODO), anyString(), eq(1L), any()))
+                .thenAnswer(invocation -> List.of(tied.getRank()));
+        when(taskRepository.lockColumn(7L, TaskStatus.TODO)).thenReturn(List.of(anchor, tied));
+
+        String rank = taskRankService.rankNextTo(anchor, true);
+
+        assertThat(anchor.getRank()).isLessThan(tied.getRank());
+        assertThat(rank).isGreaterThan(anchor.getRank()).isLessThan(tied.getRank());
+        verify(eventPublisher).publishEvent(any(TaskRanksRespacedEvent.class));
+    }
+
+    private Task task(Long id, String rank) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .status(TaskStatus.TODO)
+                .rank(rank)
+                .project(project)
+                .build();
+    }
+}
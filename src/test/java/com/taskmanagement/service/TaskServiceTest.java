@@ -1,33 +1,51 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.config.SyncConfig;
+import com.taskmanagement.dto.request.MoveTaskRequest;
+import com.taskmanagement.dto.request.TaskPatchRequest;
 import com.taskmanagement.dto.request.TaskRequest;
 import com.taskmanagement.dto.request.UpdateTaskStatusRequest;
 import com.taskmanagement.dto.response.PageResponse;
+import com.taskmanagement.dto.response.TaskChangesResponse;
+import com.taskmanagement.dto.response.TaskLookupResponse;
 import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TaskEventBroadcaster;
+import com.taskmanagement.event.TaskFieldChange;
 import com.taskmanagement.exception.ResourceNotFoundException;
 import com.taskmanagement.exception.UnauthorizedException;
 import com.taskmanagement.exception.ValidationException;
 import com.taskmanagement.model.entity.Project;
 import com.taskmanagement.model.entity.Task;
+import com.taskmanagement.model.entity.TaskTombstone;
 import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.TaskEventType;
 import com.taskmanagement.model.enums.TaskStatus;
 import com.taskmanagement.model.enums.UserRole;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,12 +58,30 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Mock
     private ProjectService projectService;
 
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @Mock
+    private ReadCoalescer readCoalescer;
+
+    @Mock
+    private TaskRankService taskRankService;
+
+    @Spy
+    private SyncConfig syncConfig = new SyncConfig();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -56,6 +92,9 @@ class TaskServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(readCoalescer.execute(anyString(), anyList(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
         testUser = User.builder()
                 .id(1L)
                 .cognitoSub("test-cognito-sub")
@@ -77,6 +116,7 @@ class TaskServiceTest {
                 .title("Test Task")
                 .description("Test Task Description")
                 .status(TaskStatus.TODO)
+                .rank("V")
                 .project(testProject)
                 .build();
 
@@ -90,7 +130,7 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should create task successfully")
     void shouldCreateTaskSuccessfully() {
-        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(projectService.findProjectForTaskWrite(testProject.getId())).thenReturn(testProject);
         when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
         when(taskRepository.existsByTitleAndProjectId("New Task", testProject.getId())).thenReturn(false);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
@@ -101,16 +141,16 @@ class TaskServiceTest {
         assertThat(response.getTitle()).isEqualTo(testTask.getTitle());
         assertThat(response.getProjectId()).isEqualTo(testProject.getId());
 
-        verify(projectService).findProjectById(testProject.getId());
+        verify(projectService).findProjectForTaskWrite(testProject.getId());
         verify(userService).getOrCreateCurrentUser();
         verify(taskRepository).existsByTitleAndProjectId("New Task", testProject.getId());
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).save(argThat(task -> testUser.getId().equals(task.getOwnerId())));
     }
 
     @Test
     @DisplayName("Should throw exception when task title already exists in project")
     void shouldThrowExceptionWhenTaskTitleExists() {
-        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(projectService.findProjectForTaskWrite(testProject.getId())).thenReturn(testProject);
         when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
         when(taskRepository.existsByTitleAndProjectId("New Task", testProject.getId())).thenReturn(true);
 
@@ -125,14 +165,14 @@ class TaskServiceTest {
     @DisplayName("Should throw exception when creating task in non-existent project")
     void shouldThrowExceptionWhenCreatingTaskInNonExistentProject() {
         Long nonExistentProjectId = 999L;
-        when(projectService.findProjectById(nonExistentProjectId))
+        when(projectService.findProjectForTaskWrite(nonExistentProjectId))
                 .thenThrow(new ResourceNotFoundException("Project not found"));
 
         assertThatThrownBy(() -> taskService.createTask(nonExistentProjectId, taskRequest))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Project not found");
 
-        verify(projectService).findProjectById(nonExistentProjectId);
+        verify(projectService).findProjectForTaskWrite(nonExistentProjectId);
         verifyNoInteractions(taskRepository);
     }
 
@@ -146,14 +186,14 @@ class TaskServiceTest {
                 .role(UserRole.USER)
                 .build();
 
-        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(projectService.findProjectForTaskWrite(testProject.getId())).thenReturn(testProject);
         when(userService.getOrCreateCurrentUser()).thenReturn(differentUser);
 
         assertThatThrownBy(() -> taskService.createTask(testProject.getId(), taskRequest))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessageContaining("own");
 
-        verify(projectService).findProjectById(testProject.getId());
+        verify(projectService).findProjectForTaskWrite(testProject.getId());
         verify(userService).getOrCreateCurrentUser();
         verifyNoInteractions(taskRepository);
     }
@@ -225,7 +265,7 @@ class TaskServiceTest {
         Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask), pageable, 1);
 
         when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
-        when(taskRepository.findByProjectOwnerId(testUser.getId(), pageable)).thenReturn(taskPage);
+        when(taskRepository.findByOwnerId(testUser.getId(), pageable)).thenReturn(taskPage);
 
         PageResponse<TaskResponse> response = taskService.getCurrentUserTasks(pageable, null);
 
@@ -233,7 +273,7 @@ class TaskServiceTest {
         assertThat(response.getContent()).hasSize(1);
 
         verify(userService).getOrCreateCurrentUser();
-        verify(taskRepository).findByProjectOwnerId(testUser.getId(), pageable);
+        verify(taskRepository).findByOwnerId(testUser.getId(), pageable);
     }
 
     @Test
@@ -243,7 +283,7 @@ class TaskServiceTest {
         Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask), pageable, 1);
 
         when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
-        when(taskRepository.findByProjectOwnerIdAndStatus(testUser.getId(), TaskStatus.TODO, pageable))
+        when(taskRepository.findByOwnerIdAndStatus(testUser.getId(), TaskStatus.TODO, pageable))
                 .thenReturn(taskPage);
 
         PageResponse<TaskResponse> response = taskService.getCurrentUserTasks(pageable, TaskStatus.TODO);
@@ -251,7 +291,7 @@ class TaskServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getContent()).hasSize(1);
 
-        verify(taskRepository).findByProjectOwnerIdAndStatus(testUser.getId(), TaskStatus.TODO, pageable);
+        verify(taskRepository).findByOwnerIdAndStatus(testUser.getId(), TaskStatus.TODO, pageable);
     }
 
     @Test
@@ -265,7 +305,7 @@ class TaskServiceTest {
         Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask));
 
         when(userService.getOrCreateCurrentUser()).thenReturn(adminUser);
-        when(taskRepository.findByProjectOwnerId(eq(testUser.getId()), any(Pageable.class)))
+        when(taskRepository.findByOwnerId(eq(testUser.getId()), any(Pageable.class)))
                 .thenReturn(taskPage);
 
         PageResponse<TaskResponse> response = taskService.getUserTasksById(testUser.getId(), 0, 20, null);
@@ -274,7 +314,7 @@ class TaskServiceTest {
         assertThat(response.getContent()).hasSize(1);
 
         verify(userService).getOrCreateCurrentUser();
-        verify(taskRepository).findByProjectOwnerId(eq(testUser.getId()), any(Pageable.class));
+        verify(taskRepository).findByOwnerId(eq(testUser.getId()), any(Pageable.class));
     }
 
     @Test
@@ -338,6 +378,64 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("Should patch only the members present without checking an untouched title")
+    void shouldPatchOnlyPresentMembers() {
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setDescription(null);
+
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+        when(taskRepository.save(testTask)).thenReturn(testTask);
+
+        TaskResponse response = taskService.patchTask(testProject.getId(), testTask.getId(), patch);
+
+        assertThat(response.getTitle()).isEqualTo("Test Task");
+        assertThat(response.getDescription()).isNull();
+        assertThat(response.getStatus()).isEqualTo(TaskStatus.TODO);
+        verify(taskRepository, never()).existsByTitleAndProjectId(any(), any());
+
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges()).extracting(TaskFieldChange::getField).containsExactly("description");
+    }
+
+    @Test
+    @DisplayName("Should skip the write when a patch changes nothing")
+    void shouldSkipWriteForNoOpPatch() {
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setTitle("Test Task");
+        patch.setStatus(TaskStatus.TODO);
+
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+
+        taskService.patchTask(testProject.getId(), testTask.getId(), patch);
+
+        verify(taskRepository, never()).existsByTitleAndProjectId(any(), any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that removes the title")
+    void shouldRejectPatchRemovingTitle() {
+        TaskPatchRequest patch = new TaskPatchRequest();
+        patch.setTitle(null);
+
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+
+        assertThatThrownBy(() -> taskService.patchTask(testProject.getId(), testTask.getId(), patch))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     @DisplayName("Should update task status successfully")
     void shouldUpdateTaskStatusSuccessfully() {
@@ -360,17 +458,19 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should delete task successfully")
     void shouldDeleteTaskSuccessfully() {
-        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(projectService.findProjectForTaskWrite(testProject.getId())).thenReturn(testProject);
         when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
         when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
                 .thenReturn(Optional.of(testTask));
 
         taskService.deleteTask(testProject.getId(), testTask.getId());
 
-        verify(projectService).findProjectById(testProject.getId());
+        verify(projectService).findProjectForTaskWrite(testProject.getId());
         verify(userService).getOrCreateCurrentUser();
         verify(taskRepository).findByIdAndProjectId(testTask.getId(), testProject.getId());
         verify(taskRepository).delete(testTask);
+        verify(taskTombstoneRepository).save(argThat(tombstone ->
+                tombstone.getTaskId().equals(testTask.getId()) && tombstone.getOwnerId().equals(testUser.getId())));
     }
 
     @Test
@@ -390,4 +490,319 @@ class TaskServiceTest {
         verify(userService).getOrCreateCurrentUser();
         verify(taskRepository).findByIdAndProjectId(nonExistentTaskId, testProject.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should publish created event when task is created")
+    void shouldPublishCreatedEvent() {
+        when(projectService.findProjectForTaskWrite(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.existsByTitleAndProjectId("New Task", testProject.getId())).thenReturn(false);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        taskService.createTask(testProject.getId(), taskRequest);
+
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getType()).isEqualTo(TaskEventType.CREATED);
+        assertThat(eventCaptor.getValue().getProjectId()).isEqualTo(testProject.getId());
+        assertThat(eventCaptor.getValue().getTask().getId()).isEqualTo(testTask.getId());
+    }
+
+    @Test
+    @DisplayName("Should publish field changes when task status is updated")
+    void shouldPublishStatusChange() {
+        UpdateTaskStatusRequest statusRequest = UpdateTaskStatusRequest.builder()
+                .status(TaskStatus.DONE)
+                .build();
+
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        taskService.updateTaskStatus(testProject.getId(), testTask.getId(), statusRequest);
+
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getActorId()).isEqualTo(testUser.getId());
+        assertThat(eventCaptor.getValue().getChanges())
+                .singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getField()).isEqualTo("status");
+                    assertThat(change.getOldValue()).isEqualTo("TODO");
+                    assertThat(change.getNewValue()).isEqualTo("DONE");
+                });
+    }
+
+    @Test
+    @DisplayName("Should append task to the end of its new column when status changes")
+    void shouldAppendTaskToNewColumnOnStatusChange() {
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+        when(taskRankService.rankAtEnd(testProject.getId(), TaskStatus.DONE)).thenReturn("k");
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TaskResponse response = taskService.updateTaskStatus(testProject.getId(), testTask.getId(),
+                UpdateTaskStatusRequest.builder().status(TaskStatus.DONE).build());
+
+        assertThat(response.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(response.getRank()).isEqualTo("k");
+    }
+
+    @Test
+    @DisplayName("Should move task next to an anchor by rewriting only its own rank")
+    void shouldMoveTaskNextToAnchor() {
+        Task anchor = Task.builder()
+                .id(15L)
+                .title("Anchor Task")
+                .status(TaskStatus.IN_PROGRESS)
+                .rank("a")
+                .project(testProject)
+                .build();
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndProjectId(anchor.getId(), testProject.getId()))
+                .thenReturn(Optional.of(anchor));
+        when(taskRankService.rankNextTo(anchor, false)).thenReturn("Z");
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TaskResponse response = taskService.moveTask(testProject.getId(), testTask.getId(), MoveTaskRequest.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .beforeTaskId(anchor.getId())
+                .build());
+
+        assertThat(response.getRank()).isEqualTo("Z");
+        assertThat(response.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        verify(taskRepository).save(testTask);
+        verify(taskRepository, never()).save(anchor);
+
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getType()).isEqualTo(TaskEventType.MOVED);
+        assertThat(eventCaptor.getValue().getChanges()).extracting(TaskFieldChange::getField).containsExactly("status", "rank");
+    }
+
+    @Test
+    @DisplayName("Should reject a move next to a task in another column")
+    void shouldRejectMoveNextToTaskInOtherColumn() {
+        Task anchor = Task.builder()
+                .id(15L)
+                .title("Anchor Task")
+                .status(TaskStatus.DONE)
+                .rank("a")
+                .project(testProject)
+                .build();
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndProjectId(anchor.getId(), testProject.getId()))
+                .thenReturn(Optional.of(anchor));
+
+        assertThatThrownBy(() -> taskService.moveTask(testProject.getId(), testTask.getId(),
+                MoveTaskRequest.builder().afterTaskId(anchor.getId()).build()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("not in the TODO column");
+
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should publish only changed fields when task is updated")
+    void shouldPublishOnlyChangedFields() {
+        TaskRequest updateRequest = TaskRequest.builder()
+                .title(testTask.getTitle())
+                .description("Rewritten Description")
+                .status(TaskStatus.TODO)
+                .build();
+
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        taskService.updateTask(testProject.getId(), testTask.getId(), updateRequest);
+
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getChanges())
+                .extracting(TaskFieldChange::getField)
+                .containsExactly("description");
+    }
+
+    @Test
+    @DisplayName("Should publish deleted event when task is deleted")
+    void shouldPublishDeletedEvent() {
+        when(projectService.findProjectForTaskWrite(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdAndProjectId(testTask.getId(), testProject.getId()))
+                .thenReturn(Optional.of(testTask));
+
+        taskService.deleteTask(testProject.getId(), testTask.getId());
+
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getType()).isEqualTo(TaskEventType.DELETED);
+        assertThat(eventCaptor.getValue().getTaskId()).isEqualTo(testTask.getId());
+        assertThat(eventCaptor.getValue().getTask()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should subscribe to task events of own project")
+    void shouldSubscribeToTaskEvents() {
+        SseEmitter emitter = new SseEmitter();
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskEventBroadcaster.subscribe(testProject.getId(), testUser.getId(), false)).thenReturn(emitter);
+
+        SseEmitter response = taskService.subscribeToTaskEvents(testProject.getId());
+
+        assertThat(response).isSameAs(emitter);
+    }
+
+    @Test
+    @DisplayName("Should not subscribe to task events of another user's project")
+    void shouldNotSubscribeToTaskEventsOfOtherProject() {
+        User differentUser = User.builder()
+                .id(2L)
+                .cognitoSub("different-sub")
+                .role(UserRole.USER)
+                .build();
+
+        when(projectService.findProjectById(testProject.getId())).thenReturn(testProject);
+        when(userService.getOrCreateCurrentUser()).thenReturn(differentUser);
+
+        assertThatThrownBy(() -> taskService.subscribeToTaskEvents(testProject.getId()))
+                .isInstanceOf(UnauthorizedException.class);
+
+        verifyNoInteractions(taskEventBroadcaster);
+    }
+
+    @Test
+    @DisplayName("Should return task changes and deletions since watermark")
+    void shouldGetCurrentUserTaskChanges() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123456000);
+        testTask.setUpdatedAt(updatedAt);
+        TaskTombstone tombstone = TaskTombstone.builder()
+                .id(7L)
+                .taskId(15L)
+                .projectId(testProject.getId())
+                .ownerId(testUser.getId())
+                .deletedAt(updatedAt)
+                .build();
+
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findChangedSince(eq(testUser.getId()), any(LocalDateTime.class), eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(testTask));
+        when(taskTombstoneRepository.findByOwnerIdAndIdGreaterThanAndDeletedAtLessThanEqualOrderByIdAsc(
+                eq(testUser.getId()), eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(tombstone));
+
+        TaskChangesResponse response = taskService.getCurrentUserTaskChanges(null, 100);
+
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(testTask.getId());
+        assertThat(response.getDeleted()).extracting("taskId").containsExactly(15L);
+        assertThat(response.isHasMore()).isFalse();
+
+        SyncWatermark next = SyncWatermark.parse(response.getWatermark());
+        assertThat(next.getTaskUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(next.getTaskId()).isEqualTo(testTask.getId());
+        assertThat(next.getTombstoneId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should report more changes when a window is full")
+    void shouldReportMoreTaskChanges() {
+        Task otherTask = Task.builder()
+                .id(15L)
+                .title("Other Task")
+                .status(TaskStatus.DONE)
+                .project(testProject)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        testTask.setUpdatedAt(LocalDateTime.now());
+
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findChangedSince(eq(testUser.getId()), any(LocalDateTime.class), anyLong(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(testTask, otherTask));
+        when(taskTombstoneRepository.findByOwnerIdAndIdGreaterThanAndDeletedAtLessThanEqualOrderByIdAsc(
+                eq(testUser.getId()), anyLong(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        TaskChangesResponse response = taskService.getCurrentUserTaskChanges(null, 1);
+
+        assertThat(response.getChanged()).hasSize(1);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(SyncWatermark.parse(response.getWatermark()).getTaskId()).isEqualTo(testTask.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed watermark")
+    void shouldRejectMalformedWatermark() {
+        assertThatThrownBy(() -> taskService.getCurrentUserTaskChanges("not-a-watermark", 100))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("watermark");
+
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    @DisplayName("Should look up tasks in request order and report missing or forbidden IDs")
+    void shouldLookUpTasksInRequestOrder() {
+        Task otherTask = Task.builder()
+                .id(15L)
+                .title("Other Task")
+                .status(TaskStatus.DONE)
+                .project(testProject)
+                .build();
+
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdInAndOwnerId(anyCollection(), eq(testUser.getId())))
+                .thenReturn(List.of(testTask, otherTask));
+
+        TaskLookupResponse response = taskService.getTasksByIds(List.of(15L, 99L, 14L, 15L));
+
+        assertThat(response.getItems()).extracting(TaskResponse::getId).containsExactly(15L, 14L);
+        assertThat(response.getItems().get(1).getDescription()).isEqualTo("Test Task Description");
+        assertThat(response.getMissingIds()).containsExactly(99L);
+        verify(taskRepository).findByIdInAndOwnerId(argThat(ids -> ids.size() == 3), eq(testUser.getId()));
+        verify(taskRepository, never()).findByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should look up tasks across owners for admins")
+    void shouldLookUpTasksAcrossOwnersForAdmin() {
+        testUser.setRole(UserRole.ADMIN);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(taskRepository.findByIdIn(anyCollection())).thenReturn(List.of(testTask));
+
+        TaskLookupResponse response = taskService.getTasksByIds(List.of(14L));
+
+        assertThat(response.getItems()).hasSize(1);
+        assertThat(response.getMissingIds()).isEmpty();
+        verify(taskRepository, never()).findByIdInAndOwnerId(anyCollection(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized ID lists")
+    void shouldRejectInvalidLookupSize() {
+        List<Long> tooMany = new ArrayList<>();
+        for (long id = 1; id <= 501; id++) {
+            tooMany.add(id);
+        }
+
+        assertThatThrownBy(() -> taskService.getTasksByIds(List.of()))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> taskService.getTasksByIds(tooMany))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("500");
+
+        verifyNoInteractions(taskRepository, userService);
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanagement.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.taskmanagement.config.OutboxConfig;
+import com.taskmanagement.model.entity.OutboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookDispatcher Tests")
+class WebhookDispatcherTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    private HttpServer receiver;
+    private final BlockingQueue<String> receivedPayloads = new LinkedBlockingQueue<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(204);
+    private OutboxConfig outboxConfig;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        receiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        receiver.createContext("/hooks", exchange -> {
+            receivedPayloads.add(exchange.getRequestHeaders().getFirst("X-Event-Type") + " "
+                    + new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        receiver.start();
+
+        OutboxConfig.Endpoint endpoint = new OutboxConfig.Endpoint();
+        endpoint.setName("receiver");
+        endpoint.setUrl("http://localhost:" + receiver.getAddress().getPort() + "/hooks");
+        endpoint.setMaxConcurrency(2);
+
+        outboxConfig = new OutboxConfig();
+        outboxConfig.setEndpoints(List.of(endpoint));
+        dispatcher = new WebhookDispatcher(outboxService, outboxConfig);
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiver.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should deliver claimed events and mark them delivered")
+    void shouldDeliverClaimedEvents() throws InterruptedException {
+        when(outboxService.claimBatch("receiver", 2)).thenReturn(List.of(event(1L), event(2L)));
+
+        dispatcher.dispatch();
+
+        assertThat(receivedPayloads.poll(5, TimeUnit.SECONDS)).isEqualTo("TASK.CREATED {\"taskId\":14}");
+        assertThat(receivedPayloads.poll(5, TimeUnit.SECONDS)).isNotNull();
+        verify(outboxService, timeout(5000)).markDelivered(1L);
+        verify(outboxService, timeout(5000)).markDelivered(2L);
+        verify(outboxService, never()).markFailed(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should mark event failed when the receiver rejects it")
+    void shouldMarkEventFailedOnErrorStatus() {
+        responseStatus.set(503);
+        when(outboxService.claimBatch("receiver", 2)).thenReturn(List.of(event(1L)));
+
+        dispatcher.dispatch();
+
+        verify(outboxService, timeout(5000)).markFailed(1L, "HTTP 503");
+        verify(outboxService, never()).markDelivered(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should mark event failed when the receiver is unreachable")
+    void shouldMarkEventFailedWhenUnreachable() {
+        receiver.stop(0);
+        when(outboxService.claimBatch("receiver", 2)).thenReturn(List.of(event(1L)));
+
+        dispatcher.dispatch();
+
+        verify(outboxService, timeout(5000)).markFailed(eq(1L), contains("ConnectException"));
+    }
+
+    private OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .endpoint("receiver")
+                .aggregateType("TASK")
+                .aggregateId(14L)
+                .eventType("CREATED")
+                .payload("{\"taskId\":14}")
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.WorkspaceConfig;
+import com.taskmanagement.dto.response.ProjectResponse;
+import com.taskmanagement.dto.response.TaskResponse;
+import com.taskmanagement.dto.response.WorkspaceResponse;
+import com.taskmanagement.exception.RequestTimeoutException;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.model.entity.User;
+import com.taskmanagement.model.enums.TaskStatus;
+import com.taskmanagement.model.enums.UserRole;
+import com.taskmanagement.monitoring.QueryCountingStatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkspaceService Tests")
+class WorkspaceServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskService taskService;
+
+    private final QueryCountingStatementInspector statementInspector = new QueryCountingStatementInspector();
+    private WorkspaceConfig workspaceConfig;
+    private WorkspaceService workspaceService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        workspaceConfig = new WorkspaceConfig();
+        workspaceConfig.setTimeout(Duration.ofMillis(500));
+        workspaceService = new WorkspaceService(userService, projectService, taskService, workspaceConfig, statementInspector);
+
+        testUser = User.builder()
+                .id(1L)
+                .cognitoSub("test-cognito-sub")
+                .email("test@example.com")
+                .name("Test User")
+                .role(UserRole.USER)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workspaceService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should assemble workspace from profile, projects and tasks per status")
+    void shouldAssembleWorkspace() {
+        ProjectResponse project = ProjectResponse.builder().id(13L).name("Test Project").taskCount(2).build();
+        TaskResponse task = TaskResponse.builder().id(14L).title("Test Task").status(TaskStatus.TODO).build();
+
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(projectService.getRecentProjectsForOwner(testUser.getId(), workspaceConfig.getProjectLimit()))
+                .thenReturn(List.of(project));
+        when(taskService.getRecentTasksForOwner(eq(testUser.getId()), any(TaskStatus.class), eq(workspaceConfig.getRecentTaskLimit())))
+                .thenReturn(List.of());
+        when(taskService.getRecentTasksForOwner(testUser.getId(), TaskStatus.TODO, workspaceConfig.getRecentTaskLimit()))
+                .thenReturn(List.of(task));
+
+        WorkspaceResponse response = workspaceService.getCurrentUserWorkspace();
+
+        assertThat(response.getProfile().getId()).isEqualTo(testUser.getId());
+        assertThat(response.getProjects()).containsExactly(project);
+        assertThat(response.getRecentTasks()).containsOnlyKeys(TaskStatus.values());
+        assertThat(response.getRecentTasks().get(TaskStatus.TODO)).containsExactly(task);
+        assertThat(response.getRecentTasks().get(TaskStatus.DONE)).isEmpty();
+
+        verify(userService).getOrCreateCurrentUser();
+        verify(taskService, times(TaskStatus.values().length))
+                .getRecentTasksForOwner(eq(testUser.getId()), any(TaskStatus.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should count statements issued on pool threads towards the request")
+    void shouldCountSubQueryStatementsTowardsRequest() {
+        when(userService.getOrCreateCurrentUser()).thenAnswer(invocation -> {
+            statementInspector.inspect("select user");
+            return testUser;
+        });
+        when(projectService.getRecentProjectsForOwner(anyLong(), anyInt())).thenAnswer(invocation -> {
+            statementInspector.inspect("select projects");
+            statementInspector.inspect("select task counts");
+            return List.of();
+        });
+        when(taskService.getRecentTasksForOwner(anyLong(), any(TaskStatus.class), anyInt())).thenAnswer(invocation -> {
+            statementInspector.inspect("select tasks");
+            return List.of();
+        });
+
+        statementInspector.start();
+        workspaceService.getCurrentUserWorkspace();
+
+        assertThat(statementInspector.stop()).isEqualTo(3 + TaskStatus.values().length);
+    }
+
+    @Test
+    @DisplayName("Should fail with timeout when a sub-query exceeds the deadline")
+    void shouldTimeoutWhenSubQueryIsSlow() {
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(projectService.getRecentProjectsForOwner(anyLong(), anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return List.of();
+        });
+
+        assertThatThrownBy(() -> workspaceService.getCurrentUserWorkspace())
+                .isInstanceOf(RequestTimeoutException.class)
+                .hasMessageContaining("Workspace could not be loaded");
+    }
+
+    @Test
+    @DisplayName("Should propagate sub-query failures")
+    void shouldPropagateSubQueryFailure() {
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        when(projectService.getRecentProjectsForOwner(anyLong(), anyInt()))
+                .thenThrow(new ResourceNotFoundException("User not found"));
+
+        assertThatThrownBy(() -> workspaceService.getCurrentUserWorkspace())
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("User not found");
+    }
+
+    @Test
+    @DisplayName("Should fail fast instead of running on the caller when the pool is saturated")
+    void shouldFailFastWhenPoolIsSaturated() {
+        workspaceService.shutdown();
+        workspaceConfig.setTimeout(Duration.ofSeconds(10));
+        workspaceConfig.setCorePoolSize(1);
+        workspaceConfig.setMaxPoolSize(1);
+        workspaceConfig.setQueueCapacity(1);
+        workspaceService = new WorkspaceService(userService, projectService, taskService, workspaceConfig, statementInspector);
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(userService.getOrCreateCurrentUser()).thenReturn(testUser);
+        // Sections cancelled before they start never reach the service.
+        lenient().when(projectService.getRecentProjectsForOwner(anyLong(), anyInt())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        try {
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> workspaceService.getCurrentUserWorkspace())
+                    .isInstanceOf(RequestTimeoutException.class)
+                    .hasMessageContaining("too many requests in progress");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(workspaceConfig.getTimeout());
+        } finally {
+            release.countDown();
+        }
+    }
+}
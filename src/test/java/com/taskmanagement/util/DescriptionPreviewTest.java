@@ -0,0 +1,33 @@
+package com.taskmanagement.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DescriptionPreview Tests")
+class DescriptionPreviewTest {
+
+    @Test
+    @DisplayName("Should keep short descriptions on a single trimmed line")
+    void shouldCollapseShortDescriptions() {
+        assertThat(DescriptionPreview.of(null)).isNull();
+        assertThat(DescriptionPreview.of("  Fix the\n\n  login   page \t")).isEqualTo("Fix the login page");
+    }
+
+    @Test
+    @DisplayName("Should cut long descriptions to the column length with an ellipsis")
+    void shouldTruncateLongDescriptions() {
+        String preview = DescriptionPreview.of("word ".repeat(10_000));
+
+        assertThat(preview).hasSizeLessThanOrEqualTo(DescriptionPreview.MAX_LENGTH).endsWith("word…");
+    }
+
+    @Test
+    @DisplayName("Should not split a surrogate pair at the cut")
+    void shouldNotSplitSurrogatePairs() {
+        String preview = DescriptionPreview.of("a".repeat(DescriptionPreview.MAX_LENGTH - 2) + "😀😀😀");
+
+        assertThat(preview).hasSizeLessThanOrEqualTo(DescriptionPreview.MAX_LENGTH).endsWith("a…");
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanagement.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FractionalRank Tests")
+class FractionalRankTest {
+
+    @Test
+    @DisplayName("Should generate keys strictly between their bounds")
+    void shouldGenerateKeysBetweenBounds() {
+        assertThat(FractionalRank.between(null, null)).isEqualTo("V");
+        assertThat(FractionalRank.between("V", null)).isEqualTo("V001");
+        assertThat(FractionalRank.between(null, "V")).isEqualTo("Uzzz");
+        assertThat(FractionalRank.between("V001", "V002")).isEqualTo("V001V");
+        assertThat(FractionalRank.between("0001", null)).isEqualTo("0002");
+        assertThat(FractionalRank.between(null, "0001")).isEqualTo("0000V");
+        assertThat(FractionalRank.between("a", "b")).isEqualTo("aV");
+        assertThat(FractionalRank.between("az", "b")).isEqualTo("azV");
+        assertThat(FractionalRank.between("zzzz", null)).isEqualTo("zzzzV");
+
+        assertThatThrownBy(() -> FractionalRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalRank.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep a consistent order through random inserts")
+    void shouldKeepOrderThroughRandomInserts() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position > 0 ? keys.get(position - 1) : null;
+            String upper = position < keys.size() ? keys.get(position) : null;
+            String key = FractionalRank.between(lower, upper);
+
+            assertThat(key).doesNotEndWith("0").matches("[0-9A-Za-z]+");
+            if (lower != null) {
+                assertThat(key).isGreaterThan(lower);
+            }
+            if (upper != null) {
+                assertThat(key).isLessThan(upper);
+            }
+            keys.add(position, key);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep keys short when appending and prepending")
+    void shouldKeepKeysShortAtColumnEnds() {
+        String last = null;
+        String first = null;
+        for (int i = 0; i < 10_000; i++) {
+            last = FractionalRank.between(last, null);
+            first = FractionalRank.between(null, first);
+        }
+
+        assertThat(last).hasSizeLessThanOrEqualTo(4);
+        assertThat(first).hasSizeLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should grow keys when moving into the same gap until respaced")
+    void shouldRespaceIntoShortDistinctKeys() {
+        String lower = "V";
+        String upper = "V001";
+        for (int i = 0; i < 200; i++) {
+            upper = FractionalRank.between(lower, upper);
+        }
+        assertThat(upper.length()).isGreaterThan(FractionalRank.REBALANCE_LENGTH);
+
+        List<String> spaced = FractionalRank.spaced(100_000);
+        assertThat(spaced).isSorted().doesNotHaveDuplicates()
+                .allSatisfy(key -> assertThat(key).hasSizeLessThanOrEqualTo(4).doesNotEndWith("0"));
+        assertThat(FractionalRank.spaced(1)).containsExactly("V");
+    }
+}